@@ -2,10 +2,16 @@ package com.stockmate.information;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
-@SpringBootApplication
+@EnableScheduling
+// R2DBC 커넥션 풀은 리액티브 조회를 켠 경우에만 ReactiveReadConfig 에서 생성
+// (자동 구성은 URL 이 없으면 기동에 실패하고, 트랜잭션 매니저가 JPA 와 중복됨)
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class InformationApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,62 @@
+package com.stockmate.information.api.cache.controller;
+
+import com.stockmate.information.api.order.service.UserApiService;
+import com.stockmate.information.common.config.security.Role;
+import com.stockmate.information.common.config.security.SecurityUser;
+import com.stockmate.information.common.exception.UnauthorizedException;
+import com.stockmate.information.common.response.ApiResponse;
+import com.stockmate.information.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Cache", description = "캐시 관리 관련 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/information/cache")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheController {
+
+    private final UserApiService userApiService;
+
+    @Operation(summary = "가맹점 정보 캐시 무효화 API", description = "특정 가맹점의 캐시된 사용자 정보를 무효화합니다. (관리자 전용)")
+    @DeleteMapping("/users/{memberId}")
+    public ResponseEntity<ApiResponse<Void>> invalidateUserCache(
+            @PathVariable Long memberId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("가맹점 정보 캐시 무효화 요청 - 가맹점 ID: {}, 요청자 ID: {}", memberId, securityUser.getMemberId());
+        checkAdmin(securityUser);
+
+        userApiService.invalidateUser(memberId);
+
+        return ApiResponse.success_only(SuccessStatus.INVALIDATE_USER_CACHE_SUCCESS);
+    }
+
+    @Operation(summary = "가맹점 정보 캐시 전체 무효화 API", description = "캐시된 모든 사용자 정보를 무효화합니다. (관리자 전용)")
+    @DeleteMapping("/users")
+    public ResponseEntity<ApiResponse<Void>> invalidateAllUserCache(@AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("가맹점 정보 캐시 전체 무효화 요청 - 요청자 ID: {}", securityUser.getMemberId());
+        checkAdmin(securityUser);
+
+        userApiService.invalidateAllUsers();
+
+        return ApiResponse.success_only(SuccessStatus.INVALIDATE_USER_CACHE_SUCCESS);
+    }
+
+    // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+    private void checkAdmin(SecurityUser securityUser) {
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.stockmate.information.api.order.archive;
+
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 콜드 티어 세그먼트 파일에 저장된 히스토리 (아이템은 모두 부품 스냅샷을 가짐)
+@Getter
+@Builder(toBuilder = true)
+public class ArchivedHistory {
+
+    private final Long id;
+    private final Long memberId;
+    private final Long orderId;
+    private final String orderNumber;
+    private final String approvalAttemptId;
+    private final String message;
+    private final String status;
+    private final String type;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<Item> items;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private final Long id;
+        private final Long partId;
+        private final int quantity;
+        private final PartSnapshot partSnapshot;
+    }
+}
@@ -0,0 +1,337 @@
+package com.stockmate.information.api.order.archive;
+
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 메모리 매핑으로 읽는 콜드 티어 세그먼트 파일 (형식은 {@link HistorySegmentWriter} 참고).
+ * 푸터의 가맹점 디렉터리와 주문 색인은 매핑된 영역에서 바로 읽고, 열 데이터는 필요한 행 그룹만 압축을 풉니다.
+ */
+public final class HistorySegment {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "member_id", "order_id", "order_number", "approval_attempt_id", "message", "status", "type",
+            "created_at", "updated_at", "item_count",
+            "item_id", "item_part_id", "item_quantity", "part_name", "part_price", "part_image", "part_trim", "part_model",
+            "part_category", "part_kor_name", "part_eng_name", "part_category_name", "part_amount", "part_code",
+            "part_location", "part_cost", "part_snapshot_at");
+
+    @Getter
+    private final Path path;
+    @Getter
+    private final YearMonth month;
+    @Getter
+    private final int rowCount;
+    @Getter
+    private final int itemCount;
+    @Getter
+    private final int groupCount;
+    @Getter
+    private final LocalDateTime minCreatedAt; // 행이 없으면 null
+    @Getter
+    private final LocalDateTime maxCreatedAt; // 행이 없으면 null
+
+    private final MappedByteBuffer buffer;
+    private final int groupRows;
+    private final Map<String, Integer> columnIndex;
+    private final int groupTableOffset;
+    private final int memberCount;
+    private final int memberDirectoryOffset;
+    private final int orderIndexSize;
+    private final int orderIndexOffset;
+
+    private record ColumnLocation(int offset, int compressedLength, int rawLength) {
+    }
+
+    private HistorySegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        int trailer = buffer.limit() - HistorySegmentWriter.TRAILER_BYTES;
+        if (trailer < 0 || buffer.getInt(trailer + Long.BYTES) != HistorySegmentWriter.MAGIC) {
+            throw new IOException("세그먼트 파일 형식이 아닙니다: " + path);
+        }
+        ByteBuffer footer = buffer.duplicate();
+        footer.position(Math.toIntExact(buffer.getLong(trailer)));
+        if (footer.getInt() != HistorySegmentWriter.MAGIC || footer.getShort() != HistorySegmentWriter.VERSION) {
+            throw new IOException("지원하지 않는 세그먼트 파일 버전입니다: " + path);
+        }
+
+        int yearMonth = footer.getInt();
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        this.rowCount = footer.getInt();
+        this.itemCount = footer.getInt();
+        this.groupRows = footer.getInt();
+        this.minCreatedAt = readDateTime(footer);
+        this.maxCreatedAt = readDateTime(footer);
+
+        int columnCount = footer.getInt();
+        this.columnIndex = new HashMap<>();
+        for (int i = 0; i < columnCount; i++) {
+            byte[] name = new byte[footer.getShort()];
+            footer.get(name);
+            columnIndex.put(new String(name, StandardCharsets.UTF_8), i);
+        }
+
+        this.groupCount = footer.getInt();
+        this.groupTableOffset = footer.position();
+        footer.position(groupTableOffset + groupCount * columnCount * HistorySegmentWriter.COLUMN_ENTRY_BYTES);
+
+        this.memberCount = footer.getInt();
+        this.memberDirectoryOffset = footer.position();
+        footer.position(memberDirectoryOffset + memberCount * HistorySegmentWriter.MEMBER_ENTRY_BYTES);
+
+        this.orderIndexSize = footer.getInt();
+        this.orderIndexOffset = footer.position();
+    }
+
+    public static HistorySegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return new HistorySegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 가맹점 디렉터리에서 가맹점의 행 범위를 이진 탐색합니다. (열 데이터의 압축을 풀지 않음)
+     *
+     * @return {첫 행, 행 수}, 이 세그먼트에 가맹점의 히스토리가 없으면 null
+     */
+    public int[] findMemberRows(long memberId) {
+        int low = 0;
+        int high = memberCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = memberDirectoryOffset + mid * HistorySegmentWriter.MEMBER_ENTRY_BYTES;
+            long current = buffer.getLong(entry);
+            if (current < memberId) {
+                low = mid + 1;
+            } else if (current > memberId) {
+                high = mid - 1;
+            } else {
+                return new int[]{buffer.getInt(entry + Long.BYTES), buffer.getInt(entry + Long.BYTES + Integer.BYTES)};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 가맹점 디렉터리의 가맹점 ID 를 오름차순으로 반환합니다. (열 데이터의 압축을 풀지 않음)
+     */
+    public long[] getMemberIds() {
+        long[] memberIds = new long[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            memberIds[i] = buffer.getLong(memberDirectoryOffset + i * HistorySegmentWriter.MEMBER_ENTRY_BYTES);
+        }
+        return memberIds;
+    }
+
+    /**
+     * 주문 색인에서 주문 번호 해시가 같은 행을 찾습니다. (열 데이터의 압축을 풀지 않음)
+     * 해시가 충돌한 다른 주문의 행이 섞일 수 있으므로 호출하는 쪽에서 주문 번호를 다시 비교해야 합니다.
+     *
+     * @return 후보 행 번호 (오름차순)
+     */
+    public int[] findOrderRows(String orderNumber) {
+        long first = HistorySegmentWriter.orderIndexKey(orderNumber, 0);
+        int low = 0;
+        int high = orderIndexSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orderIndexKey(mid) < first) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int[] rows = new int[8];
+        int count = 0;
+        for (int i = low; i < orderIndexSize && (orderIndexKey(i) >> 32) == (first >> 32); i++) {
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, count * 2);
+            }
+            rows[count++] = (int) orderIndexKey(i);
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    public int groupOf(int row) {
+        return row / groupRows;
+    }
+
+    public int groupStart(int group) {
+        return group * groupRows;
+    }
+
+    public int groupSize(int group) {
+        return Math.min(groupRows, rowCount - groupStart(group));
+    }
+
+    // 압축을 푼 행 그룹의 열 데이터 크기 합 (디코딩 캐시의 가중치)
+    public long getGroupDecodedSize(int group) {
+        long size = 0;
+        for (int column = 0; column < columnIndex.size(); column++) {
+            size += location(group, column).rawLength();
+        }
+        return size;
+    }
+
+    /**
+     * 행 그룹의 생성 시각 열만 압축을 풉니다. (기간 경계를 이진 탐색할 때 사용)
+     */
+    public LocalDateTime[] readCreatedAt(int group) throws IOException {
+        DataInputStream in = inflate(group, "created_at");
+        LocalDateTime[] createdAt = new LocalDateTime[groupSize(group)];
+        for (int i = 0; i < createdAt.length; i++) {
+            createdAt[i] = readDateTime(in);
+        }
+        return createdAt;
+    }
+
+    /**
+     * 행 그룹의 모든 행을 파일 순서(가맹점 ID 오름차순, 생성 시각/ID 내림차순)대로 읽습니다.
+     */
+    public List<ArchivedHistory> readGroup(int group) throws IOException {
+        Map<String, DataInputStream> in = new HashMap<>();
+        for (String name : COLUMNS) {
+            in.put(name, inflate(group, name));
+        }
+
+        int size = groupSize(group);
+        List<ArchivedHistory> rows = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            ArchivedHistory.ArchivedHistoryBuilder history = ArchivedHistory.builder()
+                    .id(in.get("id").readLong())
+                    .memberId(in.get("member_id").readLong())
+                    .orderId(readNullableLong(in.get("order_id")))
+                    .orderNumber(readString(in.get("order_number")))
+                    .approvalAttemptId(readString(in.get("approval_attempt_id")))
+                    .message(readString(in.get("message")))
+                    .status(readString(in.get("status")))
+                    .type(readString(in.get("type")))
+                    .createdAt(readDateTime(in.get("created_at")))
+                    .updatedAt(readDateTime(in.get("updated_at")));
+
+            int items = in.get("item_count").readInt();
+            List<ArchivedHistory.Item> historyItems = new ArrayList<>(items);
+            for (int i = 0; i < items; i++) {
+                historyItems.add(ArchivedHistory.Item.builder()
+                        .id(in.get("item_id").readLong())
+                        .partId(in.get("item_part_id").readLong())
+                        .quantity(in.get("item_quantity").readInt())
+                        .partSnapshot(new PartSnapshot(
+                                readString(in.get("part_name")),
+                                readNullableInt(in.get("part_price")),
+                                readString(in.get("part_image")),
+                                readString(in.get("part_trim")),
+                                readString(in.get("part_model")),
+                                readNullableInt(in.get("part_category")),
+                                readString(in.get("part_kor_name")),
+                                readString(in.get("part_eng_name")),
+                                readString(in.get("part_category_name")),
+                                readNullableInt(in.get("part_amount")),
+                                readString(in.get("part_code")),
+                                readString(in.get("part_location")),
+                                readNullableInt(in.get("part_cost")),
+                                readDateTime(in.get("part_snapshot_at"))))
+                        .build());
+            }
+            rows.add(history.items(historyItems).build());
+        }
+        return rows;
+    }
+
+    private long orderIndexKey(int index) {
+        return buffer.getLong(orderIndexOffset + index * Long.BYTES);
+    }
+
+    private ColumnLocation location(int group, int column) {
+        int entry = groupTableOffset + (group * columnIndex.size() + column) * HistorySegmentWriter.COLUMN_ENTRY_BYTES;
+        return new ColumnLocation(Math.toIntExact(buffer.getLong(entry)), buffer.getInt(entry + Long.BYTES),
+                buffer.getInt(entry + Long.BYTES + Integer.BYTES));
+    }
+
+    // 매핑된 영역의 압축된 열을 힙으로 복사하지 않고 바로 압축 해제
+    private DataInputStream inflate(int group, String name) throws IOException {
+        Integer column = columnIndex.get(name);
+        if (column == null) {
+            throw new IOException("세그먼트에 열이 없습니다: " + name + " (" + path + ")");
+        }
+        if (group < 0 || group >= groupCount) {
+            throw new IOException("세그먼트에 행 그룹이 없습니다: " + group + " (" + path + ")");
+        }
+
+        ColumnLocation location = location(group, column);
+        ByteBuffer compressed = buffer.slice(location.offset(), location.compressedLength());
+        byte[] raw = new byte[location.rawLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+            if (read != raw.length) {
+                throw new IOException("세그먼트 열 크기가 일치하지 않습니다: " + name + " (" + path + ")");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("세그먼트 열 압축 해제 실패: " + name + " (" + path + ")", e);
+        } finally {
+            inflater.end();
+        }
+        return new DataInputStream(new ByteArrayInputStream(raw));
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        long epochSecond = in.getLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.getInt(), ZoneOffset.UTC);
+    }
+}
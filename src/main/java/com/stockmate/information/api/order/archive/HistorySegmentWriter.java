@@ -0,0 +1,381 @@
+package com.stockmate.information.api.order.archive;
+
+import com.stockmate.information.api.order.entity.PartSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 한 달치 히스토리를 행 그룹(row group)별로 열(column) 단위 압축한 세그먼트 파일로 씁니다.
+ * 행을 정렬 순서대로 하나씩 추가하면 행 그룹이 찰 때마다 압축하여 파일에 쓰므로, 한 달치 전체를 메모리에 올리지 않습니다.
+ *
+ * <pre>
+ * 행 그룹 0 의 열 데이터 (Deflate, 열마다 따로 압축), 행 그룹 1 의 열 데이터, ...
+ * 푸터 (압축하지 않음)
+ *   int    MAGIC, short VERSION, int 연월(yyyyMM), int 히스토리 수, int 아이템 수, int 행 그룹 크기
+ *   시각   가장 오래된 생성 시각, 가장 최근 생성 시각
+ *   int    열 수, (short 이름 길이, 이름) x 열 수
+ *   int    행 그룹 수, ((long 위치, int 압축 크기, int 원본 크기) x 열 수) x 행 그룹 수
+ *   int    가맹점 수, (long 가맹점 ID, int 첫 행, int 행 수) x 가맹점 수        -- 가맹점 ID 순 (이진 탐색용)
+ *   int    주문 색인 수, long (주문 번호 해시 << 32 | 행) x 주문 색인 수        -- 정렬됨 (이진 탐색용)
+ * long   푸터 위치, int MAGIC
+ * </pre>
+ *
+ * 행은 가맹점 ID 오름차순, 같은 가맹점 안에서는 목록 조회와 같은 생성 시각/ID 내림차순으로 정렬되어
+ * 가맹점별 조회는 연속된 행 범위가 걸친 행 그룹만 읽고, 주문별 조회는 주문 색인의 행이 속한 행 그룹만 읽습니다.
+ */
+public final class HistorySegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x52485347; // "RHSG"
+    static final short VERSION = 2;
+    static final int MEMBER_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    static final int COLUMN_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int DEFAULT_GROUP_ROWS = 1024;
+
+    static final Comparator<ArchivedHistory> ROW_ORDER = Comparator.comparing(ArchivedHistory::getMemberId)
+            .thenComparing(ArchivedHistory::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ArchivedHistory::getId, Comparator.reverseOrder());
+
+    private final Path target;
+    private final Path temp;
+    private final YearMonth month;
+    private final int groupRows;
+    private final FileChannel channel;
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private final DataOutputStream groupTable;
+    private final ByteArrayOutputStream groupTableBytes = new ByteArrayOutputStream();
+    private final DataOutputStream memberDirectory;
+    private final ByteArrayOutputStream memberDirectoryBytes = new ByteArrayOutputStream();
+    private long[] orderIndex = new long[DEFAULT_GROUP_ROWS];
+    private int orderIndexSize;
+
+    private long position;
+    private int rowCount;
+    private int itemCount;
+    private int groupCount;
+    private int groupRowCount;
+    private int memberCount;
+    private int memberFirstRow;
+    private ArchivedHistory previous;
+    private LocalDateTime minCreatedAt;
+    private LocalDateTime maxCreatedAt;
+    private boolean finished;
+
+    private HistorySegmentWriter(Path target, YearMonth month, int groupRows) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.month = month;
+        this.groupRows = groupRows;
+        this.groupTable = new DataOutputStream(groupTableBytes);
+        this.memberDirectory = new DataOutputStream(memberDirectoryBytes);
+        for (String name : HistorySegment.COLUMNS) {
+            columns.put(name, new Column());
+        }
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 세그먼트 파일 쓰기를 시작합니다. 임시 파일에 쓰고 {@link #finish()} 에서 이름을 바꾸므로 읽는 쪽은 완성된 파일만 봅니다.
+     */
+    public static HistorySegmentWriter create(Path target, YearMonth month) throws IOException {
+        return create(target, month, DEFAULT_GROUP_ROWS);
+    }
+
+    static HistorySegmentWriter create(Path target, YearMonth month, int groupRows) throws IOException {
+        if (groupRows <= 0) {
+            throw new IllegalArgumentException("행 그룹 크기는 1 이상이어야 합니다: " + groupRows);
+        }
+        return new HistorySegmentWriter(target, month, groupRows);
+    }
+
+    /**
+     * 히스토리 한 건을 추가합니다. 가맹점 ID 오름차순, 같은 가맹점 안에서는 생성 시각/ID 내림차순으로 추가해야 합니다.
+     */
+    public void append(ArchivedHistory history) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("이미 완료된 세그먼트입니다: " + target);
+        }
+        if (previous != null && ROW_ORDER.compare(previous, history) >= 0) {
+            throw new IllegalArgumentException("세그먼트 행 순서가 올바르지 않습니다 - 히스토리 ID: " + history.getId());
+        }
+
+        if (previous != null && !previous.getMemberId().equals(history.getMemberId())) {
+            closeMemberEntry();
+        }
+        writeRow(history);
+        if (history.getOrderNumber() != null) {
+            if (orderIndexSize == orderIndex.length) {
+                orderIndex = Arrays.copyOf(orderIndex, orderIndexSize * 2);
+            }
+            orderIndex[orderIndexSize++] = orderIndexKey(history.getOrderNumber(), rowCount);
+        }
+        if (minCreatedAt == null || history.getCreatedAt().isBefore(minCreatedAt)) {
+            minCreatedAt = history.getCreatedAt();
+        }
+        if (maxCreatedAt == null || history.getCreatedAt().isAfter(maxCreatedAt)) {
+            maxCreatedAt = history.getCreatedAt();
+        }
+
+        rowCount++;
+        itemCount += history.getItems().size();
+        previous = history;
+        if (++groupRowCount == groupRows) {
+            flushGroup();
+        }
+    }
+
+    /**
+     * 남은 행 그룹과 푸터를 쓰고 디스크에 반영한 뒤 세그먼트 파일 이름으로 바꿉니다.
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (groupRowCount > 0) {
+            flushGroup();
+        }
+        if (previous != null) {
+            closeMemberEntry();
+        }
+
+        long footerOffset = position;
+        writeFully(buildFooter());
+        writeFully(ByteBuffer.allocate(TRAILER_BYTES).putLong(footerOffset).putInt(MAGIC).array());
+        channel.force(true);
+        channel.close();
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        finished = true;
+    }
+
+    // 완료하지 않고 닫으면 임시 파일을 지움
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        channel.close();
+        Files.deleteIfExists(temp);
+    }
+
+    static long orderIndexKey(String orderNumber, int row) {
+        return ((long) orderNumber.hashCode() << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private void writeRow(ArchivedHistory row) {
+        columns.get("id").writeLong(row.getId());
+        columns.get("member_id").writeLong(row.getMemberId());
+        columns.get("order_id").writeNullableLong(row.getOrderId());
+        columns.get("order_number").writeString(row.getOrderNumber());
+        columns.get("approval_attempt_id").writeString(row.getApprovalAttemptId());
+        columns.get("message").writeString(row.getMessage());
+        columns.get("status").writeString(row.getStatus());
+        columns.get("type").writeString(row.getType());
+        columns.get("created_at").writeDateTime(row.getCreatedAt());
+        columns.get("updated_at").writeDateTime(row.getUpdatedAt());
+        columns.get("item_count").writeInt(row.getItems().size());
+
+        for (ArchivedHistory.Item item : row.getItems()) {
+            PartSnapshot snapshot = item.getPartSnapshot();
+            columns.get("item_id").writeLong(item.getId());
+            columns.get("item_part_id").writeLong(item.getPartId());
+            columns.get("item_quantity").writeInt(item.getQuantity());
+            columns.get("part_name").writeString(snapshot.getName());
+            columns.get("part_price").writeNullableInt(snapshot.getPrice());
+            columns.get("part_image").writeString(snapshot.getImage());
+            columns.get("part_trim").writeString(snapshot.getTrim());
+            columns.get("part_model").writeString(snapshot.getModel());
+            columns.get("part_category").writeNullableInt(snapshot.getCategory());
+            columns.get("part_kor_name").writeString(snapshot.getKorName());
+            columns.get("part_eng_name").writeString(snapshot.getEngName());
+            columns.get("part_category_name").writeString(snapshot.getCategoryName());
+            columns.get("part_amount").writeNullableInt(snapshot.getAmount());
+            columns.get("part_code").writeString(snapshot.getCode());
+            columns.get("part_location").writeString(snapshot.getLocation());
+            columns.get("part_cost").writeNullableInt(snapshot.getCost());
+            columns.get("part_snapshot_at").writeDateTime(snapshot.getCapturedAt());
+        }
+    }
+
+    // 현재 행 그룹의 열을 하나씩 압축하여 파일에 쓰고 위치를 행 그룹 표에 기록
+    private void flushGroup() throws IOException {
+        for (Column column : columns.values()) {
+            byte[] compressed = column.compress();
+            writeFully(compressed);
+            groupTable.writeLong(position);
+            groupTable.writeInt(compressed.length);
+            groupTable.writeInt(column.size());
+            position += compressed.length;
+            column.reset();
+        }
+        groupCount++;
+        groupRowCount = 0;
+    }
+
+    // 직전 가맹점의 연속 행 범위를 가맹점 디렉터리에 기록
+    private void closeMemberEntry() throws IOException {
+        memberDirectory.writeLong(previous.getMemberId());
+        memberDirectory.writeInt(memberFirstRow);
+        memberDirectory.writeInt(rowCount - memberFirstRow);
+        memberCount++;
+        memberFirstRow = rowCount;
+    }
+
+    private byte[] buildFooter() throws IOException {
+        Arrays.sort(orderIndex, 0, orderIndexSize);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(month.getYear() * 100 + month.getMonthValue());
+        out.writeInt(rowCount);
+        out.writeInt(itemCount);
+        out.writeInt(groupRows);
+        writeDateTime(out, minCreatedAt);
+        writeDateTime(out, maxCreatedAt);
+
+        out.writeInt(columns.size());
+        for (String name : columns.keySet()) {
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(encoded.length);
+            out.write(encoded);
+        }
+
+        out.writeInt(groupCount);
+        groupTable.flush();
+        groupTableBytes.writeTo(out);
+
+        out.writeInt(memberCount);
+        memberDirectory.flush();
+        memberDirectoryBytes.writeTo(out);
+
+        out.writeInt(orderIndexSize);
+        for (int i = 0; i < orderIndexSize; i++) {
+            out.writeLong(orderIndex[i]);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void writeFully(byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    // 한 열의 값을 순서대로 기록하는 버퍼 (null 을 허용하는 값은 1바이트 표시 후 값 기록)
+    private static final class Column {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        void writeLong(long value) {
+            run(() -> out.writeLong(value));
+        }
+
+        void writeInt(int value) {
+            run(() -> out.writeInt(value));
+        }
+
+        void writeNullableLong(Long value) {
+            run(() -> {
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeLong(value);
+                }
+            });
+        }
+
+        void writeNullableInt(Integer value) {
+            run(() -> {
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeInt(value);
+                }
+            });
+        }
+
+        void writeString(String value) {
+            run(() -> {
+                if (value == null) {
+                    out.writeInt(-1);
+                    return;
+                }
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            });
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            run(() -> HistorySegmentWriter.writeDateTime(out, value));
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void reset() {
+            bytes.reset();
+        }
+
+        byte[] compress() {
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try {
+                deflater.setInput(bytes.toByteArray());
+                deflater.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    compressed.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return compressed.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private void run(IoAction action) {
+            try {
+                action.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // 메모리 버퍼이므로 발생하지 않음
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
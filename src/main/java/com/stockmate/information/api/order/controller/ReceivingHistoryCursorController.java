@@ -0,0 +1,102 @@
+package com.stockmate.information.api.order.controller;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import com.stockmate.information.common.config.security.Role;
+import com.stockmate.information.common.config.security.SecurityUser;
+import com.stockmate.information.common.exception.UnauthorizedException;
+import com.stockmate.information.common.response.ApiResponse;
+import com.stockmate.information.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 리액티브 조회로 전환할 수 있는 커서 조회 API 의 동기 버전입니다.
+ * 리액티브 조회(history.reactive.enabled)가 꺼져 있으면 이 컨트롤러가 요청 스레드에서 바로 응답하며,
+ * 켜져 있으면 같은 경로를 {@link ReceivingHistoryReactiveCursorController} 가 처리합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/information/order-history")
+@ConditionalOnProperty(name = "history.reactive.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryCursorController {
+
+    private final ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    @Operation(summary = "가맹점별 입출고 히스토리 커서 조회 API", description = "토큰 인증된 가맹점의 입출고 히스토리를 커서 기반으로 조회합니다. (가맹점 전용)")
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>> getMyReceivingHistoryWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("가맹점별 입출고 히스토리 커서 조회 요청 - 가맹점 ID: {}, Size: {}", securityUser.getMemberId(), size);
+
+        ReceivingHistoryCursorResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByMemberIdWithCursor(
+                securityUser.getMemberId(), cursor, size, from, to);
+
+        log.info("가맹점별 입출고 히스토리 커서 조회 완료 - 가맹점 ID: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                securityUser.getMemberId(), response.getContent().size(), response.isHasNext());
+
+        return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
+    }
+
+    @Operation(summary = "관리자용 특정 가맹점 입출고 히스토리 커서 조회 API", description = "특정 가맹점의 입출고 히스토리를 커서 기반으로 조회합니다. (관리자 전용)")
+    @GetMapping("/admin/member/{memberId}/cursor")
+    public ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>> getReceivingHistoryByMemberIdForAdminWithCursor(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("관리자용 특정 가맹점 입출고 히스토리 커서 조회 요청 - 가맹점 ID: {}, 요청자 ID: {}, Role: {}, Size: {}",
+                memberId, securityUser.getMemberId(), securityUser.getRole(), size);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN && securityUser.getRole() != Role.WAREHOUSE) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+
+        ReceivingHistoryCursorResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByMemberIdForAdminWithCursor(
+                memberId, cursor, size, from, to);
+
+        log.info("관리자용 특정 가맹점 입출고 히스토리 커서 조회 완료 - 가맹점 ID: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                memberId, response.getContent().size(), response.isHasNext());
+
+        return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
+    }
+
+    @Operation(summary = "주문별 입출고 히스토리 커서 조회 API", description = "특정 주문의 입출고 히스토리를 커서 기반으로 조회합니다.")
+    @GetMapping("/order/{orderNumber}/cursor")
+    public ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>> getReceivingHistoryByOrderNumberWithCursor(
+            @PathVariable String orderNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("주문별 입출고 히스토리 커서 조회 요청 - Order Number: {}, Size: {}", orderNumber, size);
+
+        ReceivingHistoryCursorResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByOrderNumberWithCursor(
+                orderNumber, cursor, size, from, to);
+
+        log.info("주문별 입출고 히스토리 커서 조회 완료 - Order Number: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                orderNumber, response.getContent().size(), response.isHasNext());
+
+        return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
+    }
+}
@@ -0,0 +1,115 @@
+package com.stockmate.information.api.order.controller;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.service.ReceivingHistoryReactiveReadService;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import com.stockmate.information.common.config.security.Role;
+import com.stockmate.information.common.config.security.SecurityUser;
+import com.stockmate.information.common.exception.UnauthorizedException;
+import com.stockmate.information.common.response.ApiResponse;
+import com.stockmate.information.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * 커서 조회 API 의 리액티브 버전입니다. history.reactive.enabled 가 켜져 있을 때만 등록되며,
+ * history.reactive.endpoints 에 포함된 엔드포인트는 논블로킹으로, 나머지는 기존 조회 결과를 감싸서 응답합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/information/order-history")
+@ConditionalOnProperty(name = "history.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryReactiveCursorController {
+
+    private final ReceivingOrderHistoryService receivingOrderHistoryService;
+    private final ReceivingHistoryReactiveReadService receivingHistoryReactiveReadService;
+
+    @Operation(summary = "가맹점별 입출고 히스토리 커서 조회 API", description = "토큰 인증된 가맹점의 입출고 히스토리를 커서 기반으로 조회합니다. (가맹점 전용)")
+    @GetMapping("/my/cursor")
+    public Mono<ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>>> getMyReceivingHistoryWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("가맹점별 입출고 히스토리 커서 조회 요청 - 가맹점 ID: {}, Size: {}", securityUser.getMemberId(), size);
+
+        // history.reactive.endpoints 에 포함된 경우 논블로킹 조회, 아니면 기존 조회 결과를 그대로 감싸서 응답
+        Mono<ReceivingHistoryCursorResponseDTO> response = receivingHistoryReactiveReadService.isEnabled(ReceivingHistoryReactiveReadService.MY_CURSOR)
+                ? receivingHistoryReactiveReadService.getReceivingHistoryByMemberIdWithCursor(
+                        securityUser.getMemberId(), cursor, size, from, to, false)
+                : Mono.just(receivingOrderHistoryService.getReceivingHistoryByMemberIdWithCursor(
+                        securityUser.getMemberId(), cursor, size, from, to));
+
+        return response.map(result -> {
+            log.info("가맹점별 입출고 히스토리 커서 조회 완료 - 가맹점 ID: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                    securityUser.getMemberId(), result.getContent().size(), result.isHasNext());
+            return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, result);
+        });
+    }
+
+    @Operation(summary = "관리자용 특정 가맹점 입출고 히스토리 커서 조회 API", description = "특정 가맹점의 입출고 히스토리를 커서 기반으로 조회합니다. (관리자 전용)")
+    @GetMapping("/admin/member/{memberId}/cursor")
+    public Mono<ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>>> getReceivingHistoryByMemberIdForAdminWithCursor(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("관리자용 특정 가맹점 입출고 히스토리 커서 조회 요청 - 가맹점 ID: {}, 요청자 ID: {}, Role: {}, Size: {}",
+                memberId, securityUser.getMemberId(), securityUser.getRole(), size);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN && securityUser.getRole() != Role.WAREHOUSE) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+
+        Mono<ReceivingHistoryCursorResponseDTO> response = receivingHistoryReactiveReadService.isEnabled(ReceivingHistoryReactiveReadService.ADMIN_MEMBER_CURSOR)
+                ? receivingHistoryReactiveReadService.getReceivingHistoryByMemberIdWithCursor(memberId, cursor, size, from, to, true)
+                : Mono.just(receivingOrderHistoryService.getReceivingHistoryByMemberIdForAdminWithCursor(
+                        memberId, cursor, size, from, to));
+
+        return response.map(result -> {
+            log.info("관리자용 특정 가맹점 입출고 히스토리 커서 조회 완료 - 가맹점 ID: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                    memberId, result.getContent().size(), result.isHasNext());
+            return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, result);
+        });
+    }
+
+    @Operation(summary = "주문별 입출고 히스토리 커서 조회 API", description = "특정 주문의 입출고 히스토리를 커서 기반으로 조회합니다.")
+    @GetMapping("/order/{orderNumber}/cursor")
+    public Mono<ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>>> getReceivingHistoryByOrderNumberWithCursor(
+            @PathVariable String orderNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("주문별 입출고 히스토리 커서 조회 요청 - Order Number: {}, Size: {}", orderNumber, size);
+
+        Mono<ReceivingHistoryCursorResponseDTO> response = receivingHistoryReactiveReadService.isEnabled(ReceivingHistoryReactiveReadService.ORDER_CURSOR)
+                ? receivingHistoryReactiveReadService.getReceivingHistoryByOrderNumberWithCursor(orderNumber, cursor, size, from, to)
+                : Mono.just(receivingOrderHistoryService.getReceivingHistoryByOrderNumberWithCursor(
+                        orderNumber, cursor, size, from, to));
+
+        return response.map(result -> {
+            log.info("주문별 입출고 히스토리 커서 조회 완료 - Order Number: {}, 조회 수: {}, 다음 페이지 여부: {}",
+                    orderNumber, result.getContent().size(), result.isHasNext());
+            return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, result);
+        });
+    }
+}
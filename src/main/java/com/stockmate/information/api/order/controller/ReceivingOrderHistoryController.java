@@ -1,20 +1,35 @@
 package com.stockmate.information.api.order.controller;
 
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryExportFormat;
 import com.stockmate.information.api.order.dto.ReceivingHistoryListResponseDTO;
 import com.stockmate.information.api.order.dto.ReceivingHistoryRequestDTO;
 import com.stockmate.information.api.order.dto.ReceivingHistoryResponseDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryRollupDTO;
 import com.stockmate.information.common.config.security.Role;
 import com.stockmate.information.common.config.security.SecurityUser;
+import com.stockmate.information.common.exception.BadRequestException;
 import com.stockmate.information.common.exception.UnauthorizedException;
 import com.stockmate.information.common.response.ApiResponse;
 import com.stockmate.information.common.response.SuccessStatus;
+import com.stockmate.information.api.order.service.ReceivingHistoryExportService;
+import com.stockmate.information.api.order.service.ReceivingHistoryRollupService;
 import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/information/order-history")
@@ -23,13 +38,22 @@ import org.springframework.web.bind.annotation.*;
 public class ReceivingOrderHistoryController {
 
     private final ReceivingOrderHistoryService receivingOrderHistoryService;
+    private final ReceivingHistoryExportService receivingHistoryExportService;
+    private final ReceivingHistoryRollupService receivingHistoryRollupService;
 
     @Operation(summary = "입출고 히스토리 등록 API", description = "입출고 히스토리를 등록합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<ReceivingHistoryResponseDTO>> registerReceivingHistory(@RequestBody ReceivingHistoryRequestDTO requestDTO) {
         log.info("입출고 히스토리 등록 요청 - 가맹점 ID: {}, 주문 번호: {}", requestDTO.getMemberId(), requestDTO.getOrderNumber());
 
-        ReceivingHistoryResponseDTO response = receivingOrderHistoryService.registerReceivingHistory(requestDTO);
+        ReceivingHistoryResponseDTO response;
+        try {
+            response = receivingOrderHistoryService.registerReceivingHistory(requestDTO);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 승인 시도 ID 가 동시에 등록된 경우 먼저 커밋된 등록 결과로 응답
+            log.info("승인 시도 ID 동시 등록 감지, 기존 등록 결과 조회 - Approval Attempt ID: {}", requestDTO.getApprovalAttemptId());
+            response = receivingOrderHistoryService.registerReceivingHistory(requestDTO);
+        }
         log.info("입출고 히스토리 등록 완료 - 가맹점 ID: {}, 주문 번호: {}", requestDTO.getMemberId(), requestDTO.getOrderNumber());
 
         return ApiResponse.success(SuccessStatus.REGISTER_RECEIVING_HISTORY_SUCCESS, response);
@@ -40,18 +64,28 @@ public class ReceivingOrderHistoryController {
     public ResponseEntity<ApiResponse<ReceivingHistoryListResponseDTO>> getMyReceivingHistory(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal SecurityUser securityUser) {
         
         log.info("가맹점별 입출고 히스토리 조회 요청 - 가맹점 ID: {}, Page: {}, Size: {}", 
                 securityUser.getMemberId(), page, size);
 
+        // 변경이 없으면 목록 조회 없이 304 응답
+        String eTag = receivingOrderHistoryService.getReceivingHistoryETagByMemberId(securityUser.getMemberId(), page, size, from, to);
+        if (eTag != null && matchesETag(ifNoneMatch, eTag)) {
+            log.info("가맹점별 입출고 히스토리 변경 없음 - 가맹점 ID: {}", securityUser.getMemberId());
+            return ApiResponse.not_modified(eTag);
+        }
+
         ReceivingHistoryListResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByMemberId(
-                securityUser.getMemberId(), page, size);
+                securityUser.getMemberId(), page, size, from, to);
         
         log.info("가맹점별 입출고 히스토리 조회 완료 - 가맹점 ID: {}, 총 데이터 수: {}", 
                 securityUser.getMemberId(), response.getTotalElements());
 
-        return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
+        return successWithETag(response, eTag);
     }
 
     @Operation(summary = "관리자용 전체 입출고 히스토리 조회 API", description = "모든 가맹점의 입출고 히스토리를 조회합니다. (관리자 전용)")
@@ -59,6 +93,8 @@ public class ReceivingOrderHistoryController {
     public ResponseEntity<ApiResponse<ReceivingHistoryListResponseDTO>> getAllReceivingHistoryForAdmin(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @AuthenticationPrincipal SecurityUser securityUser) {
         
         log.info("관리자용 전체 입출고 히스토리 조회 요청 - 요청자 ID: {}, Role: {}, Page: {}, Size: {}", 
@@ -70,7 +106,7 @@ public class ReceivingOrderHistoryController {
             throw new UnauthorizedException("관리자 권한이 필요합니다.");
         }
 
-        ReceivingHistoryListResponseDTO response = receivingOrderHistoryService.getAllReceivingHistory(page, size);
+        ReceivingHistoryListResponseDTO response = receivingOrderHistoryService.getAllReceivingHistory(page, size, from, to);
         
         log.info("관리자용 전체 입출고 히스토리 조회 완료 - 총 데이터 수: {}", response.getTotalElements());
 
@@ -83,6 +119,8 @@ public class ReceivingOrderHistoryController {
             @PathVariable Long memberId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             @AuthenticationPrincipal SecurityUser securityUser) {
         
         log.info("관리자용 특정 가맹점 입출고 히스토리 조회 요청 - 가맹점 ID: {}, 요청자 ID: {}, Role: {}, Page: {}, Size: {}", 
@@ -95,7 +133,7 @@ public class ReceivingOrderHistoryController {
         }
 
         ReceivingHistoryListResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByMemberIdForAdmin(
-                memberId, page, size);
+                memberId, page, size, from, to);
         
         log.info("관리자용 특정 가맹점 입출고 히스토리 조회 완료 - 가맹점 ID: {}, 총 데이터 수: {}", 
                 memberId, response.getTotalElements());
@@ -108,16 +146,162 @@ public class ReceivingOrderHistoryController {
     public ResponseEntity<ApiResponse<ReceivingHistoryListResponseDTO>> getReceivingHistoryByOrderNumber(
             @PathVariable String orderNumber,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         log.info("주문별 입출고 히스토리 조회 요청 - Order Number: {}, Page: {}, Size: {}", orderNumber, page, size);
 
+        // 변경이 없으면 목록 조회 없이 304 응답
+        String eTag = receivingOrderHistoryService.getReceivingHistoryETagByOrderNumber(orderNumber, page, size, from, to);
+        if (eTag != null && matchesETag(ifNoneMatch, eTag)) {
+            log.info("주문별 입출고 히스토리 변경 없음 - Order Number: {}", orderNumber);
+            return ApiResponse.not_modified(eTag);
+        }
+
         ReceivingHistoryListResponseDTO response = receivingOrderHistoryService.getReceivingHistoryByOrderNumber(
-                orderNumber, page, size);
+                orderNumber, page, size, from, to);
         
         log.info("주문별 입출고 히스토리 조회 완료 - Order Number: {}, 총 데이터 수: {}", 
                 orderNumber, response.getTotalElements());
 
+        return successWithETag(response, eTag);
+    }
+
+    @Operation(summary = "관리자용 전체 입출고 히스토리 커서 조회 API", description = "모든 가맹점의 입출고 히스토리를 커서 기반으로 조회합니다. (관리자 전용)")
+    @GetMapping("/admin/all/cursor")
+    public ResponseEntity<ApiResponse<ReceivingHistoryCursorResponseDTO>> getAllReceivingHistoryForAdminWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("관리자용 전체 입출고 히스토리 커서 조회 요청 - 요청자 ID: {}, Role: {}, Size: {}",
+                securityUser.getMemberId(), securityUser.getRole(), size);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN && securityUser.getRole() != Role.WAREHOUSE) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+
+        ReceivingHistoryCursorResponseDTO response = receivingOrderHistoryService.getAllReceivingHistoryWithCursor(cursor, size, from, to);
+
+        log.info("관리자용 전체 입출고 히스토리 커서 조회 완료 - 조회 수: {}, 다음 페이지 여부: {}",
+                response.getContent().size(), response.isHasNext());
+
         return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
     }
+
+    @Operation(summary = "관리자용 입출고 히스토리 내보내기 API",
+            description = "가맹점 또는 기간 조건의 입출고 히스토리를 NDJSON/CSV 로 스트리밍합니다. (관리자 전용, 기간은 yyyy-MM-dd, 종료일 포함)")
+    @GetMapping("/admin/export")
+    public WebAsyncTask<Void> exportReceivingHistory(
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal SecurityUser securityUser,
+            HttpServletResponse response) {
+
+        log.info("입출고 히스토리 내보내기 요청 - 요청자 ID: {}, Role: {}, 가맹점 ID: {}, 기간: {} ~ {}, 형식: {}",
+                securityUser.getMemberId(), securityUser.getRole(), memberId, from, to, format);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN && securityUser.getRole() != Role.WAREHOUSE) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        ReceivingHistoryExportFormat exportFormat = ReceivingHistoryExportFormat.from(format);
+        String fileName = "receiving-history" + (memberId != null ? "-" + memberId : "") + "." + exportFormat.getExtension();
+
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        // 응답 쓰기는 MVC 비동기 스레드에서 수행하고, 긴 처리 시간은 이 요청에만 적용
+        return new WebAsyncTask<>(receivingHistoryExportService.getTimeout().toMillis(), () -> {
+            receivingHistoryExportService.export(memberId, from, to, exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+
+    @Operation(summary = "관리자용 입출고 일별 집계 조회 API",
+            description = "가맹점/부품별 일자·타입(입고/출고) 수량 합계를 조회합니다. 가맹점 ID 또는 부품 ID가 필요하며 기간은 최대 366일입니다. (관리자 전용)")
+    @GetMapping("/admin/rollups")
+    public ResponseEntity<ApiResponse<List<ReceivingHistoryRollupDTO>>> getReceivingHistoryRollups(
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) Long partId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String type,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("입출고 일별 집계 조회 요청 - 요청자 ID: {}, Role: {}, 가맹점 ID: {}, 부품 ID: {}, 기간: {} ~ {}, 타입: {}",
+                securityUser.getMemberId(), securityUser.getRole(), memberId, partId, from, to, type);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN && securityUser.getRole() != Role.WAREHOUSE) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+
+        List<ReceivingHistoryRollupDTO> response = receivingHistoryRollupService.getRollups(memberId, partId, from, to, type);
+
+        log.info("입출고 일별 집계 조회 완료 - 집계 행 수: {}", response.size());
+
+        return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_ROLLUP_SUCCESS, response);
+    }
+
+    @Operation(summary = "입출고 일별 집계 재계산 API", description = "기간 내 일별 집계를 원본 히스토리로 다시 계산합니다. (관리자 전용)")
+    @PostMapping("/admin/rollups/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildReceivingHistoryRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("입출고 일별 집계 재계산 요청 - 요청자 ID: {}, Role: {}, 기간: {} ~ {}",
+                securityUser.getMemberId(), securityUser.getRole(), from, to);
+
+        // 권한 체크 (ADMIN 또는 SUPER_ADMIN만 가능)
+        if (securityUser.getRole() != Role.ADMIN && securityUser.getRole() != Role.SUPER_ADMIN) {
+            log.error("권한 부족 - 요청자 ID: {}, Role: {}", securityUser.getMemberId(), securityUser.getRole());
+            throw new UnauthorizedException("관리자 권한이 필요합니다.");
+        }
+
+        int rebuilt = receivingHistoryRollupService.rebuild(from, to);
+
+        return ApiResponse.success(SuccessStatus.REBUILD_RECEIVING_HISTORY_ROLLUP_SUCCESS, rebuilt);
+    }
+
+    // 외부 서버 장애로 일부 정보가 빠진 응답과 ETag 를 만들 수 없는 응답(스냅샷 백필 전 아이템 포함)은 재검증 대상이 되지 않도록 ETag 를 붙이지 않음
+    private ResponseEntity<ApiResponse<ReceivingHistoryListResponseDTO>> successWithETag(
+            ReceivingHistoryListResponseDTO response, String eTag) {
+        if (eTag == null || response.isPartial()) {
+            return ApiResponse.success(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response);
+        }
+        return ApiResponse.success_with_etag(SuccessStatus.GET_RECEIVING_HISTORY_SUCCESS, response, eTag);
+    }
+
+    // If-None-Match 헤더에 현재 ETag 가 포함되어 있는지 확인 (약한 비교)
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
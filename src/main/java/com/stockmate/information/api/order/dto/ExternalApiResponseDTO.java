@@ -0,0 +1,18 @@
+package com.stockmate.information.api.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 외부 서버(Parts, User) 공통 응답 형식
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ExternalApiResponseDTO<T> {
+    private int status;
+    private boolean success;
+    private String message;
+    private T data;
+}
@@ -0,0 +1,23 @@
+package com.stockmate.information.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 서버 일괄 조회 결과.
+ * 서킷 브레이커/벌크헤드에 의해 호출이 거부되었거나 요청이 실패하여
+ * 일부 ID 를 조회하지 못한 경우 partial 이 true 입니다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class LookupResultDTO<K, V> {
+    private Map<K, V> values;
+    private boolean partial;
+
+    public static <K, V> LookupResultDTO<K, V> empty() {
+        return of(new HashMap<>(), false);
+    }
+}
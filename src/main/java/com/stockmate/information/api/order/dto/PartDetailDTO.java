@@ -0,0 +1,29 @@
+package com.stockmate.information.api.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PartDetailDTO {
+    private Long id;
+    private String name;
+    private int price;
+    private String image;
+    private String trim;
+    private String model;
+    private int category;
+    private String korName;
+    private String engName;
+    private String categoryName;
+    private int amount;
+    private String code;
+    private String location;
+    private int cost;
+}
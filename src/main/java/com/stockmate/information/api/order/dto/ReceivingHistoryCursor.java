@@ -0,0 +1,48 @@
+package com.stockmate.information.api.order.dto;
+
+import com.stockmate.information.common.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션의 마지막 조회 위치 (createdAt, id)
+// 클라이언트에는 내부 구조를 노출하지 않도록 Base64 URL 인코딩된 문자열로 전달
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ReceivingHistoryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지인 경우 null 또는 빈 문자열)
+     * @return 해석된 커서, 첫 페이지인 경우 null
+     */
+    public static ReceivingHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new ReceivingHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.stockmate.information.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReceivingHistoryCursorResponseDTO {
+    private int pageSize;            // 페이지 크기
+    private boolean hasNext;         // 다음 페이지 존재 여부
+    private String nextCursor;       // 다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+    private boolean partial;         // 외부 서버 장애로 부품/가맹점 정보가 일부 누락된 경우 true
+    private List<ReceivingHistoryDetailDTO> content; // 히스토리 목록 (부품 상세 포함)
+}
@@ -0,0 +1,48 @@
+package com.stockmate.information.api.order.dto;
+
+import com.stockmate.information.common.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 히스토리 조회 기간 [from, to) - 히스토리 테이블은 created_at 기준 월별 파티션이므로
+// 기간을 지정하면 DB 가 해당 월의 파티션만 조회함 (지정하지 않으면 전체 기간)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReceivingHistoryDateRange {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private final LocalDateTime from; // 포함
+    private final LocalDateTime to; // 미포함
+    private final boolean bounded; // 시작일 또는 종료일이 지정되었는지 여부
+
+    /**
+     * 요청 파라미터로 조회 기간을 만듭니다.
+     *
+     * @param from 조회 시작일 (포함, null 이면 처음부터)
+     * @param to   조회 종료일 (포함, null 이면 끝까지)
+     */
+    public static ReceivingHistoryDateRange of(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        return new ReceivingHistoryDateRange(
+                from != null ? from.atStartOfDay() : MIN_CREATED_AT,
+                to != null ? to.plusDays(1).atStartOfDay() : MAX_CREATED_AT,
+                from != null || to != null);
+    }
+
+    public static ReceivingHistoryDateRange all() {
+        return of(null, null);
+    }
+
+    // ETag 등 캐시 키에 포함할 문자열
+    public String toKey() {
+        return bounded ? from + "~" + to : "all";
+    }
+}
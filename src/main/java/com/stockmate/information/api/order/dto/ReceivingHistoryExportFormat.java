@@ -0,0 +1,24 @@
+package com.stockmate.information.api.order.dto;
+
+import com.stockmate.information.common.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReceivingHistoryExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ReceivingHistoryExportFormat from(String value) {
+        for (ReceivingHistoryExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+    }
+}
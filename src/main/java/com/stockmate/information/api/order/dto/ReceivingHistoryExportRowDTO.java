@@ -0,0 +1,70 @@
+package com.stockmate.information.api.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히스토리 내보내기 한 행 (히스토리 아이템 단위, 아이템이 없는 히스토리는 부품 정보 없이 한 행)
+ * 영속성 컨텍스트에 쌓이지 않도록 엔티티 대신 JPQL 생성자 표현식으로 바로 조회합니다.
+ */
+@Getter
+public class ReceivingHistoryExportRowDTO {
+    private final Long historyId;
+    private final Long memberId;
+    private final Long orderId;
+    private final String orderNumber;
+    private final String type;
+    private final String status;
+    private final String message;
+    private final LocalDateTime createdAt;
+    private final Long partId;
+    private final Integer quantity;
+    private String partName;
+    private String partCode;
+    private String partKorName;
+    private String partCategoryName;
+    private Integer partPrice;
+
+    @JsonIgnore
+    private final boolean snapshotCaptured; // 등록 시점 부품 스냅샷 존재 여부
+
+    public ReceivingHistoryExportRowDTO(Long historyId, Long memberId, Long orderId, String orderNumber,
+                                        String type, String status, String message, LocalDateTime createdAt,
+                                        Long partId, Integer quantity, String partName, String partCode,
+                                        String partKorName, String partCategoryName, Integer partPrice,
+                                        LocalDateTime partSnapshotAt) {
+        this.historyId = historyId;
+        this.memberId = memberId;
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.type = type;
+        this.status = status;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.partId = partId;
+        this.quantity = quantity;
+        this.partName = partName;
+        this.partCode = partCode;
+        this.partKorName = partKorName;
+        this.partCategoryName = partCategoryName;
+        this.partPrice = partPrice;
+        this.snapshotCaptured = partSnapshotAt != null;
+    }
+
+    // 스냅샷이 없는 행에 Parts 서버에서 조회한 부품 정보 적용
+    public void applyPartDetail(PartDetailDTO partDetail) {
+        this.partName = partDetail.getName();
+        this.partCode = partDetail.getCode();
+        this.partKorName = partDetail.getKorName();
+        this.partCategoryName = partDetail.getCategoryName();
+        this.partPrice = partDetail.getPrice();
+    }
+
+    // 부품 정보 조회가 필요한 행인지 여부
+    @JsonIgnore
+    public boolean needsPartDetail() {
+        return partId != null && !snapshotCaptured;
+    }
+}
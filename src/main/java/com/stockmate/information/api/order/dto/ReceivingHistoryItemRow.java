@@ -0,0 +1,15 @@
+package com.stockmate.information.api.order.dto;
+
+import com.stockmate.information.api.order.entity.PartSnapshot;
+
+/**
+ * 목록 응답으로 변환할 히스토리 아이템 행
+ *
+ * @param partSnapshot 등록 시점 부품 정보 (스냅샷 이전에 등록되어 백필 전인 아이템은 null 또는 capturedAt 이 없음)
+ */
+public record ReceivingHistoryItemRow(Long historyId, Long partId, int quantity, PartSnapshot partSnapshot) {
+
+    public boolean hasPartSnapshot() {
+        return partSnapshot != null && partSnapshot.getCapturedAt() != null;
+    }
+}
@@ -17,6 +17,7 @@ public class ReceivingHistoryListResponseDTO {
     private int currentPage;         // 현재 페이지 번호
     private int pageSize;            // 페이지 크기
     private boolean isLast;          // 마지막 페이지 여부
+    private boolean partial;         // 외부 서버 장애로 부품/가맹점 정보가 일부 누락된 경우 true
     private List<ReceivingHistoryDetailDTO> content; // 히스토리 목록 (부품 상세 포함)
 }
 
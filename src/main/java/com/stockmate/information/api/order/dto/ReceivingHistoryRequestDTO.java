@@ -15,6 +15,7 @@ public class ReceivingHistoryRequestDTO {
     private Long memberId; // 가맹점 ID
     private Long orderId; // 주문 ID (출고의 경우 null 가능)
     private String orderNumber; // 주문 번호 (출고의 경우 null 가능)
+    private String approvalAttemptId; // 승인 시도 ID (같은 값으로 재요청 시 기존 등록 결과 반환)
     private String message; // 메시지
     private String status; // 상태 (예: "RECEIVED", "RELEASED")
     private String type; // 타입 (예: "RECEIVING" - 입고, "RELEASE" - 출고)
@@ -0,0 +1,21 @@
+package com.stockmate.information.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReceivingHistoryRollupDTO {
+    private Long memberId;       // 가맹점 ID
+    private Long partId;         // 부품 ID
+    private LocalDate day;       // 일자
+    private String type;         // 타입 (RECEIVING - 입고, RELEASE - 출고)
+    private long totalQuantity;  // 수량 합계
+    private long itemCount;      // 아이템 건수
+}
@@ -0,0 +1,34 @@
+package com.stockmate.information.api.order.dto;
+
+import com.stockmate.information.api.order.archive.ArchivedHistory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 응답으로 변환할 히스토리 행.
+ * 운영 DB(JPA 프로젝션, 리액티브 조회)와 콜드 티어의 히스토리를 같은 방식으로 DetailDTO 로 변환하기 위해 사용합니다.
+ */
+public record ReceivingHistoryRow(Long id, Long memberId, Long orderId, String orderNumber, String message,
+                                  String status, String type, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                  List<ReceivingHistoryItemRow> items) {
+
+    // 운영 DB 조회용 (아이템은 별도로 조회하여 withItems 로 채움)
+    public ReceivingHistoryRow(Long id, Long memberId, Long orderId, String orderNumber, String message,
+                               String status, String type, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, memberId, orderId, orderNumber, message, status, type, createdAt, updatedAt, List.of());
+    }
+
+    public static ReceivingHistoryRow from(ArchivedHistory history) {
+        return new ReceivingHistoryRow(history.getId(), history.getMemberId(), history.getOrderId(), history.getOrderNumber(),
+                history.getMessage(), history.getStatus(), history.getType(), history.getCreatedAt(), history.getUpdatedAt(),
+                history.getItems().stream()
+                        .map(item -> new ReceivingHistoryItemRow(history.getId(), item.getPartId(), item.getQuantity(),
+                                item.getPartSnapshot()))
+                        .toList());
+    }
+
+    public ReceivingHistoryRow withItems(List<ReceivingHistoryItemRow> items) {
+        return new ReceivingHistoryRow(id, memberId, orderId, orderNumber, message, status, type, createdAt, updatedAt, items);
+    }
+}
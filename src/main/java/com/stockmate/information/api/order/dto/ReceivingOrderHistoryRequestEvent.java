@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,4 +18,6 @@ public class ReceivingOrderHistoryRequestEvent {
     private String orderNumber; // 주문 번호
     private String message; // 메시지 (예: 'SMO-22 주문 입고처리 되었습니다.')
     private String status; // 상태 (예: 'RECEIVED')
+    private String type; // 타입 (예: 'RECEIVING', 없으면 입고로 처리)
+    private List<ReceivingHistoryRequestDTO.HistoryItemDTO> items; // 부품 간단 정보 (ID, 수량만)
 }
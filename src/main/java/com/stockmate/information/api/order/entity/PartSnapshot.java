@@ -0,0 +1,94 @@
+package com.stockmate.information.api.order.entity;
+
+import com.stockmate.information.api.order.dto.PartDetailDTO;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히스토리 등록 시점의 부품 표시 정보.
+ * 조회 시 Parts 서버를 호출하지 않고 등록 당시의 부품 정보를 그대로 보여주기 위해 아이템에 함께 저장합니다.
+ * capturedAt 이 있으면 Parts 서버에 없는 부품이어서 나머지 값이 비어 있더라도 스냅샷이 완료된 것으로 봅니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PartSnapshot {
+
+    @Column(name = "part_name")
+    private String name; // 부품명
+
+    @Column(name = "part_price")
+    private Integer price; // 가격
+
+    @Column(name = "part_image", length = 500)
+    private String image; // 이미지 URL
+
+    @Column(name = "part_trim")
+    private String trim; // 트림
+
+    @Column(name = "part_model")
+    private String model; // 모델
+
+    @Column(name = "part_category")
+    private Integer category; // 카테고리 코드
+
+    @Column(name = "part_kor_name")
+    private String korName; // 한글명
+
+    @Column(name = "part_eng_name")
+    private String engName; // 영문명
+
+    @Column(name = "part_category_name")
+    private String categoryName; // 카테고리명
+
+    @Column(name = "part_amount")
+    private Integer amount; // 등록 시점 재고
+
+    @Column(name = "part_code")
+    private String code; // 부품 코드
+
+    @Column(name = "part_location")
+    private String location; // 위치
+
+    @Column(name = "part_cost")
+    private Integer cost; // 원가
+
+    @Column(name = "part_snapshot_at")
+    private LocalDateTime capturedAt; // 스냅샷 저장 시각
+
+    // Parts 서버 조회 결과로 스냅샷 생성 (Parts 서버에 없는 부품이면 표시 정보 없이 저장 시각만 기록)
+    public static PartSnapshot of(PartDetailDTO partDetail, LocalDateTime capturedAt) {
+        if (partDetail == null) {
+            return PartSnapshot.builder().capturedAt(capturedAt).build();
+        }
+        return PartSnapshot.builder()
+                .name(partDetail.getName())
+                .price(partDetail.getPrice())
+                .image(partDetail.getImage())
+                .trim(partDetail.getTrim())
+                .model(partDetail.getModel())
+                .category(partDetail.getCategory())
+                .korName(partDetail.getKorName())
+                .engName(partDetail.getEngName())
+                .categoryName(partDetail.getCategoryName())
+                .amount(partDetail.getAmount())
+                .code(partDetail.getCode())
+                .location(partDetail.getLocation())
+                .cost(partDetail.getCost())
+                .capturedAt(capturedAt)
+                .build();
+    }
+
+    public boolean isFound() {
+        return name != null || code != null;
+    }
+}
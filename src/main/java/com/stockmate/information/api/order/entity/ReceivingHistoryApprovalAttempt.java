@@ -0,0 +1,49 @@
+package com.stockmate.information.api.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 승인 시도 ID -> 등록된 히스토리 (중복 등록 방지)
+// 파티션 테이블의 유니크 인덱스는 파티션 키를 포함해야 하므로 승인 시도 ID 의 유일성은 파티션되지 않은 이 테이블의 PK 로 보장
+@Entity
+@Table(name = "receiving_history_approval_attempt")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReceivingHistoryApprovalAttempt implements Persistable<String> {
+
+    @Id
+    @Column(name = "approval_attempt_id", length = 100)
+    private String approvalAttemptId; // 승인 시도 ID
+
+    @Column(name = "history_id", nullable = false)
+    private Long historyId; // 히스토리 ID
+
+    @Column(name = "history_created_at", nullable = false)
+    private LocalDateTime historyCreatedAt; // 히스토리 생성 시각 (히스토리 파티션 키)
+
+    // 직접 할당한 ID 라도 merge 전 SELECT 없이 INSERT 하도록 신규 여부를 직접 관리 (중복이면 PK 제약 위반)
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return approvalAttemptId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
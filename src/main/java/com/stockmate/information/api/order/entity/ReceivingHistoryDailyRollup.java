@@ -0,0 +1,59 @@
+package com.stockmate.information.api.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 가맹점/부품/일자/타입별 입출고 수량 집계.
+ * 히스토리 등록 시 같은 트랜잭션에서 증가시키며, 원본 히스토리로 다시 계산할 수 있습니다.
+ */
+@Entity
+@Table(name = "receiving_history_daily_rollup", indexes = {
+        @Index(name = "idx_receiving_history_daily_rollup_part_day", columnList = "part_id, day"),
+        @Index(name = "idx_receiving_history_daily_rollup_member_day", columnList = "member_id, day")
+})
+@IdClass(ReceivingHistoryDailyRollup.RollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReceivingHistoryDailyRollup {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId; // 가맹점 ID
+
+    @Id
+    @Column(name = "part_id")
+    private Long partId; // 부품 ID
+
+    @Id
+    @Column(name = "day")
+    private LocalDate day; // 등록 일자
+
+    @Id
+    @Column(name = "type", length = 50)
+    private String type; // 타입 (RECEIVING, RELEASE)
+
+    @Column(name = "total_quantity", nullable = false)
+    private long totalQuantity; // 수량 합계
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount; // 아이템 건수
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class RollupId implements Serializable {
+        private Long memberId;
+        private Long partId;
+        private LocalDate day;
+        private String type;
+    }
+}
@@ -4,26 +4,57 @@ import com.stockmate.information.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "receiving_history_item")
+// 히스토리와 같은 월의 파티션에 저장되도록 history_created_at 기준 월별 RANGE 파티션 테이블 (db/maintenance V8_1 점검 시간 마이그레이션)
+@Table(name = "receiving_history_item", indexes = {
+        @Index(name = "idx_receiving_history_item_history", columnList = "history_id, id"),
+        @Index(name = "idx_receiving_history_item_snapshot", columnList = "part_snapshot_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class ReceivingHistoryItem extends BaseTimeEntity {
 
+    // IDENTITY 전략은 JDBC 배치 INSERT 를 막으므로 pooled 시퀀스 테이블에서 ID 를 미리 할당받아 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "receiving_history_item_seq")
+    @SequenceGenerator(name = "receiving_history_item_seq", sequenceName = "receiving_history_item_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "history_id", nullable = false)
     private ReceivingOrderHistory history;
 
+    @Column(name = "history_created_at", nullable = false, updatable = false)
+    private LocalDateTime historyCreatedAt; // 히스토리 생성 시각 (파티션 키)
+
     @Column(name = "part_id", nullable = false)
     private Long partId; // 부품 ID
 
     @Column(name = "quantity", nullable = false)
     private int quantity; // 입고/출고 수량
+
+    @Embedded
+    private PartSnapshot partSnapshot; // 등록 시점 부품 정보 (스냅샷 이전에 등록된 아이템은 백필 전까지 null)
+
+    // 히스토리가 먼저 저장되어 생성 시각이 정해진 뒤 아이템이 저장되므로 그 값을 파티션 키로 사용
+    // (아이템 자체의 생성 시각은 월 경계에서 히스토리와 다른 파티션에 들어갈 수 있음)
+    @PrePersist
+    void assignHistoryCreatedAt() {
+        this.historyCreatedAt = history.getCreatedAt();
+    }
+
+    // 스냅샷이 저장되었는지 여부
+    public boolean hasPartSnapshot() {
+        return partSnapshot != null && partSnapshot.getCapturedAt() != null;
+    }
+
+    // 백필 작업에서 부품 스냅샷 저장
+    public void capturePartSnapshot(PartSnapshot partSnapshot) {
+        this.partSnapshot = partSnapshot;
+    }
 }
 
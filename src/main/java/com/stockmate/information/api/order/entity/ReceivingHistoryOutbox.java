@@ -0,0 +1,40 @@
+package com.stockmate.information.api.order.entity;
+
+import com.stockmate.information.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "receiving_history_outbox", indexes = {
+        @Index(name = "idx_receiving_history_outbox_published", columnList = "published_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReceivingHistoryOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "receiving_history_outbox_seq")
+    @SequenceGenerator(name = "receiving_history_outbox_seq", sequenceName = "receiving_history_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private EventType eventType; // 이벤트 종류 (SUCCESS, FAILED)
+
+    @Column(name = "approval_attempt_id")
+    private String approvalAttemptId; // 승인 시도 ID
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // 이벤트 JSON
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // 브로커 발행 시각 (미발행인 경우 null)
+
+    public enum EventType {
+        SUCCESS, FAILED
+    }
+}
@@ -12,15 +12,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "receiving_history")
+// created_at 기준 월별 RANGE 파티션 테이블 (db/maintenance V8_1 점검 시간 마이그레이션, 파티션 관리는 ReceivingHistoryPartitionService)
+@Table(name = "receiving_history", indexes = {
+        @Index(name = "idx_receiving_history_member_created", columnList = "member_id, created_at DESC, id DESC"),
+        @Index(name = "idx_receiving_history_order_created", columnList = "order_number, created_at DESC, id DESC"),
+        @Index(name = "idx_receiving_history_created", columnList = "created_at DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class ReceivingOrderHistory extends BaseTimeEntity {
 
+    // IDENTITY 전략은 JDBC 배치 INSERT 를 막으므로 pooled 시퀀스 테이블에서 ID 를 미리 할당받아 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "receiving_history_seq")
+    @SequenceGenerator(name = "receiving_history_seq", sequenceName = "receiving_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "member_id", nullable = false)
@@ -32,6 +39,9 @@ public class ReceivingOrderHistory extends BaseTimeEntity {
     @Column(name = "order_number")
     private String orderNumber; // 주문 번호 (출고의 경우 null)
 
+    @Column(name = "approval_attempt_id", length = 100)
+    private String approvalAttemptId; // 승인 시도 ID (없으면 null, 유일성은 receiving_history_approval_attempt 에서 보장)
+
     @Column(name = "message", nullable = false)
     private String message; // 메시지
 
@@ -0,0 +1,83 @@
+package com.stockmate.information.api.order.event;
+
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryRequestEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 프로세스 내부 큐 기반의 브로커 구현체입니다. (로컬 실행 및 테스트용)
+ * 발행된 성공/실패 이벤트는 drain 으로 꺼내 가기 전까지 보관되므로 세 큐 모두 같은 크기로 제한합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "history.ingestion.broker", havingValue = "in-memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryReceivingHistoryEventBroker implements ReceivingHistoryEventBroker {
+
+    private final BlockingQueue<ReceivingOrderHistoryRequestEvent> requestEvents;
+    private final BlockingQueue<ReceivingOrderHistorySuccessEvent> successEvents;
+    private final BlockingQueue<ReceivingOrderHistoryFailedEvent> failedEvents;
+
+    public InMemoryReceivingHistoryEventBroker(@Value("${history.ingestion.in-memory.capacity:10000}") int capacity) {
+        this.requestEvents = new LinkedBlockingQueue<>(capacity);
+        this.successEvents = new LinkedBlockingQueue<>(capacity);
+        this.failedEvents = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 등록 요청 이벤트를 큐에 넣습니다.
+     *
+     * @return 큐가 가득 차 넣지 못한 경우 false
+     */
+    public boolean submit(ReceivingOrderHistoryRequestEvent event) {
+        boolean accepted = requestEvents.offer(event);
+        if (!accepted) {
+            log.warn("입출고 히스토리 요청 이벤트 큐가 가득 찼습니다 - Approval Attempt ID: {}", event.getApprovalAttemptId());
+        }
+        return accepted;
+    }
+
+    @Override
+    public List<ReceivingOrderHistoryRequestEvent> poll(int maxEvents) {
+        List<ReceivingOrderHistoryRequestEvent> events = new ArrayList<>();
+        requestEvents.drainTo(events, maxEvents);
+        return events;
+    }
+
+    // 큐가 가득 차면 예외를 던져 아웃박스 릴레이가 해당 이벤트부터 다음 실행에서 다시 발행하도록 함
+    @Override
+    public void publishSuccess(ReceivingOrderHistorySuccessEvent event) {
+        if (!successEvents.offer(event)) {
+            throw new IllegalStateException("입출고 히스토리 성공 이벤트 큐가 가득 찼습니다.");
+        }
+    }
+
+    @Override
+    public void publishFailed(ReceivingOrderHistoryFailedEvent event) {
+        if (!failedEvents.offer(event)) {
+            throw new IllegalStateException("입출고 히스토리 실패 이벤트 큐가 가득 찼습니다.");
+        }
+    }
+
+    // 발행된 성공 이벤트를 모두 꺼냅니다.
+    public List<ReceivingOrderHistorySuccessEvent> drainSuccessEvents() {
+        List<ReceivingOrderHistorySuccessEvent> events = new ArrayList<>();
+        successEvents.drainTo(events);
+        return events;
+    }
+
+    // 발행된 실패 이벤트를 모두 꺼냅니다.
+    public List<ReceivingOrderHistoryFailedEvent> drainFailedEvents() {
+        List<ReceivingOrderHistoryFailedEvent> events = new ArrayList<>();
+        failedEvents.drainTo(events);
+        return events;
+    }
+}
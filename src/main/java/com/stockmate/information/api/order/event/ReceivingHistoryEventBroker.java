@@ -0,0 +1,29 @@
+package com.stockmate.information.api.order.event;
+
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryRequestEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+
+import java.util.List;
+
+/**
+ * 입출고 히스토리 등록 이벤트를 주고받는 메시지 브로커 추상화입니다.
+ * 실제 브로커 구현체가 등록되지 않은 경우 {@link InMemoryReceivingHistoryEventBroker} 가 사용됩니다.
+ */
+public interface ReceivingHistoryEventBroker {
+
+    /**
+     * 등록 요청 이벤트를 최대 maxEvents 건까지 가져옵니다. 대기 중인 이벤트가 없으면 빈 목록을 반환합니다.
+     */
+    List<ReceivingOrderHistoryRequestEvent> poll(int maxEvents);
+
+    /**
+     * 등록 성공 이벤트를 발행합니다.
+     */
+    void publishSuccess(ReceivingOrderHistorySuccessEvent event);
+
+    /**
+     * 등록 실패 이벤트를 발행합니다.
+     */
+    void publishFailed(ReceivingOrderHistoryFailedEvent event);
+}
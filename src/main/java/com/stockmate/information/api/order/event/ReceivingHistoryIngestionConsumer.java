@@ -0,0 +1,105 @@
+package com.stockmate.information.api.order.event;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryRequestDTO;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryRequestEvent;
+import com.stockmate.information.api.order.service.ReceivingHistoryOutboxService;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 브로커에서 입출고 히스토리 등록 요청 이벤트를 가져와 배치 단위 트랜잭션으로 등록하고,
+ * 승인 시도(approvalAttemptId)별 성공/실패 이벤트를 아웃박스에 기록합니다.
+ * 성공 이벤트는 등록 서비스가 히스토리와 같은 트랜잭션에 기록하며, 발행은 ReceivingHistoryOutboxRelay 가 담당합니다.
+ * 요청 이벤트를 보내는 브로커가 연결된 환경에서만 history.ingestion.enabled=true 로 켭니다. (기본값은 꺼짐)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "history.ingestion.enabled", havingValue = "true")
+public class ReceivingHistoryIngestionConsumer {
+
+    private static final String DEFAULT_TYPE = "RECEIVING";
+
+    private final ReceivingHistoryEventBroker receivingHistoryEventBroker;
+    private final ReceivingOrderHistoryService receivingOrderHistoryService;
+    private final ReceivingHistoryOutboxService receivingHistoryOutboxService;
+
+    @Value("${history.ingestion.batch-size:100}")
+    private int batchSize; // 한 트랜잭션에 등록할 최대 이벤트 수
+
+    @Value("${history.ingestion.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll; // 한 번의 폴링에서 처리할 최대 배치 수 (다른 스케줄 작업 보호)
+
+    @Scheduled(fixedDelayString = "${history.ingestion.poll-interval:PT0.2S}")
+    public void consume() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<ReceivingOrderHistoryRequestEvent> events = receivingHistoryEventBroker.poll(batchSize);
+            if (events.isEmpty()) {
+                return;
+            }
+            processBatch(events);
+        }
+    }
+
+    private void processBatch(List<ReceivingOrderHistoryRequestEvent> events) {
+        log.info("입출고 히스토리 요청 이벤트 배치 처리 시작 - 건수: {}", events.size());
+
+        try {
+            receivingOrderHistoryService.registerReceivingHistories(events.stream().map(this::toRequestDTO).toList());
+            log.info("입출고 히스토리 요청 이벤트 배치 처리 완료 - 건수: {}", events.size());
+
+        } catch (Exception e) {
+            // 배치 중 한 건이라도 실패하면 전체가 롤백되므로 개별 트랜잭션으로 다시 등록하여 실패 건만 분리
+            log.warn("입출고 히스토리 배치 등록 실패, 개별 등록으로 재시도 - 건수: {}, Error: {}", events.size(), e.getMessage());
+            events.forEach(this::processSingle);
+        }
+    }
+
+    private void processSingle(ReceivingOrderHistoryRequestEvent event) {
+        try {
+            try {
+                registerSingle(event);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 승인 시도 ID 가 동시에 등록된 경우 다시 시도하면 기존 등록 결과로 응답됨
+                log.info("승인 시도 ID 동시 등록 감지, 재시도 - Approval Attempt ID: {}", event.getApprovalAttemptId());
+                registerSingle(event);
+            }
+        } catch (Exception e) {
+            log.error("입출고 히스토리 등록 실패 - Approval Attempt ID: {}, 주문 번호: {}, Error: {}",
+                    event.getApprovalAttemptId(), event.getOrderNumber(), e.getMessage(), e);
+            receivingHistoryOutboxService.appendFailed(ReceivingOrderHistoryFailedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .orderNumber(event.getOrderNumber())
+                    .approvalAttemptId(event.getApprovalAttemptId())
+                    .errorMessage(e.getMessage())
+                    .data(event)
+                    .build());
+        }
+    }
+
+    private void registerSingle(ReceivingOrderHistoryRequestEvent event) {
+        receivingOrderHistoryService.registerReceivingHistory(toRequestDTO(event));
+    }
+
+    private ReceivingHistoryRequestDTO toRequestDTO(ReceivingOrderHistoryRequestEvent event) {
+        return ReceivingHistoryRequestDTO.builder()
+                .memberId(event.getMemberId())
+                .orderId(event.getOrderId())
+                .orderNumber(event.getOrderNumber())
+                .approvalAttemptId(event.getApprovalAttemptId())
+                .message(event.getMessage())
+                .status(event.getStatus())
+                .type(event.getType() != null ? event.getType() : DEFAULT_TYPE)
+                .items(event.getItems())
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.stockmate.information.api.order.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import com.stockmate.information.api.order.entity.ReceivingHistoryOutbox;
+import com.stockmate.information.api.order.repository.ReceivingHistoryOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스에 기록된 성공/실패 이벤트를 배치 단위로 브로커에 발행합니다. (최소 1회 전달)
+ * 발행 후 완료 표시 전에 장애가 나면 같은 이벤트가 다시 발행될 수 있으므로 수신 측은 approvalAttemptId 로 중복을 처리해야 합니다.
+ * 아웃박스는 이벤트 수집 파이프라인을 켠 경우에만 기록되므로 릴레이도 history.ingestion.enabled=true 일 때만 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnExpression("${history.ingestion.enabled:false} and ${history.outbox.relay.enabled:true}")
+public class ReceivingHistoryOutboxRelay {
+
+    private final ReceivingHistoryOutboxRepository receivingHistoryOutboxRepository;
+    private final ReceivingHistoryEventBroker receivingHistoryEventBroker;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${history.outbox.relay.batch-size:200}")
+    private int batchSize; // 한 번에 발행할 최대 이벤트 수
+
+    @Value("${history.outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun; // 한 번의 실행에서 처리할 최대 배치 수
+
+    @Value("${history.outbox.cleanup.retention:P1D}")
+    private Duration cleanupRetention; // 발행 완료 이벤트 보관 기간
+
+    @Value("${history.outbox.cleanup.chunk-size:1000}")
+    private int cleanupChunkSize; // 한 번에 삭제할 최대 행 수
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private Counter publishedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("history.outbox.relay.lag.seconds", lagSeconds);
+        publishedCounter = meterRegistry.counter("history.outbox.relay.published");
+    }
+
+    @Scheduled(fixedDelayString = "${history.outbox.relay.interval:PT1S}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            if (relayed == null || relayed < batchSize) {
+                break;
+            }
+        }
+        updateLag();
+    }
+
+    // 미발행 이벤트를 잠근 상태로 발행하고, 발행에 성공한 이벤트만 완료 처리
+    private int relayBatch() {
+        List<ReceivingHistoryOutbox> outboxes = receivingHistoryOutboxRepository.findUnpublishedForUpdate(batchSize);
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        for (ReceivingHistoryOutbox outbox : outboxes) {
+            try {
+                publish(outbox);
+                publishedIds.add(outbox.getId());
+            } catch (Exception e) {
+                // 순서 보장을 위해 실패한 이벤트 이후는 다음 실행에서 다시 시도
+                log.error("아웃박스 이벤트 발행 실패 - ID: {}, 타입: {}, Approval Attempt ID: {}, Error: {}",
+                        outbox.getId(), outbox.getEventType(), outbox.getApprovalAttemptId(), e.getMessage(), e);
+                break;
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            receivingHistoryOutboxRepository.markPublished(publishedIds, LocalDateTime.now());
+            publishedCounter.increment(publishedIds.size());
+        }
+
+        log.debug("아웃박스 이벤트 발행 - 조회: {}, 발행: {}", outboxes.size(), publishedIds.size());
+        return publishedIds.size() == outboxes.size() ? outboxes.size() : 0;
+    }
+
+    private void publish(ReceivingHistoryOutbox outbox) throws Exception {
+        switch (outbox.getEventType()) {
+            case SUCCESS -> receivingHistoryEventBroker.publishSuccess(
+                    objectMapper.readValue(outbox.getPayload(), ReceivingOrderHistorySuccessEvent.class));
+            case FAILED -> receivingHistoryEventBroker.publishFailed(
+                    objectMapper.readValue(outbox.getPayload(), ReceivingOrderHistoryFailedEvent.class));
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = receivingHistoryOutboxRepository.findOldestUnpublishedCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+    }
+
+    // 발행 완료 후 보관 기간이 지난 이벤트를 청크 단위로 삭제 (긴 잠금 방지)
+    @Scheduled(fixedDelayString = "${history.outbox.cleanup.interval:PT10M}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(cleanupRetention);
+        int totalDeleted = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    receivingHistoryOutboxRepository.deletePublishedBefore(cutoff, cleanupChunkSize));
+            totalDeleted += deleted;
+        } while (deleted == cleanupChunkSize);
+
+        if (totalDeleted > 0) {
+            log.info("발행 완료 아웃박스 이벤트 정리 - 삭제 건수: {}", totalDeleted);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.entity.ReceivingHistoryApprovalAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReceivingHistoryApprovalAttemptRepository extends JpaRepository<ReceivingHistoryApprovalAttempt, String> {
+}
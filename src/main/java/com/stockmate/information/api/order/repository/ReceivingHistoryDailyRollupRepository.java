@@ -0,0 +1,54 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.entity.ReceivingHistoryDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReceivingHistoryDailyRollupRepository
+        extends JpaRepository<ReceivingHistoryDailyRollup, ReceivingHistoryDailyRollup.RollupId> {
+
+    // 집계 증가 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO receiving_history_daily_rollup (member_id, part_id, day, type, total_quantity, item_count) " +
+                   "VALUES (:memberId, :partId, :day, :type, :quantity, :itemCount) " +
+                   "ON DUPLICATE KEY UPDATE total_quantity = total_quantity + VALUES(total_quantity), " +
+                   "item_count = item_count + VALUES(item_count)", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("partId") Long partId, @Param("day") LocalDate day,
+               @Param("type") String type, @Param("quantity") long quantity, @Param("itemCount") long itemCount);
+
+    // 가맹점 + 부품 기준 조회 (기본 키 순서)
+    List<ReceivingHistoryDailyRollup> findByMemberIdAndPartIdAndDayBetweenOrderByDayAsc(
+            Long memberId, Long partId, LocalDate from, LocalDate to);
+
+    // 가맹점 기준 조회
+    List<ReceivingHistoryDailyRollup> findByMemberIdAndDayBetweenOrderByDayAscPartIdAsc(
+            Long memberId, LocalDate from, LocalDate to);
+
+    // 부품 기준 조회 (전체 가맹점)
+    List<ReceivingHistoryDailyRollup> findByPartIdAndDayBetweenOrderByDayAscMemberIdAsc(
+            Long partId, LocalDate from, LocalDate to);
+
+    // 재계산 - 하루치 집계 삭제 (idx_receiving_history_daily_rollup_day 범위만 잠금)
+    @Modifying
+    @Query(value = "DELETE FROM receiving_history_daily_rollup WHERE day = :day", nativeQuery = true)
+    int deleteByDay(@Param("day") LocalDate day);
+
+    // 재계산 - 하루치 원본 히스토리로 집계 생성 (created_at 인덱스 범위 조회)
+    // 아이템에도 히스토리 생성 시각 조건을 지정하여 두 테이블 모두 해당 월 파티션만 읽음
+    // (파티션 키 백필 전 아이템도 포함, V8_1 로 NOT NULL 이 되면 IS NULL 조건은 제거되어 파티션 제한은 그대로 적용됨)
+    @Modifying
+    @Query(value = "INSERT INTO receiving_history_daily_rollup (member_id, part_id, day, type, total_quantity, item_count) " +
+                   "SELECT h.member_id, i.part_id, :day, h.type, SUM(i.quantity), COUNT(*) " +
+                   "FROM receiving_history h JOIN receiving_history_item i " +
+                   "ON i.history_id = h.id AND (i.history_created_at IS NULL OR i.history_created_at = h.created_at) " +
+                   "WHERE h.created_at >= :from AND h.created_at < :to " +
+                   "AND (i.history_created_at IS NULL OR (i.history_created_at >= :from AND i.history_created_at < :to)) " +
+                   "GROUP BY h.member_id, i.part_id, h.type", nativeQuery = true)
+    int insertFromHistory(@Param("day") LocalDate day, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,49 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryItemRow;
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReceivingHistoryItemRepository extends JpaRepository<ReceivingHistoryItem, Long> {
+
+    // 부품 스냅샷이 없는 아이템을 ID 순으로 조회 (백필용)
+    @Query("SELECT i FROM ReceivingHistoryItem i WHERE i.partSnapshot.capturedAt IS NULL AND i.id > :lastId ORDER BY i.id")
+    List<ReceivingHistoryItem> findWithoutPartSnapshotAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    // 목록 기간에 부품 스냅샷이 없는 아이템이 있는지 확인 (ETag 용, 첫 건만 조회)
+    // 스냅샷이 없는 아이템은 백필 전까지 소수이므로 스냅샷 인덱스의 NULL 범위에서 찾고, 아이템 파티션은 기간으로 제한
+    @Query("SELECT i.id FROM ReceivingHistoryItem i JOIN i.history h " +
+           "WHERE i.partSnapshot.capturedAt IS NULL AND h.memberId = :memberId AND h.createdAt >= :from AND h.createdAt < :to " +
+           "AND (i.historyCreatedAt IS NULL OR (i.historyCreatedAt >= :from AND i.historyCreatedAt < :to))")
+    List<Long> findIdsWithoutPartSnapshotByMemberId(@Param("memberId") Long memberId, @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to, Pageable limit);
+
+    @Query("SELECT i.id FROM ReceivingHistoryItem i JOIN i.history h " +
+           "WHERE i.partSnapshot.capturedAt IS NULL AND h.orderNumber = :orderNumber AND h.createdAt >= :from AND h.createdAt < :to " +
+           "AND (i.historyCreatedAt IS NULL OR (i.historyCreatedAt >= :from AND i.historyCreatedAt < :to))")
+    List<Long> findIdsWithoutPartSnapshotByOrderNumber(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to, Pageable limit);
+
+    // 목록 - 페이지 히스토리의 아이템을 행으로 조회 (엔티티로 관리하지 않음, 히스토리 ID 는 FK 열을 그대로 읽어 조인하지 않음)
+    // 페이지 히스토리의 생성 시각 범위로 아이템 파티션을 제한
+    // 파티션 키 백필 전의 기존 아이템(history_created_at NULL)도 포함하며, V8_1 로 NOT NULL 이 되면 MySQL 이 IS NULL 조건을 제거하여 파티션 제한은 그대로 적용됨
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.stockmate.information.api.order.dto.ReceivingHistoryItemRow(i.history.id, i.partId, i.quantity, i.partSnapshot) " +
+           "FROM ReceivingHistoryItem i " +
+           "WHERE i.history.id IN :historyIds " +
+           "AND (i.historyCreatedAt IS NULL OR (i.historyCreatedAt >= :oldest AND i.historyCreatedAt <= :newest)) " +
+           "ORDER BY i.history.id, i.id")
+    List<ReceivingHistoryItemRow> findRowsByHistoryIdIn(@Param("historyIds") Collection<Long> historyIds,
+                                                        @Param("oldest") LocalDateTime oldest,
+                                                        @Param("newest") LocalDateTime newest);
+}
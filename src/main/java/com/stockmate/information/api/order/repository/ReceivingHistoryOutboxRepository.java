@@ -0,0 +1,33 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.entity.ReceivingHistoryOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReceivingHistoryOutboxRepository extends JpaRepository<ReceivingHistoryOutbox, Long> {
+
+    // 미발행 이벤트를 오래된 순으로 조회 (다른 인스턴스의 릴레이가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM receiving_history_outbox WHERE published_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ReceivingHistoryOutbox> findUnpublishedForUpdate(@Param("limit") int limit);
+
+    // 발행 완료 처리
+    @Modifying
+    @Query("UPDATE ReceivingHistoryOutbox o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 가장 오래된 미발행 이벤트의 생성 시각 (릴레이 지연 측정용)
+    @Query("SELECT MIN(o.createdAt) FROM ReceivingHistoryOutbox o WHERE o.publishedAt IS NULL")
+    LocalDateTime findOldestUnpublishedCreatedAt();
+
+    // 발행 완료 후 보관 기간이 지난 이벤트를 청크 단위로 삭제
+    @Modifying
+    @Query(value = "DELETE FROM receiving_history_outbox WHERE published_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,106 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursor;
+import com.stockmate.information.api.order.dto.ReceivingHistoryItemRow;
+import com.stockmate.information.api.order.dto.ReceivingHistoryRow;
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * R2DBC 로 입출고 히스토리를 논블로킹 조회합니다. (history.reactive.enabled=true 일 때만 생성)
+ * JPA 목록 조회와 같은 인덱스(가맹점/주문 번호, created_at DESC, id DESC)와 기간 조건을 사용하며,
+ * 엔티티 대신 목록 응답 변환에 필요한 열만 행으로 읽습니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "history.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReceivingHistoryReactiveRepository {
+
+    private static final String HISTORY_COLUMNS =
+            "id, member_id, order_id, order_number, message, status, type, created_at, updated_at";
+
+    private static final String ITEM_COLUMNS =
+            "history_id, part_id, quantity, part_name, part_price, part_image, part_trim, part_model, part_category, " +
+            "part_kor_name, part_eng_name, part_category_name, part_amount, part_code, part_location, part_cost, part_snapshot_at";
+
+    private final DatabaseClient historyDatabaseClient;
+
+    // 가맹점별 히스토리 (커서 기반, 커서가 null 이면 첫 페이지)
+    public Flux<ReceivingHistoryRow> findByMemberId(Long memberId, LocalDateTime from, LocalDateTime to,
+                                                    ReceivingHistoryCursor cursor, int limit) {
+        return findHistories("member_id", memberId, from, to, cursor, limit);
+    }
+
+    // 주문별 히스토리 (커서 기반, 커서가 null 이면 첫 페이지)
+    public Flux<ReceivingHistoryRow> findByOrderNumber(String orderNumber, LocalDateTime from, LocalDateTime to,
+                                                       ReceivingHistoryCursor cursor, int limit) {
+        return findHistories("order_number", orderNumber, from, to, cursor, limit);
+    }
+
+    // 페이지 히스토리의 아이템 - 페이지의 가장 오래된/최근 생성 시각으로 아이템 파티션을 제한 (파티션 키 백필 전 아이템 포함)
+    public Flux<ReceivingHistoryItemRow> findItems(Collection<Long> historyIds, LocalDateTime oldest, LocalDateTime newest) {
+        return historyDatabaseClient.sql("SELECT " + ITEM_COLUMNS + " FROM receiving_history_item " +
+                        "WHERE history_id IN (:historyIds) " +
+                        "AND (history_created_at IS NULL OR (history_created_at >= :oldest AND history_created_at <= :newest)) " +
+                        "ORDER BY history_id, id")
+                .bind("historyIds", List.copyOf(historyIds))
+                .bind("oldest", oldest)
+                .bind("newest", newest)
+                .map(ReceivingHistoryReactiveRepository::toItemRow)
+                .all();
+    }
+
+    private Flux<ReceivingHistoryRow> findHistories(String targetColumn, Object target, LocalDateTime from, LocalDateTime to,
+                                                    ReceivingHistoryCursor cursor, int limit) {
+        String sql = "SELECT " + HISTORY_COLUMNS + " FROM receiving_history " +
+                "WHERE " + targetColumn + " = :target AND created_at >= :from AND created_at < :to " +
+                (cursor != null ? "AND (created_at < :cursorCreatedAt OR (created_at = :cursorCreatedAt AND id < :cursorId)) " : "") +
+                "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = historyDatabaseClient.sql(sql)
+                .bind("target", target)
+                .bind("from", from)
+                .bind("to", to)
+                .bind("limit", limit);
+        if (cursor != null) {
+            spec = spec.bind("cursorCreatedAt", cursor.getCreatedAt())
+                    .bind("cursorId", cursor.getId());
+        }
+        return spec.map(ReceivingHistoryReactiveRepository::toHistoryRow).all();
+    }
+
+    // 아이템은 별도로 조회하여 채움
+    private static ReceivingHistoryRow toHistoryRow(Readable row) {
+        return new ReceivingHistoryRow(
+                row.get("id", Long.class),
+                row.get("member_id", Long.class),
+                row.get("order_id", Long.class),
+                row.get("order_number", String.class),
+                row.get("message", String.class),
+                row.get("status", String.class),
+                row.get("type", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+
+    private static ReceivingHistoryItemRow toItemRow(Readable row) {
+        LocalDateTime capturedAt = row.get("part_snapshot_at", LocalDateTime.class);
+        PartSnapshot snapshot = capturedAt == null ? null : new PartSnapshot(
+                row.get("part_name", String.class), row.get("part_price", Integer.class), row.get("part_image", String.class),
+                row.get("part_trim", String.class), row.get("part_model", String.class), row.get("part_category", Integer.class),
+                row.get("part_kor_name", String.class), row.get("part_eng_name", String.class),
+                row.get("part_category_name", String.class), row.get("part_amount", Integer.class), row.get("part_code", String.class),
+                row.get("part_location", String.class), row.get("part_cost", Integer.class), capturedAt);
+        return new ReceivingHistoryItemRow(
+                row.get("history_id", Long.class), row.get("part_id", Long.class), row.get("quantity", Integer.class), snapshot);
+    }
+}
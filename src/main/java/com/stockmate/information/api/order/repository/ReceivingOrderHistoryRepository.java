@@ -1,23 +1,155 @@
 package com.stockmate.information.api.order.repository;
 
+import com.stockmate.information.api.order.dto.ReceivingHistoryExportRowDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryRow;
 import com.stockmate.information.api.order.entity.ReceivingOrderHistory;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface ReceivingOrderHistoryRepository extends JpaRepository<ReceivingOrderHistory, Long> {
+
+    // 목록 조회는 모두 created_at 기간 조건을 포함 (테이블이 created_at 월별 파티션이므로 기간에 해당하는 파티션만 조회)
     
-    // 가맹점별 입출고 히스토리 조회 (페이지네이션)
-    @Query("SELECT rh FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId ORDER BY rh.createdAt DESC")
-    Page<ReceivingOrderHistory> findByMemberIdOrderByCreatedAtDesc(@Param("memberId") Long memberId, Pageable pageable);
+    // 가맹점별 입출고 히스토리 ID 조회 (페이지네이션 - 전체 건수는 별도 관리)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    Slice<Long> findIdsByMemberIdOrderByCreatedAtDesc(@Param("memberId") Long memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                      Pageable pageable);
     
-    // 모든 입출고 히스토리 조회 (관리자용 - 페이지네이션)
-    @Query("SELECT rh FROM ReceivingOrderHistory rh ORDER BY rh.createdAt DESC")
-    Page<ReceivingOrderHistory> findAllOrderByCreatedAtDesc(Pageable pageable);
+    // 모든 입출고 히스토리 ID 조회 (관리자용 - 페이지네이션, 전체 건수는 별도 관리)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.createdAt >= :from AND rh.createdAt < :to ORDER BY rh.createdAt DESC, rh.id DESC")
+    Slice<Long> findAllIdsOrderByCreatedAtDesc(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
     
-    // 주문별 입출고 히스토리 조회
-    @Query("SELECT rh FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber ORDER BY rh.createdAt DESC")
-    Page<ReceivingOrderHistory> findByOrderNumberOrderByCreatedAtDesc(@Param("orderNumber") String orderNumber, Pageable pageable);
+    // 주문별 입출고 히스토리 ID 조회
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    Slice<Long> findIdsByOrderNumberOrderByCreatedAtDesc(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                         Pageable pageable);
+
+    // 가맹점별 입출고 히스토리 건수
+    long countByMemberId(Long memberId);
+
+    // 기간 내 건수 (기간을 지정한 조회는 별도 관리되는 전체 건수 대신 해당 파티션만 세어 응답)
+    @Query("SELECT COUNT(rh) FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to")
+    long countByMemberIdInRange(@Param("memberId") Long memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(rh) FROM ReceivingOrderHistory rh WHERE rh.createdAt >= :from AND rh.createdAt < :to")
+    long countInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 주문별 입출고 히스토리 건수 (주문 단위로 범위가 작아 요청 시점에 계산)
+    @Query("SELECT COUNT(rh) FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber AND rh.createdAt >= :from AND rh.createdAt < :to")
+    long countByOrderNumberInRange(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 목록 버전 (ETag 용) - 히스토리는 추가만 되므로 최대 ID 와 건수로 변경 여부 판단, 조회 경로 인덱스만으로 계산
+    @Query("SELECT MAX(rh.id) AS maxId, COUNT(rh) AS count FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to")
+    HistoryVersion findVersionByMemberId(@Param("memberId") Long memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MAX(rh.id) AS maxId, COUNT(rh) AS count FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber AND rh.createdAt >= :from AND rh.createdAt < :to")
+    HistoryVersion findVersionByOrderNumber(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface HistoryVersion {
+        Long getMaxId(); // 히스토리가 없으면 null
+
+        long getCount();
+    }
+
+    // 가맹점별 입출고 히스토리 ID 조회 (커서 기반 - 첫 페이지)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findFirstIdsByMemberId(@Param("memberId") Long memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable limit);
+
+    // 가맹점별 입출고 히스토리 ID 조회 (커서 기반 - 커서 이후)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "AND (rh.createdAt < :createdAt OR (rh.createdAt = :createdAt AND rh.id < :id)) " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findIdsByMemberIdAfterCursor(@Param("memberId") Long memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    // 모든 입출고 히스토리 ID 조회 (관리자용 커서 기반 - 첫 페이지)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.createdAt >= :from AND rh.createdAt < :to ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findFirstIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable limit);
+
+    // 모든 입출고 히스토리 ID 조회 (관리자용 커서 기반 - 커서 이후)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.createdAt >= :from AND rh.createdAt < :to " +
+            "AND (rh.createdAt < :createdAt OR (rh.createdAt = :createdAt AND rh.id < :id)) " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findIdsAfterCursor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                  @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    // 주문별 입출고 히스토리 ID 조회 (커서 기반 - 첫 페이지)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findFirstIdsByOrderNumber(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable limit);
+
+    // 주문별 입출고 히스토리 ID 조회 (커서 기반 - 커서 이후)
+    @Query("SELECT rh.id FROM ReceivingOrderHistory rh WHERE rh.orderNumber = :orderNumber AND rh.createdAt >= :from AND rh.createdAt < :to " +
+            "AND (rh.createdAt < :createdAt OR (rh.createdAt = :createdAt AND rh.id < :id)) " +
+            "ORDER BY rh.createdAt DESC, rh.id DESC")
+    List<Long> findIdsByOrderNumberAfterCursor(@Param("orderNumber") String orderNumber, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                               @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    // 가장 오래된 히스토리의 생성 시각 (created_at 인덱스의 첫 항목) - 콜드 티어로 옮겨진 기간 판별용
+    @Query("SELECT MIN(rh.createdAt) FROM ReceivingOrderHistory rh")
+    LocalDateTime findOldestCreatedAt();
+
+    // 승인 시도 ID 로 등록된 히스토리 조회 - 파티션 키(created_at)를 함께 지정하여 해당 파티션의 PK 로 조회
+    @Query("SELECT rh FROM ReceivingOrderHistory rh WHERE rh.id = :id AND rh.createdAt = :createdAt")
+    Optional<ReceivingOrderHistory> findByIdAndCreatedAt(@Param("id") Long id, @Param("createdAt") LocalDateTime createdAt);
+
+    // 승인 시도 ID 로 등록된 히스토리 일괄 조회 - 승인 시도에 저장된 생성 시각 목록으로 해당 파티션만 조회
+    // (ID 가 유일하므로 두 IN 조건의 조합으로 다른 히스토리가 섞이지 않음)
+    @Query("SELECT rh FROM ReceivingOrderHistory rh WHERE rh.id IN :ids AND rh.createdAt IN :createdAts")
+    List<ReceivingOrderHistory> findAllByIdInAndCreatedAtIn(@Param("ids") Collection<Long> ids,
+                                                           @Param("createdAts") Collection<LocalDateTime> createdAts);
+
+    // 승인 시도 테이블 백필이 끝나기 전 기존 승인 시도 조회 (uk_receiving_history_approval_attempt 인덱스, V8_1 에서 제거되기 전까지만 사용)
+    Optional<ReceivingOrderHistory> findByApprovalAttemptId(String approvalAttemptId);
+
+    List<ReceivingOrderHistory> findAllByApprovalAttemptIdIn(Collection<String> approvalAttemptIds);
+
+    // 내보내기 - 기간 내 히스토리를 아이템 단위 행으로 순방향 스트리밍 (MySQL 드라이버가 결과를 한 번에 메모리에 올리지 않도록 행 단위 fetch)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.stockmate.information.api.order.dto.ReceivingHistoryExportRowDTO(" + EXPORT_COLUMNS + ") " +
+           "FROM ReceivingOrderHistory rh LEFT JOIN rh.items i " +
+           "WHERE rh.createdAt >= :from AND rh.createdAt < :to ORDER BY rh.createdAt, rh.id, i.id")
+    Stream<ReceivingHistoryExportRowDTO> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 내보내기 - 특정 가맹점의 기간 내 히스토리
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.stockmate.information.api.order.dto.ReceivingHistoryExportRowDTO(" + EXPORT_COLUMNS + ") " +
+           "FROM ReceivingOrderHistory rh LEFT JOIN rh.items i " +
+           "WHERE rh.memberId = :memberId AND rh.createdAt >= :from AND rh.createdAt < :to ORDER BY rh.createdAt, rh.id, i.id")
+    Stream<ReceivingHistoryExportRowDTO> streamExportRowsByMemberId(@Param("memberId") Long memberId,
+                                                                    @Param("from") LocalDateTime from,
+                                                                    @Param("to") LocalDateTime to);
+
+    String EXPORT_COLUMNS = "rh.id, rh.memberId, rh.orderId, rh.orderNumber, rh.type, rh.status, rh.message, rh.createdAt, " +
+            "i.partId, i.quantity, i.partSnapshot.name, i.partSnapshot.code, i.partSnapshot.korName, " +
+            "i.partSnapshot.categoryName, i.partSnapshot.price, i.partSnapshot.capturedAt";
+
+    // 목록 - 페이지의 히스토리를 응답에 필요한 열만 행으로 조회 (엔티티로 관리하지 않음, 정렬은 호출 측에서 ID 순서대로 복원)
+    // ID 조회와 같은 기간 조건으로 히스토리 파티션을 제한, 아이템은 ReceivingHistoryItemRepository 에서 별도로 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.stockmate.information.api.order.dto.ReceivingHistoryRow(" +
+           "rh.id, rh.memberId, rh.orderId, rh.orderNumber, rh.message, rh.status, rh.type, rh.createdAt, rh.updatedAt) " +
+           "FROM ReceivingOrderHistory rh WHERE rh.id IN :ids AND rh.createdAt >= :from AND rh.createdAt < :to")
+    List<ReceivingHistoryRow> findRowsByIdIn(@Param("ids") Collection<Long> ids, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -1,77 +1,254 @@
 package com.stockmate.information.api.order.service;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stockmate.information.api.order.dto.ExternalApiResponseDTO;
+import com.stockmate.information.api.order.dto.LookupResultDTO;
+import com.stockmate.information.api.order.dto.PartDetailDTO;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PartsApiService {
 
+    private static final ParameterizedTypeReference<ExternalApiResponseDTO<List<PartDetailDTO>>> PART_DETAILS_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    @Qualifier("partsWebClient")
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
 
     @Value("${parts.server.url}")
     private String partsServerUrl;
 
+    @Value("${parts.server.detail-chunk-size:100}")
+    private int detailChunkSize; // 한 번의 요청에 담을 최대 부품 ID 수
+
+    @Value("${parts.server.detail-parallelism:4}")
+    private int detailParallelism; // 동시에 보낼 수 있는 청크 요청 수
+
+    @Value("${parts.cache.maximum-size:10000}")
+    private long cacheMaximumSize; // 캐시에 보관할 최대 부품 수
+
+    @Value("${parts.cache.expire-after-write:PT30M}")
+    private Duration cacheExpireAfterWrite; // 저장 후 만료 시간
+
+    @Value("${parts.cache.refresh-after-write:PT10M}")
+    private Duration cacheRefreshAfterWrite; // 조회가 계속되는 부품의 백그라운드 갱신 주기
+
+    @Value("${parts.cache.negative-ttl:PT1M}")
+    private Duration cacheNegativeTtl; // Parts 서버에 없는 부품 ID의 캐시 유지 시간
+
+    // 부품 ID -> 부품 상세 정보 (Optional.empty() 는 Parts 서버에 존재하지 않는 부품)
+    private LoadingCache<Long, Optional<PartDetailDTO>> partDetailCache;
+
+    // Parts 서버 장애 시 즉시 실패 처리 (resilience4j.circuitbreaker.instances.parts.*)
+    private CircuitBreaker circuitBreaker;
+
+    // Parts 서버 동시 호출 수 제한 (resilience4j.bulkhead.instances.parts.*)
+    private Bulkhead bulkhead;
+
+    // 동시에 들어온 같은 부품 ID 조회를 하나의 요청으로 합침
+    private RequestCoalescer<Long, Optional<PartDetailDTO>> partDetailCoalescer;
+
+    @PostConstruct
+    void initPartDetailCache() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("parts");
+        bulkhead = bulkheadRegistry.bulkhead("parts");
+        partDetailCoalescer = new RequestCoalescer<>("parts",
+                partIds -> fetchPartDetails(partIds).doOnNext(partDetailCache::putAll), meterRegistry);
+
+        partDetailCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<Long, Optional<PartDetailDTO>>() {
+                    @Override
+                    public long expireAfterCreate(Long partId, Optional<PartDetailDTO> partDetail, long currentTime) {
+                        return (partDetail.isPresent() ? cacheExpireAfterWrite : cacheNegativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long partId, Optional<PartDetailDTO> partDetail, long currentTime, long currentDuration) {
+                        return expireAfterCreate(partId, partDetail, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long partId, Optional<PartDetailDTO> partDetail, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .refreshAfterWrite(cacheRefreshAfterWrite)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Optional<PartDetailDTO> load(Long partId) {
+                        return fetchPartDetails(List.of(partId)).block().get(partId); // 조회 실패 시 null (캐시하지 않음)
+                    }
+
+                    // 백그라운드 갱신은 요청 스레드를 점유하지 않도록 논블로킹으로 수행 (실패 시 기존 값 유지)
+                    @Override
+                    public CompletableFuture<Optional<PartDetailDTO>> asyncReload(
+                            Long partId, Optional<PartDetailDTO> oldValue, Executor executor) {
+                        return partDetailCoalescer.load(List.of(partId))
+                                .mapNotNull(partDetails -> partDetails.get(partId))
+                                .defaultIfEmpty(oldValue)
+                                .toFuture();
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, partDetailCache, "partDetails");
+    }
+
     /**
      * Parts 서버에서 부품 상세 정보를 조회합니다.
-     * 
+     * 캐시에 없는 부품 ID만 Parts 서버로 요청하며, 중복된 부품 ID는 제거됩니다.
+     * 다른 요청이 이미 조회 중인 부품 ID는 새로 요청하지 않고 진행 중인 요청의 결과를 함께 사용합니다.
+     *
      * @param partIds 조회할 부품 ID 목록
      * @return 부품 ID를 키로 하는 부품 상세 정보 Map
      */
-    public Map<Long, Map<String, Object>> getPartDetails(List<Long> partIds) {
+    public Map<Long, PartDetailDTO> getPartDetails(Collection<Long> partIds) {
+        return getPartDetailsMono(partIds).block().getValues();
+    }
+
+    /**
+     * Parts 서버에서 부품 상세 정보를 논블로킹으로 조회합니다.
+     * 다른 외부 호출과 함께 조합하여 동시에 실행할 수 있도록 Mono 로 반환합니다.
+     * 서킷이 열려 있거나 요청이 실패한 경우 캐시된 정보만으로 응답하며 partial 로 표시됩니다.
+     *
+     * @param partIds 조회할 부품 ID 목록
+     * @return 부품 ID를 키로 하는 부품 상세 정보 조회 결과를 발행하는 Mono
+     */
+    public Mono<LookupResultDTO<Long, PartDetailDTO>> getPartDetailsMono(Collection<Long> partIds) {
         if (partIds == null || partIds.isEmpty()) {
             log.warn("부품 ID 목록이 비어있습니다.");
-            return new HashMap<>();
+            return Mono.just(LookupResultDTO.empty());
         }
 
-        try {
-            log.info("Parts 서버 부품 상세 정보 조회 시작 - Part IDs: {}", partIds);
-
-            // POST 방식으로 부품 ID 배열 전송
-            String response = webClient.post()
-                    .uri(partsServerUrl + "/api/v1/parts/detail")
-                    .bodyValue(partIds)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            // JSON 파싱
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.JsonNode rootNode = objectMapper.readTree(response);
-            com.fasterxml.jackson.databind.JsonNode dataNode = rootNode.get("data");
-
-            Map<Long, Map<String, Object>> partDetailsMap = new HashMap<>();
-
-            // data는 배열 형태
-            if (dataNode != null && dataNode.isArray()) {
-                for (com.fasterxml.jackson.databind.JsonNode partNode : dataNode) {
-                    try {
-                        Long partId = partNode.get("id").asLong();
-                        Map<String, Object> partDetail = objectMapper.convertValue(
-                                partNode,
-                                new com.fasterxml.jackson.core.type.TypeReference<Map<String, Object>>() {});
-                        partDetailsMap.put(partId, partDetail);
-                    } catch (Exception e) {
-                        log.error("부품 상세 정보 파싱 실패", e);
+        List<Long> distinctPartIds = partIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, Optional<PartDetailDTO>> cached = partDetailCache.getAllPresent(distinctPartIds);
+        List<Long> missingPartIds = distinctPartIds.stream()
+                .filter(partId -> !cached.containsKey(partId))
+                .toList();
+
+        Mono<Map<Long, Optional<PartDetailDTO>>> fetched = missingPartIds.isEmpty()
+                ? Mono.just(Map.of())
+                : partDetailCoalescer.load(missingPartIds);
+
+        return fetched.map(loaded -> {
+            Map<Long, PartDetailDTO> partDetailsMap = new HashMap<>();
+            cached.forEach((partId, partDetail) -> partDetail.ifPresent(detail -> partDetailsMap.put(partId, detail)));
+            loaded.forEach((partId, partDetail) -> partDetail.ifPresent(detail -> partDetailsMap.put(partId, detail)));
+            // 조회에 실패한 청크의 부품 ID는 결과에 없음
+            return LookupResultDTO.of(partDetailsMap, !loaded.keySet().containsAll(missingPartIds));
+        });
+    }
+
+    /**
+     * 부품 상세 정보 캐시의 적중/미스/제거 통계를 반환합니다.
+     */
+    public CacheStats getCacheStats() {
+        return partDetailCache.stats();
+    }
+
+    /**
+     * 캐시에 없는 부품 ID를 Parts 서버에서 논블로킹으로 조회합니다.
+     * 청크 크기를 넘는 경우 여러 요청으로 나누어 병렬로 조회하며,
+     * 응답에 없는 부품 ID는 Optional.empty() 로 채워 짧은 시간 동안 캐시되도록 합니다.
+     * 요청이 실패한 청크의 부품 ID는 결과에서 제외되어 캐시되지 않습니다.
+     */
+    private Mono<Map<Long, Optional<PartDetailDTO>>> fetchPartDetails(List<Long> partIds) {
+        List<List<Long>> chunks = partition(partIds, Math.max(detailChunkSize, 1));
+
+        log.info("Parts 서버 부품 상세 정보 조회 시작 - 부품 수: {}, 청크 수: {}", partIds.size(), chunks.size());
+
+        return Flux.fromIterable(chunks)
+                .flatMap(this::requestPartDetails, Math.max(detailParallelism, 1))
+                .collect(HashMap<Long, Optional<PartDetailDTO>>::new, Map::putAll)
+                .doOnNext(partDetailsMap -> log.info("Parts 서버 부품 상세 정보 조회 완료 - 조회된 부품 수: {}",
+                        partDetailsMap.values().stream().filter(Optional::isPresent).count()));
+    }
+
+    // 하나의 청크를 Parts 서버에 요청 (서킷 오픈/벌크헤드 초과/실패 시 결과 없이 완료)
+    private Mono<Map<Long, Optional<PartDetailDTO>>> requestPartDetails(List<Long> partIds) {
+        // POST 방식으로 부품 ID 배열 전송, 응답은 공용 코덱으로 스트림에서 바로 역직렬화
+        return webClient.post()
+                .uri(partsServerUrl + "/api/v1/parts/detail")
+                .bodyValue(partIds)
+                .retrieve()
+                .bodyToMono(PART_DETAILS_RESPONSE_TYPE)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(response -> {
+                    Map<Long, PartDetailDTO> found = new HashMap<>();
+                    if (response.getData() != null) {
+                        for (PartDetailDTO partDetail : response.getData()) {
+                            if (partDetail != null && partDetail.getId() != null) {
+                                found.put(partDetail.getId(), partDetail);
+                            }
+                        }
                     }
-                }
-            }
 
-            log.info("Parts 서버 부품 상세 정보 조회 완료 - 조회된 부품 수: {}", partDetailsMap.size());
-            return partDetailsMap;
+                    Map<Long, Optional<PartDetailDTO>> result = new HashMap<>();
+                    for (Long partId : partIds) {
+                        result.put(partId, Optional.ofNullable(found.get(partId)));
+                    }
+                    return result;
+                })
+                .onErrorResume(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    log.warn("Parts 서버 호출 차단 - 청크 크기: {}, 사유: {}", partIds.size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    log.error("Parts 서버 부품 상세 정보 조회 실패 - 청크 크기: {}, Error: {}", partIds.size(), e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
 
-        } catch (Exception e) {
-            log.error("Parts 서버 부품 상세 정보 조회 실패 - Error: {}", e.getMessage(), e);
-            return new HashMap<>();
+    private static <T> List<List<T>> partition(List<T> source, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < source.size(); i += size) {
+            chunks.add(source.subList(i, Math.min(i + size, source.size())));
         }
+        return chunks;
     }
 }
-
@@ -0,0 +1,605 @@
+package com.stockmate.information.api.order.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmate.information.api.order.archive.ArchivedHistory;
+import com.stockmate.information.api.order.archive.HistorySegment;
+import com.stockmate.information.api.order.archive.HistorySegmentWriter;
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursor;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 오래된 입출고 히스토리를 운영 DB 에서 로컬 디스크의 압축 세그먼트 파일(콜드 티어)로 옮기고, 목록 조회에 이어 붙일 수 있도록 조회합니다.
+ * 한 달치 파티션을 하나의 세그먼트 파일로 쓰고 검증한 뒤 DB 파티션을 삭제하므로, 콜드 티어의 히스토리는 항상 운영 DB 의 히스토리보다 오래되었습니다.
+ * 세그먼트는 조회 대상이 아닌 대기 파일로 쓰고 DB 파티션을 삭제한 뒤에만 게시하므로, 같은 월이 운영 DB 와 콜드 티어에서 함께 조회되지 않습니다.
+ * 여러 인스턴스가 같은 세그먼트를 읽어야 하므로 디렉터리는 모든 인스턴스가 공유하는 볼륨이어야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryColdTierService {
+
+    private static final String SEGMENT_PREFIX = "receiving-history-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String PENDING_SUFFIX = ".pending"; // DB 파티션 삭제 전 세그먼트 (조회 대상 아님)
+    private static final DateTimeFormatter SEGMENT_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int CREATED_AT_ENTRY_BYTES = 64; // 생성 시각 하나의 대략적인 힙 크기 (캐시 가중치)
+
+    private static final Comparator<ArchivedHistory> NEWEST_FIRST =
+            Comparator.comparing(ArchivedHistory::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(ArchivedHistory::getId, Comparator.reverseOrder());
+
+    private final ReceivingHistoryPartitionService receivingHistoryPartitionService;
+    private final ReceivingHistoryItemSnapshotService receivingHistoryItemSnapshotService;
+    private final ReceivingHistoryCountService receivingHistoryCountService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${history.cold-tier.enabled:false}")
+    private boolean enabled;
+
+    @Value("${history.cold-tier.directory:/var/lib/information/history-segments}")
+    private String directory; // 세그먼트 파일 디렉터리 (인스턴스 간 공유 볼륨)
+
+    @Value("${history.cold-tier.min-age-months:12}")
+    private int minAgeMonths; // 이 개월 수보다 오래된 월 파티션을 콜드 티어로 이동 (현재 월 제외)
+
+    @Value("${history.cold-tier.cache-max-bytes:67108864}")
+    private long cacheMaxBytes; // 압축을 푼 행 그룹을 보관할 최대 크기
+
+    @Value("${history.cold-tier.tiering.chunk-size:1000}")
+    private int tieringChunkSize; // 파티션을 세그먼트로 옮길 때 한 번에 읽는 히스토리 수
+
+    // 최신 월부터 정렬된 세그먼트 (다른 인스턴스가 추가한 세그먼트는 주기적으로 다시 읽음)
+    private volatile List<HistorySegment> segments = List.of();
+
+    // (세그먼트, 행 그룹) -> 압축을 푼 행 (파일 순서)
+    private Cache<SegmentGroup, List<ArchivedHistory>> decodedGroups;
+
+    // (세그먼트, 행 그룹) -> 압축을 푼 생성 시각 열 (기간 경계 이진 탐색용)
+    private Cache<SegmentGroup, LocalDateTime[]> decodedCreatedAt;
+
+    private record SegmentGroup(HistorySegment segment, int group) {
+    }
+
+    @PostConstruct
+    void initColdTier() {
+        decodedGroups = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((SegmentGroup key, List<ArchivedHistory> rows) ->
+                        (int) Math.min(Integer.MAX_VALUE, key.segment().getGroupDecodedSize(key.group())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, decodedGroups, "historySegments");
+
+        // 생성 시각 열은 행당 수십 바이트이므로 행 그룹 캐시의 1/4 크기로 제한
+        decodedCreatedAt = Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, cacheMaxBytes / 4))
+                .weigher((SegmentGroup key, LocalDateTime[] createdAt) -> createdAt.length * CREATED_AT_ENTRY_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, decodedCreatedAt, "historySegmentCreatedAt");
+
+        if (enabled) {
+            refreshSegments();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 가맹점의 콜드 티어 히스토리 조회 조건을 만듭니다.
+     */
+    public Query byMemberId(Long memberId, ReceivingHistoryDateRange range) {
+        return new Query(memberId, null, range);
+    }
+
+    /**
+     * 주문의 콜드 티어 히스토리 조회 조건을 만듭니다.
+     */
+    public Query byOrderNumber(String orderNumber, ReceivingHistoryDateRange range) {
+        return new Query(null, orderNumber, range);
+    }
+
+    /**
+     * 콜드 티어 조회 조건. 결과는 목록 조회와 같은 생성 시각/ID 내림차순입니다. (콜드 티어가 꺼져 있으면 항상 비어 있음)
+     * 가맹점 조회는 가맹점 디렉터리의 행 범위에서 기간 경계를 생성 시각 열로 이진 탐색하여 필요한 행 그룹만 풀고,
+     * 주문 조회는 주문 색인의 후보 행이 속한 행 그룹만 풉니다.
+     */
+    public final class Query {
+
+        private final Long memberId;
+        private final String orderNumber;
+        private final ReceivingHistoryDateRange range;
+
+        private Query(Long memberId, String orderNumber, ReceivingHistoryDateRange range) {
+            this.memberId = memberId;
+            this.orderNumber = orderNumber;
+            this.range = range;
+        }
+
+        public long count() {
+            long count = 0;
+            for (HistorySegment segment : overlappingSegments()) {
+                if (memberId != null) {
+                    int[] rows = memberRange(segment);
+                    count += rows[1] - rows[0];
+                } else {
+                    count += orderRows(segment).size();
+                }
+            }
+            return count;
+        }
+
+        public List<ArchivedHistory> page(long offset, int limit) {
+            List<ArchivedHistory> page = new ArrayList<>();
+            long skip = offset;
+            for (HistorySegment segment : overlappingSegments()) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                // 앞쪽 세그먼트는 건수만 세어 건너뜀
+                if (memberId != null) {
+                    int[] rows = memberRange(segment);
+                    if (skip >= rows[1] - rows[0]) {
+                        skip -= rows[1] - rows[0];
+                        continue;
+                    }
+                    for (int row = rows[0] + (int) skip; row < rows[1] && page.size() < limit; row++) {
+                        page.add(row(segment, row));
+                    }
+                } else {
+                    List<ArchivedHistory> rows = orderRows(segment);
+                    if (skip >= rows.size()) {
+                        skip -= rows.size();
+                        continue;
+                    }
+                    rows.stream().skip(skip).limit(limit - page.size()).forEach(page::add);
+                }
+                skip = 0;
+            }
+            return page;
+        }
+
+        // 커서 이후 (커서가 null 이면 처음부터)
+        public List<ArchivedHistory> after(ReceivingHistoryCursor cursor, int limit) {
+            List<ArchivedHistory> result = new ArrayList<>();
+            for (HistorySegment segment : overlappingSegments()) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (memberId != null) {
+                    int[] rows = memberRange(segment);
+                    int row = cursor == null ? rows[0] : firstRowAfter(segment, rows[0], rows[1], cursor);
+                    for (; row < rows[1] && result.size() < limit; row++) {
+                        result.add(row(segment, row));
+                    }
+                } else {
+                    orderRows(segment).stream()
+                            .filter(row -> isAfter(row, cursor))
+                            .limit(limit - result.size())
+                            .forEach(result::add);
+                }
+            }
+            return result;
+        }
+
+        // 가맹점의 행 중 기간 조건에 맞는 연속 범위 {시작 행, 끝 행(미포함)}
+        private int[] memberRange(HistorySegment segment) {
+            int[] memberRows = segment.findMemberRows(memberId);
+            if (memberRows == null) {
+                return new int[]{0, 0};
+            }
+            int first = memberRows[0];
+            int last = memberRows[0] + memberRows[1];
+            // 세그먼트 전체가 기간 안이면 열 데이터를 풀지 않고 가맹점 디렉터리의 범위를 그대로 사용
+            if (!segment.getMinCreatedAt().isBefore(range.getFrom()) && segment.getMaxCreatedAt().isBefore(range.getTo())) {
+                return new int[]{first, last};
+            }
+            // 생성 시각 내림차순이므로 종료 시각 이후의 행이 앞에, 시작 시각 이전의 행이 뒤에 모여 있음
+            int start = firstRow(segment, first, last, createdAt -> createdAt.isBefore(range.getTo()));
+            int end = firstRow(segment, start, last, createdAt -> createdAt.isBefore(range.getFrom()));
+            return new int[]{start, end};
+        }
+
+        // 커서 다음 행 - 커서보다 최근인 행은 생성 시각으로 건너뛰고, 생성 시각이 같은 행은 ID 로 비교
+        private int firstRowAfter(HistorySegment segment, int start, int end, ReceivingHistoryCursor cursor) {
+            int row = firstRow(segment, start, end, createdAt -> !createdAt.isAfter(cursor.getCreatedAt()));
+            while (row < end && !isAfter(row(segment, row), cursor)) {
+                row++;
+            }
+            return row;
+        }
+
+        // 주문 색인의 후보 행이 속한 행 그룹만 풀어 조건에 맞는 행을 생성 시각/ID 내림차순으로 반환
+        private List<ArchivedHistory> orderRows(HistorySegment segment) {
+            List<ArchivedHistory> rows = new ArrayList<>();
+            for (int row : segment.findOrderRows(orderNumber)) {
+                ArchivedHistory history = row(segment, row);
+                if (orderNumber.equals(history.getOrderNumber())
+                        && !history.getCreatedAt().isBefore(range.getFrom()) && history.getCreatedAt().isBefore(range.getTo())) {
+                    rows.add(history);
+                }
+            }
+            rows.sort(NEWEST_FIRST);
+            return rows;
+        }
+
+        // 세그먼트의 행은 모두 세그먼트 월의 다음 달 이전에 생성됨 (가장 오래된 파티션은 그 이전 전체를 포함)
+        private List<HistorySegment> overlappingSegments() {
+            if (!enabled) {
+                return List.of();
+            }
+            return segments.stream()
+                    .filter(segment -> segment.getRowCount() > 0)
+                    .filter(segment -> segment.getMonth().plusMonths(1).atDay(1).atStartOfDay().isAfter(range.getFrom()))
+                    .filter(segment -> segment.getMinCreatedAt().isBefore(range.getTo()))
+                    .toList();
+        }
+    }
+
+    private static boolean isAfter(ArchivedHistory row, ReceivingHistoryCursor cursor) {
+        return cursor == null || row.getCreatedAt().isBefore(cursor.getCreatedAt())
+                || (row.getCreatedAt().isEqual(cursor.getCreatedAt()) && row.getId() < cursor.getId());
+    }
+
+    // [low, high) 에서 조건을 처음 만족하는 행 (조건은 생성 시각 내림차순에서 false 다음 true 로 한 번만 바뀌어야 함)
+    private int firstRow(HistorySegment segment, int low, int high, Predicate<LocalDateTime> condition) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(createdAt(segment, mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private LocalDateTime createdAt(HistorySegment segment, int row) {
+        int group = segment.groupOf(row);
+        LocalDateTime[] createdAt = decodedCreatedAt.get(new SegmentGroup(segment, group), key -> {
+            // 행 그룹 전체가 이미 풀려 있으면 열을 다시 풀지 않음
+            List<ArchivedHistory> rows = decodedGroups.getIfPresent(key);
+            if (rows != null) {
+                return rows.stream().map(ArchivedHistory::getCreatedAt).toArray(LocalDateTime[]::new);
+            }
+            try {
+                return segment.readCreatedAt(group);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return createdAt[row - segment.groupStart(group)];
+    }
+
+    private ArchivedHistory row(HistorySegment segment, int row) {
+        int group = segment.groupOf(row);
+        List<ArchivedHistory> rows = decodedGroups.get(new SegmentGroup(segment, group), key -> {
+            try {
+                return segment.readGroup(group);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows.get(row - segment.groupStart(group));
+    }
+
+    // 디렉터리의 세그먼트 파일을 다시 읽음 (다른 인스턴스가 이동한 월 반영)
+    @Scheduled(fixedDelayString = "${history.cold-tier.refresh-interval:PT5M}")
+    public void refreshSegments() {
+        if (!enabled) {
+            return;
+        }
+
+        Path root = Paths.get(directory);
+        Map<Path, HistorySegment> current = new HashMap<>();
+        segments.forEach(segment -> current.put(segment.getPath(), segment));
+
+        List<HistorySegment> refreshed = new ArrayList<>();
+        List<Long> publishedMemberIds = new ArrayList<>();
+        try {
+            Files.createDirectories(root);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(root, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                for (Path file : files) {
+                    HistorySegment segment = current.get(file);
+                    if (segment == null) {
+                        segment = openSegment(file);
+                        if (segment != null) {
+                            Arrays.stream(segment.getMemberIds()).forEach(publishedMemberIds::add);
+                        }
+                    }
+                    if (segment != null) {
+                        refreshed.add(segment);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("콜드 티어 세그먼트 목록 갱신 실패 - 디렉터리: {}, Error: {}", directory, e.getMessage(), e);
+            return;
+        }
+
+        refreshed.sort(Comparator.comparing(HistorySegment::getMonth).reversed());
+        boolean changed = refreshed.size() != segments.size();
+        segments = List.copyOf(refreshed);
+        // 새로 게시된 월은 운영 DB 에서 삭제되었으므로, 삭제 전에 센 해당 가맹점의 건수에 콜드 티어 건수를 더하면 중복 집계됨
+        if (!publishedMemberIds.isEmpty()) {
+            receivingHistoryCountService.invalidateMemberCounts(publishedMemberIds);
+        }
+        if (changed) {
+            log.info("콜드 티어 세그먼트 목록 갱신 - 세그먼트 수: {}", refreshed.size());
+        }
+    }
+
+    // 보관 기간이 지난 월 파티션을 오래된 순으로 세그먼트 파일로 옮김
+    @Scheduled(cron = "${history.cold-tier.tiering.cron:0 30 4 * * *}")
+    public void tier() {
+        if (!enabled) {
+            return;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(minAgeMonths);
+        receivingHistoryPartitionService.runExclusively(session -> {
+            publishPendingSegments(session);
+            List<YearMonth> months = receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history");
+            for (YearMonth month : months) {
+                if (!month.isBefore(cutoff) || !tierMonth(session, month)) {
+                    break;
+                }
+            }
+        });
+        refreshSegments();
+    }
+
+    /**
+     * 이전 이동이 DB 파티션 삭제와 게시 사이에 중단되어 남은 대기 세그먼트를 정리합니다.
+     * 히스토리 파티션이 이미 삭제된 월은 세그먼트에만 남아 있으므로 남은 아이템 파티션을 삭제하고 게시하며,
+     * 아직 파티션이 있는 월은 대기 세그먼트를 지우고 이번 이동에서 다시 씁니다.
+     */
+    void publishPendingSegments(JdbcTemplate session) {
+        Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> pendingFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX + PENDING_SUFFIX)) {
+            files.forEach(pendingFiles::add);
+        } catch (IOException e) {
+            log.error("콜드 티어 대기 세그먼트 목록 조회 실패 - 디렉터리: {}, Error: {}", directory, e.getMessage(), e);
+            return;
+        }
+        if (pendingFiles.isEmpty()) {
+            return;
+        }
+
+        List<YearMonth> historyMonths = receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history");
+        List<YearMonth> itemMonths = receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history_item");
+        for (Path pending : pendingFiles) {
+            HistorySegment segment = openSegment(pending);
+            if (segment == null || historyMonths.contains(segment.getMonth())) {
+                log.info("콜드 티어 대기 세그먼트 삭제 - 파일: {}", pending);
+                deleteSegment(pending);
+                continue;
+            }
+
+            YearMonth month = segment.getMonth();
+            if (itemMonths.contains(month)) {
+                session.execute("ALTER TABLE receiving_history_item DROP PARTITION "
+                        + month.format(ReceivingHistoryPartitionService.PARTITION_NAME_FORMAT));
+            }
+            log.info("콜드 티어 대기 세그먼트 게시 - 파일: {}", pending);
+            publishSegment(pending, segmentPath(month));
+        }
+    }
+
+    // 한 달치 파티션을 청크 단위로 읽어 대기 세그먼트로 쓰고, 다시 열어 파티션의 건수와 비교한 뒤 DB 파티션을 삭제하고 게시
+    private boolean tierMonth(JdbcTemplate session, YearMonth month) {
+        String partition = month.format(ReceivingHistoryPartitionService.PARTITION_NAME_FORMAT);
+        log.info("콜드 티어 이동 시작 - 파티션: {}", partition);
+
+        Path target = segmentPath(month);
+        Path pending = target.resolveSibling(target.getFileName() + PENDING_SUFFIX);
+        HistorySegment written;
+        try {
+            Files.createDirectories(target.getParent());
+            try (HistorySegmentWriter writer = HistorySegmentWriter.create(pending, month)) {
+                if (!copyPartition(session, partition, writer)) {
+                    return false;
+                }
+                writer.finish();
+            }
+            written = HistorySegment.open(pending);
+        } catch (IOException e) {
+            log.error("콜드 티어 세그먼트 쓰기 실패 - 파티션: {}, 파일: {}, Error: {}", partition, pending, e.getMessage(), e);
+            return false;
+        }
+
+        long historyCount = session.queryForObject("SELECT COUNT(*) FROM receiving_history PARTITION (" + partition + ")", Long.class);
+        long itemCount = session.queryForObject("SELECT COUNT(*) FROM receiving_history_item PARTITION (" + partition + ")", Long.class);
+        if (written.getRowCount() != historyCount || written.getItemCount() != itemCount) {
+            log.error("콜드 티어 세그먼트 검증 실패 - 파티션: {}, 히스토리 수: {}/{}, 아이템 수: {}/{}",
+                    partition, written.getRowCount(), historyCount, written.getItemCount(), itemCount);
+            deleteSegment(pending);
+            return false;
+        }
+
+        // 히스토리를 먼저 삭제하여 목록 조회에서 아이템만 없는 히스토리가 보이지 않도록 함
+        // 삭제 중 실패하거나 인스턴스가 죽으면 대기 세그먼트가 남고, 다음 이동 시작 시 파티션 상태를 보고 게시하거나 지움
+        session.execute("ALTER TABLE receiving_history DROP PARTITION " + partition);
+        session.execute("ALTER TABLE receiving_history_item DROP PARTITION " + partition);
+        if (!publishSegment(pending, target)) {
+            return false;
+        }
+        int deleted = session.update("DELETE FROM receiving_history_approval_attempt WHERE history_created_at < ?",
+                month.plusMonths(1).atDay(1).atStartOfDay());
+
+        log.info("콜드 티어 이동 완료 - 파티션: {}, 히스토리 수: {}, 아이템 수: {}, 파일 크기: {}, 정리된 승인 시도 수: {}",
+                partition, historyCount, itemCount, sizeOf(target), deleted);
+        return true;
+    }
+
+    // 파티션을 가맹점별로 생성 시각/ID 내림차순(세그먼트 행 순서) 청크로 읽어 세그먼트에 추가 (한 번에 한 청크만 메모리에 둠)
+    private boolean copyPartition(JdbcTemplate session, String partition, HistorySegmentWriter writer) throws IOException {
+        List<Long> memberIds = session.queryForList(
+                "SELECT DISTINCT member_id FROM receiving_history PARTITION (" + partition + ") ORDER BY member_id", Long.class);
+        for (Long memberId : memberIds) {
+            ArchivedHistory last = null;
+            while (true) {
+                List<ArchivedHistory> chunk = loadChunk(session, partition, memberId, last);
+                if (chunk == null) {
+                    return false;
+                }
+                for (ArchivedHistory history : chunk) {
+                    writer.append(history);
+                }
+                if (chunk.size() < tieringChunkSize) {
+                    break;
+                }
+                last = chunk.get(chunk.size() - 1);
+            }
+        }
+        return true;
+    }
+
+    private record PartitionItem(long id, long historyId, long partId, int quantity, PartSnapshot partSnapshot) {
+    }
+
+    // 가맹점의 히스토리를 이전 청크의 마지막 행 다음부터 읽음 (가맹점 + 생성 시각 인덱스를 역순으로 탐색)
+    // 아이템은 청크의 히스토리 ID 로 읽고, 부품 스냅샷이 없는 아이템은 채우며, 채우지 못하면 null
+    private List<ArchivedHistory> loadChunk(JdbcTemplate session, String partition, Long memberId, ArchivedHistory last) {
+        String historySql = "SELECT * FROM receiving_history PARTITION (" + partition + ") WHERE member_id = ?" +
+                (last == null ? "" : " AND (created_at < ? OR (created_at = ? AND id < ?))") +
+                " ORDER BY created_at DESC, id DESC LIMIT ?";
+        Object[] historyArgs = last == null
+                ? new Object[]{memberId, tieringChunkSize}
+                : new Object[]{memberId, last.getCreatedAt(), last.getCreatedAt(), last.getId(), tieringChunkSize};
+        List<ArchivedHistory> histories = session.query(historySql, (rs, rowNum) -> ArchivedHistory.builder()
+                .id(rs.getLong("id"))
+                .memberId(rs.getLong("member_id"))
+                .orderId(rs.getObject("order_id", Long.class))
+                .orderNumber(rs.getString("order_number"))
+                .approvalAttemptId(rs.getString("approval_attempt_id"))
+                .message(rs.getString("message"))
+                .status(rs.getString("status"))
+                .type(rs.getString("type"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build(), historyArgs);
+        if (histories.isEmpty()) {
+            return histories;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(histories.size(), "?"));
+        List<PartitionItem> partitionItems = session.query(
+                "SELECT * FROM receiving_history_item PARTITION (" + partition + ") WHERE history_id IN (" + placeholders + ") " +
+                "ORDER BY history_id, id",
+                (rs, rowNum) -> {
+                    LocalDateTime capturedAt = rs.getObject("part_snapshot_at", LocalDateTime.class);
+                    PartSnapshot snapshot = capturedAt == null ? null : new PartSnapshot(
+                            rs.getString("part_name"), rs.getObject("part_price", Integer.class), rs.getString("part_image"),
+                            rs.getString("part_trim"), rs.getString("part_model"), rs.getObject("part_category", Integer.class),
+                            rs.getString("part_kor_name"), rs.getString("part_eng_name"), rs.getString("part_category_name"),
+                            rs.getObject("part_amount", Integer.class), rs.getString("part_code"), rs.getString("part_location"),
+                            rs.getObject("part_cost", Integer.class), capturedAt);
+                    return new PartitionItem(
+                            rs.getLong("id"), rs.getLong("history_id"), rs.getLong("part_id"), rs.getInt("quantity"), snapshot);
+                },
+                histories.stream().map(ArchivedHistory::getId).toArray());
+
+        // 콜드 티어에서는 Parts 서버를 호출하지 않도록 스냅샷이 없는 아이템은 이동 전에 채움
+        Map<Long, PartSnapshot> captured = receivingHistoryItemSnapshotService.capture(partitionItems.stream()
+                .filter(item -> item.partSnapshot() == null)
+                .map(PartitionItem::partId)
+                .toList());
+
+        Map<Long, List<ArchivedHistory.Item>> itemsByHistory = new HashMap<>();
+        for (PartitionItem item : partitionItems) {
+            PartSnapshot snapshot = item.partSnapshot() != null ? item.partSnapshot() : captured.get(item.partId());
+            if (snapshot == null) {
+                log.warn("부품 스냅샷을 채우지 못해 콜드 티어 이동 보류 - 파티션: {}, 부품 ID: {}", partition, item.partId());
+                return null;
+            }
+            itemsByHistory.computeIfAbsent(item.historyId(), historyId -> new ArrayList<>()).add(ArchivedHistory.Item.builder()
+                    .id(item.id())
+                    .partId(item.partId())
+                    .quantity(item.quantity())
+                    .partSnapshot(snapshot)
+                    .build());
+        }
+
+        return histories.stream()
+                .map(history -> history.toBuilder().items(itemsByHistory.getOrDefault(history.getId(), List.of())).build())
+                .toList();
+    }
+
+    private Path segmentPath(YearMonth month) {
+        return Paths.get(directory, SEGMENT_PREFIX + month.format(SEGMENT_MONTH_FORMAT) + SEGMENT_SUFFIX);
+    }
+
+    // 대기 세그먼트를 조회 대상 이름으로 원자적으로 옮김 (실패하면 대기 파일이 남아 다음 이동에서 다시 게시)
+    private boolean publishSegment(Path pending, Path target) {
+        try {
+            Files.move(pending, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            log.error("콜드 티어 세그먼트 게시 실패 - 파일: {}, Error: {}", pending, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // 읽을 수 없는 파일(이전 형식 등)은 건너뛰어 다른 세그먼트 조회에 영향을 주지 않음
+    private HistorySegment openSegment(Path file) {
+        try {
+            return HistorySegment.open(file);
+        } catch (IOException e) {
+            log.error("콜드 티어 세그먼트 열기 실패 - 파일: {}, Error: {}", file, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void deleteSegment(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("콜드 티어 세그먼트 삭제 실패 - 파일: {}, Error: {}", file, e.getMessage(), e);
+        }
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.stockmate.information.api.order.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입출고 히스토리 목록의 전체 건수를 요청 경로 밖에서 관리합니다.
+ * 전체 건수와 가맹점별 건수는 주기적으로 다시 계산되며, 그 사이에는 등록 시점에 증가시켜 유지합니다.
+ * 가맹점별 건수는 처음 조회할 때만 계산을 기다리고, 이후에는 기존 값으로 응답하면서 별도 스레드에서 다시 계산합니다.
+ * 여러 인스턴스에서 등록된 건수는 다음 갱신 시점에 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryCountService {
+
+    private final ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+
+    @Value("${history.count.refresh-interval:PT5M}")
+    private Duration refreshInterval; // 가맹점별 건수 재계산 주기
+
+    @Value("${history.count.member-cache-size:10000}")
+    private long memberCacheSize; // 건수를 보관할 최대 가맹점 수
+
+    @Value("${history.count.refresh-threads:2}")
+    private int refreshThreads; // 가맹점별 COUNT 쿼리를 동시에 실행할 최대 스레드 수
+
+    private final AtomicLong totalCount = new AtomicLong(-1);
+
+    // 가맹점 ID -> 히스토리 건수 (계산 중인 가맹점은 완료되지 않은 Future)
+    private AsyncLoadingCache<Long, AtomicLong> memberCounts;
+
+    // 가맹점별 COUNT 쿼리 실행 스레드 (요청 스레드와 공용 풀을 DB 응답 대기로 점유하지 않도록 분리)
+    private ExecutorService countExecutor;
+
+    @PostConstruct
+    void initMemberCounts() {
+        countExecutor = Executors.newFixedThreadPool(refreshThreads);
+        memberCounts = Caffeine.newBuilder()
+                .maximumSize(memberCacheSize)
+                .refreshAfterWrite(refreshInterval)
+                .executor(countExecutor)
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<AtomicLong> asyncLoad(Long memberId, Executor executor) {
+                        return CompletableFuture.supplyAsync(
+                                () -> new AtomicLong(receivingOrderHistoryRepository.countByMemberId(memberId)), executor);
+                    }
+
+                    // 다시 계산하는 동안 반영된 증가분을 잃지 않도록 기존 값 객체에 (새 건수 - 계산 시작 시점 값) 을 더해 그대로 사용
+                    // 계산 시작 직전에 커밋된 등록은 COUNT 와 증가분에 함께 들어갈 수 있으나 다음 갱신에서 바로잡힘 (실패 시 기존 값 유지)
+                    @Override
+                    public CompletableFuture<AtomicLong> asyncReload(Long memberId, AtomicLong oldValue, Executor executor) {
+                        return CompletableFuture.supplyAsync(() -> {
+                            long before = oldValue.get();
+                            long count = receivingOrderHistoryRepository.countByMemberId(memberId);
+                            oldValue.addAndGet(count - before);
+                            return oldValue;
+                        }, executor);
+                    }
+                });
+    }
+
+    @PreDestroy
+    void shutdownCountExecutor() {
+        countExecutor.shutdownNow();
+    }
+
+    /**
+     * 전체 히스토리 건수를 반환합니다. 아직 계산되지 않은 경우에만 COUNT 쿼리를 실행합니다.
+     */
+    public long getTotalCount() {
+        long count = totalCount.get();
+        if (count < 0) {
+            refreshTotalCount();
+            count = totalCount.get();
+        }
+        return count;
+    }
+
+    /**
+     * 가맹점별 히스토리 건수를 반환합니다.
+     * 캐시에 없는 가맹점만 COUNT 결과를 기다리며, 갱신 주기가 지난 값은 그대로 반환하고 백그라운드에서 다시 계산합니다.
+     * 같은 가맹점을 동시에 조회하면 하나의 COUNT 쿼리 결과를 함께 기다립니다.
+     */
+    public long getMemberCount(Long memberId) {
+        try {
+            return memberCounts.get(memberId).join().get();
+        } catch (CompletionException e) {
+            // COUNT 쿼리 실패는 요청 스레드에서 실행했을 때와 같은 예외로 전달 (실패한 계산은 캐시에 남지 않음)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 가맹점별 건수를 버립니다. 콜드 티어 이동처럼 운영 DB 의 히스토리가 한 번에 빠지는 경우 해당 가맹점에 대해 호출합니다.
+     * 기존 값으로 응답하면서 다시 계산하면 그동안 옮겨진 히스토리가 콜드 티어 건수와 중복 집계되므로 버리고 새로 계산합니다.
+     */
+    public void invalidateMemberCounts(Collection<Long> memberIds) {
+        memberCounts.synchronous().invalidateAll(memberIds);
+    }
+
+    /**
+     * 히스토리 등록 시 전체 및 가맹점별 건수를 증가시킵니다.
+     * 트랜잭션 안에서 호출된 경우 커밋된 이후에만 반영됩니다.
+     */
+    public void increment(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyIncrement(memberId);
+                }
+            });
+            return;
+        }
+        applyIncrement(memberId);
+    }
+
+    private void applyIncrement(Long memberId) {
+        totalCount.updateAndGet(count -> count < 0 ? count : count + 1);
+
+        // 처음 계산 중인 가맹점은 계산이 끝난 값에 더함 (다시 계산 중인 가맹점은 기존 값 객체에 더하면 새 값에 이어짐)
+        CompletableFuture<AtomicLong> memberCount = memberCounts.getIfPresent(memberId);
+        if (memberCount != null) {
+            memberCount.thenAccept(AtomicLong::incrementAndGet);
+        }
+    }
+
+    // 전체 건수 주기적 재계산
+    @Scheduled(fixedDelayString = "${history.count.refresh-interval:PT5M}")
+    public void refreshTotalCount() {
+        long count = receivingOrderHistoryRepository.count();
+        totalCount.set(count);
+        log.info("입출고 히스토리 전체 건수 갱신 - 건수: {}", count);
+    }
+}
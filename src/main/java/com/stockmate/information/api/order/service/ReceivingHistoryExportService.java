@@ -0,0 +1,164 @@
+package com.stockmate.information.api.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.information.api.order.dto.PartDetailDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import com.stockmate.information.api.order.dto.ReceivingHistoryExportFormat;
+import com.stockmate.information.api.order.dto.ReceivingHistoryExportRowDTO;
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 입출고 히스토리를 NDJSON/CSV 로 내보냅니다.
+ * DB 결과를 순방향 스트림으로 읽고, 일정 행 수마다 부품 정보를 채워 응답에 바로 쓰므로
+ * 내보내는 기간과 관계없이 메모리 사용량은 한 배치 크기로 유지됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryExportService {
+
+    private static final String CSV_HEADER = "historyId,memberId,orderId,orderNumber,type,status,message,createdAt," +
+            "partId,quantity,partName,partCode,partKorName,partCategoryName,partPrice";
+
+    private final ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+    private final PartsApiService partsApiService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${history.export.batch-size:500}")
+    private int batchSize; // 부품 정보를 한 번에 채우고 응답에 쓰는 행 수
+
+    @Value("${history.export.timeout:PT30M}")
+    private Duration timeout; // 내보내기 응답 최대 처리 시간 (다른 비동기 요청은 컨테이너 기본 타임아웃 유지)
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 조건에 맞는 히스토리를 아이템 단위 행으로 응답 스트림에 씁니다.
+     *
+     * @param memberId 가맹점 ID (null 이면 전체 가맹점)
+     * @param from     조회 시작일 (포함, null 이면 처음부터)
+     * @param to       조회 종료일 (포함, null 이면 끝까지)
+     * @param format   내보내기 형식
+     * @param output   응답 스트림
+     */
+    public void export(Long memberId, LocalDate from, LocalDate to, ReceivingHistoryExportFormat format, OutputStream output) {
+        // 기간 조건으로 해당 월의 파티션만 읽음
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+        LocalDateTime fromDateTime = range.getFrom();
+        LocalDateTime toDateTime = range.getTo();
+
+        log.info("입출고 히스토리 내보내기 시작 - 가맹점 ID: {}, 기간: {} ~ {}, 형식: {}", memberId, fromDateTime, toDateTime, format);
+
+        // 스트림은 트랜잭션 안에서만 읽을 수 있으므로 응답 쓰기까지 하나의 읽기 전용 트랜잭션으로 수행
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Long exported = readOnlyTransaction.execute(status -> {
+            try (Stream<ReceivingHistoryExportRowDTO> rows = memberId != null
+                    ? receivingOrderHistoryRepository.streamExportRowsByMemberId(memberId, fromDateTime, toDateTime)
+                    : receivingOrderHistoryRepository.streamExportRows(fromDateTime, toDateTime)) {
+                return writeRows(rows.iterator(), format, output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("입출고 히스토리 내보내기 완료 - 가맹점 ID: {}, 행 수: {}", memberId, exported);
+    }
+
+    private long writeRows(Iterator<ReceivingHistoryExportRowDTO> rows, ReceivingHistoryExportFormat format,
+                           OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == ReceivingHistoryExportFormat.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        List<ReceivingHistoryExportRowDTO> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() >= batchSize) {
+                exported += writeBatch(batch, format, writer);
+                batch.clear();
+            }
+        }
+        exported += writeBatch(batch, format, writer);
+        writer.flush();
+        return exported;
+    }
+
+    // 스냅샷이 없는 행의 부품 정보를 한 번에 조회하여 채운 뒤 응답에 쓰고 내보냄
+    private int writeBatch(List<ReceivingHistoryExportRowDTO> batch, ReceivingHistoryExportFormat format,
+                           Writer writer) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> partIds = batch.stream()
+                .filter(ReceivingHistoryExportRowDTO::needsPartDetail)
+                .map(ReceivingHistoryExportRowDTO::getPartId)
+                .distinct()
+                .toList();
+        if (!partIds.isEmpty()) {
+            Map<Long, PartDetailDTO> partDetails = partsApiService.getPartDetails(partIds);
+            for (ReceivingHistoryExportRowDTO row : batch) {
+                PartDetailDTO partDetail = row.needsPartDetail() ? partDetails.get(row.getPartId()) : null;
+                if (partDetail != null) {
+                    row.applyPartDetail(partDetail);
+                }
+            }
+        }
+
+        for (ReceivingHistoryExportRowDTO row : batch) {
+            writer.write(format == ReceivingHistoryExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+        writer.flush();
+        return batch.size();
+    }
+
+    private String toCsvLine(ReceivingHistoryExportRowDTO row) {
+        return String.join(",",
+                csv(row.getHistoryId()), csv(row.getMemberId()), csv(row.getOrderId()), csv(row.getOrderNumber()),
+                csv(row.getType()), csv(row.getStatus()), csv(row.getMessage()), csv(row.getCreatedAt()),
+                csv(row.getPartId()), csv(row.getQuantity()), csv(row.getPartName()), csv(row.getPartCode()),
+                csv(row.getPartKorName()), csv(row.getPartCategoryName()), csv(row.getPartPrice()));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
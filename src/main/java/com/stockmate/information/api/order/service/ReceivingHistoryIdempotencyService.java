@@ -0,0 +1,82 @@
+package com.stockmate.information.api.order.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmate.information.api.order.dto.ReceivingHistoryResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 최근 등록된 승인 시도 ID 와 등록 결과를 보관하여 재시도 요청을 DB 조회 없이 응답합니다.
+ * 캐시에 없는 경우에도 승인 시도 ID 유니크 인덱스로 중복 등록이 막히므로 캐시는 빠른 경로 역할만 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReceivingHistoryIdempotencyService {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${history.idempotency.cache-size:100000}")
+    private long cacheSize; // 보관할 최대 승인 시도 ID 수
+
+    @Value("${history.idempotency.cache-ttl:PT1H}")
+    private Duration cacheTtl; // 승인 시도 ID 보관 시간 (주문 서버 재시도 기간보다 길게)
+
+    // 승인 시도 ID -> 최초 등록 결과
+    private Cache<String, ReceivingHistoryResponseDTO> recentRegistrations;
+
+    @PostConstruct
+    void initRecentRegistrations() {
+        recentRegistrations = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recentRegistrations, "historyIdempotency");
+    }
+
+    /**
+     * 최근 등록된 승인 시도 ID 의 등록 결과를 반환합니다. 없으면 null 을 반환합니다.
+     */
+    public ReceivingHistoryResponseDTO findRecent(String approvalAttemptId) {
+        return approvalAttemptId == null ? null : recentRegistrations.getIfPresent(approvalAttemptId);
+    }
+
+    /**
+     * 최근 등록된 승인 시도 ID 들의 등록 결과를 반환합니다.
+     */
+    public Map<String, ReceivingHistoryResponseDTO> findAllRecent(Collection<String> approvalAttemptIds) {
+        return recentRegistrations.getAllPresent(approvalAttemptIds);
+    }
+
+    /**
+     * 승인 시도 ID 의 등록 결과를 보관합니다.
+     * 트랜잭션 안에서 호출된 경우 롤백된 등록이 남지 않도록 커밋된 이후에만 반영됩니다.
+     */
+    public void remember(String approvalAttemptId, ReceivingHistoryResponseDTO response) {
+        if (approvalAttemptId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentRegistrations.put(approvalAttemptId, response);
+                }
+            });
+            return;
+        }
+        recentRegistrations.put(approvalAttemptId, response);
+    }
+}
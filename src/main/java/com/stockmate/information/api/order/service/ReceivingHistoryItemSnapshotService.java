@@ -0,0 +1,157 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.dto.LookupResultDTO;
+import com.stockmate.information.api.order.dto.PartDetailDTO;
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
+import com.stockmate.information.api.order.repository.ReceivingHistoryItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 히스토리 아이템의 부품 스냅샷을 관리합니다.
+ * 등록 시점에는 부품 ID 를 모아 한 번에 조회하여 스냅샷을 만들고,
+ * 스냅샷이 없는 기존 아이템은 주기적인 백필 작업으로 청크 단위로 채웁니다.
+ * 부품 조회는 외부 서버 호출이므로 호출 측은 트랜잭션을 열기 전에 capture 를 호출해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryItemSnapshotService {
+
+    private static final String BACKFILL_JOB = "part_snapshot_backfill";
+
+    private final ReceivingHistoryItemRepository receivingHistoryItemRepository;
+    private final PartsApiService partsApiService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceivingHistoryJobLock receivingHistoryJobLock;
+
+    @Value("${history.snapshot.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${history.snapshot.backfill.chunk-size:500}")
+    private int backfillChunkSize; // 한 트랜잭션에서 채울 최대 아이템 수
+
+    @Value("${history.snapshot.backfill.max-chunks-per-run:20}")
+    private int backfillMaxChunksPerRun; // 한 번의 실행에서 처리할 최대 청크 수
+
+    /**
+     * 부품 ID 목록의 스냅샷을 일괄 조회합니다.
+     * Parts 서버 장애로 조회하지 못한 부품 ID 는 결과에서 제외되어 이후 백필 작업에서 채워집니다.
+     *
+     * @param partIds 스냅샷을 만들 부품 ID 목록
+     * @return 부품 ID를 키로 하는 부품 스냅샷 Map
+     */
+    public Map<Long, PartSnapshot> capture(Collection<Long> partIds) {
+        List<Long> distinctPartIds = partIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctPartIds.isEmpty()) {
+            return Map.of();
+        }
+
+        LookupResultDTO<Long, PartDetailDTO> partDetails = partsApiService.getPartDetailsMono(distinctPartIds).block();
+        LocalDateTime capturedAt = LocalDateTime.now();
+
+        Map<Long, PartSnapshot> snapshots = new HashMap<>();
+        for (Long partId : distinctPartIds) {
+            PartDetailDTO partDetail = partDetails.getValues().get(partId);
+            // 일부 조회에 실패한 경우 없는 부품과 구분할 수 없으므로 스냅샷을 남기지 않음
+            if (partDetail != null || !partDetails.isPartial()) {
+                snapshots.put(partId, PartSnapshot.of(partDetail, capturedAt));
+            }
+        }
+
+        if (partDetails.isPartial()) {
+            log.warn("부품 스냅샷 일부 누락 - 요청 부품 수: {}, 스냅샷 수: {}", distinctPartIds.size(), snapshots.size());
+        }
+        return snapshots;
+    }
+
+    /**
+     * 스냅샷이 없는 아이템을 저장된 위치부터 청크 단위로 채웁니다. 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행합니다.
+     * 끝까지 훑으면 위치를 처음으로 되돌려, Parts 서버 장애로 채우지 못한 아이템을 다음 회차에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${history.snapshot.backfill.interval:PT1M}")
+    public void backfill() {
+        if (!backfillEnabled) {
+            return;
+        }
+        receivingHistoryJobLock.runExclusively(BACKFILL_JOB, session -> backfillChunks());
+    }
+
+    private void backfillChunks() {
+        long lastId = loadBackfillPosition();
+        int totalFilled = 0;
+        for (int i = 0; i < backfillMaxChunksPerRun; i++) {
+            BackfillChunk chunk = backfillChunk(lastId);
+            totalFilled += chunk.filled();
+            if (chunk.scanned() < backfillChunkSize) {
+                break;
+            }
+            lastId = chunk.lastId();
+        }
+
+        if (totalFilled > 0) {
+            log.info("부품 스냅샷 백필 - 채운 아이템 수: {}, 다음 시작 위치: {}", totalFilled, loadBackfillPosition());
+        }
+    }
+
+    private record BackfillChunk(int scanned, int filled, long lastId) {
+    }
+
+    // 스냅샷이 없는 아이템 한 청크를 채움
+    // Parts 서버 조회는 트랜잭션 밖에서 하고, 트랜잭션에서는 같은 청크를 다시 읽어 변경 감지로 배치 UPDATE 한 뒤 진행 위치를 함께 저장
+    private BackfillChunk backfillChunk(long lastId) {
+        List<Long> partIds = receivingHistoryItemRepository.findWithoutPartSnapshotAfter(lastId, PageRequest.of(0, backfillChunkSize))
+                .stream()
+                .map(ReceivingHistoryItem::getPartId)
+                .toList();
+        Map<Long, PartSnapshot> snapshots = capture(partIds);
+
+        return transactionTemplate.execute(status -> {
+            List<ReceivingHistoryItem> items = receivingHistoryItemRepository.findWithoutPartSnapshotAfter(
+                    lastId, PageRequest.of(0, backfillChunkSize));
+
+            int filled = 0;
+            for (ReceivingHistoryItem item : items) {
+                // 조회 사이에 새로 들어온 아이템의 부품은 스냅샷이 없으므로 다음 회차에 채움
+                PartSnapshot snapshot = snapshots.get(item.getPartId());
+                if (snapshot != null) {
+                    item.capturePartSnapshot(snapshot);
+                    filled++;
+                }
+            }
+
+            long chunkLastId = items.isEmpty() ? lastId : items.get(items.size() - 1).getId();
+            saveBackfillPosition(items.size() < backfillChunkSize ? 0L : chunkLastId);
+            return new BackfillChunk(items.size(), filled, chunkLastId);
+        });
+    }
+
+    private long loadBackfillPosition() {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT last_id FROM receiving_history_job_state WHERE job_name = ?", Long.class, BACKFILL_JOB);
+        return positions.isEmpty() ? 0L : positions.get(0);
+    }
+
+    private void saveBackfillPosition(long lastId) {
+        jdbcTemplate.update("INSERT INTO receiving_history_job_state (job_name, last_id, updated_at) VALUES (?, ?, NOW(6)) " +
+                "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)", BACKFILL_JOB, lastId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.stockmate.information.api.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스에서 실행되는 스케줄 작업을 DB 잠금(GET_LOCK)을 얻은 한 곳에서만 실행합니다.
+ * 잠금은 커넥션 단위이므로 작업이 끝날 때까지 하나의 커넥션을 잡고 있으며, 인스턴스가 죽으면 커넥션과 함께 해제됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryJobLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행합니다. (다른 인스턴스가 실행 중이면 기다리지 않고 건너뜀)
+     *
+     * @param task 잠금을 잡은 커넥션의 JdbcTemplate 을 받는 작업 (DDL 처럼 같은 커넥션에서 실행해야 하는 경우 사용)
+     * @return 잠금을 얻어 실행한 경우 true
+     */
+    boolean runExclusively(String lockName, Consumer<JdbcTemplate> task) {
+        Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, lockName);
+            if (locked == null || locked != 1) {
+                log.info("스케줄 작업 건너뜀 - 다른 인스턴스에서 수행 중, 잠금: {}", lockName);
+                return false;
+            }
+
+            try {
+                task.accept(session);
+            } finally {
+                session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, lockName);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(executed);
+    }
+}
@@ -0,0 +1,60 @@
+package com.stockmate.information.api.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import com.stockmate.information.api.order.entity.ReceivingHistoryOutbox;
+import com.stockmate.information.api.order.repository.ReceivingHistoryOutboxRepository;
+import com.stockmate.information.common.exception.InternalServerException;
+import com.stockmate.information.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 성공/실패 이벤트를 아웃박스 테이블에 기록합니다.
+ * 실제 브로커 발행은 ReceivingHistoryOutboxRelay 가 트랜잭션 밖에서 배치로 수행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryOutboxService {
+
+    private final ReceivingHistoryOutboxRepository receivingHistoryOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${history.ingestion.enabled:false}")
+    private boolean enabled; // 이벤트 수집 파이프라인(아웃박스 릴레이 포함)을 켠 경우에만 성공 이벤트 기록
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 성공 이벤트는 히스토리 등록과 같은 트랜잭션에서만 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendSuccess(ReceivingOrderHistorySuccessEvent event) {
+        append(ReceivingHistoryOutbox.EventType.SUCCESS, event.getApprovalAttemptId(), event);
+    }
+
+    @Transactional
+    public void appendFailed(ReceivingOrderHistoryFailedEvent event) {
+        append(ReceivingHistoryOutbox.EventType.FAILED, event.getApprovalAttemptId(), event);
+    }
+
+    private void append(ReceivingHistoryOutbox.EventType eventType, String approvalAttemptId, Object event) {
+        try {
+            receivingHistoryOutboxRepository.save(ReceivingHistoryOutbox.builder()
+                    .eventType(eventType)
+                    .approvalAttemptId(approvalAttemptId)
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("아웃박스 이벤트 직렬화 실패 - 타입: {}, Approval Attempt ID: {}", eventType, approvalAttemptId, e);
+            throw new InternalServerException(ErrorStatus.KAFKA_EVENT_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.stockmate.information.api.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 월별 파티셔닝(db/maintenance V8_1) 전에 V8 이전에 저장된 행의 파티션 키와 승인 시도를 채웁니다.
+ * V8 은 컬럼과 테이블만 추가하므로 히스토리의 created_at 보정, 아이템의 history_created_at, 승인 시도 테이블을
+ * 히스토리 ID 순으로 청크 단위로 채우고, 진행 위치를 receiving_history_job_state 에 저장하여 재시작 후 이어서 수행합니다.
+ * 마지막 히스토리까지 채우면 완료로 기록하며, 이후 등록되는 히스토리는 애플리케이션이 모든 값을 함께 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryPartitionKeyBackfillService {
+
+    private static final String BACKFILL_JOB = "partition_key_backfill";
+    private static final long COMPLETED = Long.MAX_VALUE; // 완료 후 저장하는 진행 위치
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceivingHistoryJobLock receivingHistoryJobLock;
+
+    @Value("${history.partition.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    @Value("${history.partition.backfill.chunk-size:1000}")
+    private int backfillChunkSize; // 한 트랜잭션에서 채울 최대 히스토리 수
+
+    @Value("${history.partition.backfill.max-chunks-per-run:20}")
+    private int backfillMaxChunksPerRun; // 한 번의 실행에서 처리할 최대 청크 수
+
+    private volatile boolean completed; // 한 번 완료되면 다시 미완료가 되지 않으므로 DB 조회 없이 응답
+
+    /**
+     * 기존 행의 백필이 끝났는지 여부입니다.
+     * 끝나기 전에는 승인 시도 테이블에 없는 기존 승인 시도 ID 가 있을 수 있으므로 등록 시 히스토리 테이블도 확인해야 합니다.
+     */
+    public boolean isCompleted() {
+        if (!completed) {
+            completed = loadBackfillPosition() == COMPLETED;
+        }
+        return completed;
+    }
+
+    @Scheduled(fixedDelayString = "${history.partition.backfill.interval:PT1M}")
+    public void backfill() {
+        if (!backfillEnabled || isCompleted()) {
+            return;
+        }
+        receivingHistoryJobLock.runExclusively(BACKFILL_JOB, session -> backfillChunks());
+    }
+
+    private void backfillChunks() {
+        long lastId = loadBackfillPosition();
+        int totalScanned = 0;
+        for (int i = 0; i < backfillMaxChunksPerRun && lastId != COMPLETED; i++) {
+            BackfillChunk chunk = backfillChunk(lastId);
+            totalScanned += chunk.scanned();
+            lastId = chunk.nextId();
+        }
+
+        if (lastId == COMPLETED) {
+            completed = true;
+            log.info("파티션 키 백필 완료 - 이번 실행 처리 히스토리 수: {}", totalScanned);
+        } else if (totalScanned > 0) {
+            log.info("파티션 키 백필 - 처리 히스토리 수: {}, 다음 시작 위치: {}", totalScanned, lastId);
+        }
+    }
+
+    private record BackfillChunk(int scanned, long nextId) {
+    }
+
+    // 히스토리 ID 범위 (lastId, chunkLastId] 한 청크의 값을 한 트랜잭션에서 채우고 진행 위치를 함께 저장
+    // 모든 문장이 PK 범위와 아이템의 history_id 인덱스로 청크 행만 잠그며, 이미 채워진 행은 건드리지 않음
+    private BackfillChunk backfillChunk(long lastId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM receiving_history WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastId, backfillChunkSize);
+            if (ids.isEmpty()) {
+                saveBackfillPosition(COMPLETED);
+                return new BackfillChunk(0, COMPLETED);
+            }
+            long chunkLastId = ids.get(ids.size() - 1);
+
+            // auditing 이전에 저장된 히스토리의 생성 시각 보정
+            jdbcTemplate.update("UPDATE receiving_history SET created_at = COALESCE(updated_at, NOW(6)) " +
+                    "WHERE id > ? AND id <= ? AND created_at IS NULL", lastId, chunkLastId);
+
+            // V8 이전 승인 시도 (uk_receiving_history_approval_attempt 로 히스토리당 하나, 이미 있으면 유지)
+            jdbcTemplate.update("INSERT INTO receiving_history_approval_attempt (approval_attempt_id, history_id, history_created_at) " +
+                    "SELECT approval_attempt_id, id, created_at FROM receiving_history " +
+                    "WHERE id > ? AND id <= ? AND approval_attempt_id IS NOT NULL " +
+                    "ON DUPLICATE KEY UPDATE history_id = history_id", lastId, chunkLastId);
+
+            jdbcTemplate.update("UPDATE receiving_history_item i JOIN receiving_history h ON h.id = i.history_id " +
+                    "SET i.history_created_at = h.created_at " +
+                    "WHERE h.id > ? AND h.id <= ? AND i.history_created_at IS NULL", lastId, chunkLastId);
+
+            long nextId = ids.size() < backfillChunkSize ? COMPLETED : chunkLastId;
+            saveBackfillPosition(nextId);
+            return new BackfillChunk(ids.size(), nextId);
+        });
+    }
+
+    private long loadBackfillPosition() {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT last_id FROM receiving_history_job_state WHERE job_name = ?", Long.class, BACKFILL_JOB);
+        return positions.isEmpty() ? 0L : positions.get(0);
+    }
+
+    private void saveBackfillPosition(long lastId) {
+        jdbcTemplate.update("INSERT INTO receiving_history_job_state (job_name, last_id, updated_at) VALUES (?, ?, NOW(6)) " +
+                "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)", BACKFILL_JOB, lastId);
+    }
+}
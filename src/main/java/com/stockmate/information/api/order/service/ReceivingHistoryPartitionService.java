@@ -0,0 +1,163 @@
+package com.stockmate.information.api.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 입출고 히스토리 테이블의 월별 파티션을 관리합니다.
+ * 다가올 월의 파티션을 미리 추가하고, 보관 기간이 지난 월의 파티션은 별도 아카이브 테이블로 분리(EXCHANGE PARTITION)한 뒤
+ * 압축하여 운영 테이블에서 제거합니다. 여러 인스턴스 중 DB 잠금(GET_LOCK)을 얻은 한 곳에서만 수행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryPartitionService {
+
+    // 히스토리를 먼저 분리하여 목록 조회에서 아이템만 없는 히스토리가 보이지 않도록 함
+    private static final List<String> PARTITIONED_TABLES = List.of("receiving_history", "receiving_history_item");
+
+    static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String MAX_PARTITION = "p_max";
+    private static final String LOCK_NAME = "receiving_history_partition_maintenance";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+
+    private final ReceivingHistoryJobLock receivingHistoryJobLock;
+
+    @Value("${history.partition.months-ahead:3}")
+    private int monthsAhead; // 현재 월 이후 미리 만들어 둘 파티션 개월 수
+
+    @Value("${history.partition.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${history.partition.archive.retention-months:24}")
+    private int retentionMonths; // 운영 테이블에 보관할 개월 수 (현재 월 포함)
+
+    @Value("${history.partition.archive.compress:true}")
+    private boolean compressArchive; // 분리한 아카이브 테이블을 압축 행 형식으로 변환할지 여부
+
+    @Scheduled(cron = "${history.partition.maintenance.cron:0 0 4 * * *}")
+    public void maintain() {
+        runExclusively(session -> {
+            YearMonth currentMonth = YearMonth.now();
+            for (String table : PARTITIONED_TABLES) {
+                addFuturePartitions(session, table, currentMonth.plusMonths(monthsAhead));
+            }
+            if (archiveEnabled) {
+                archiveExpiredPartitions(session, currentMonth.minusMonths(retentionMonths - 1L));
+            }
+        });
+    }
+
+    /**
+     * 파티션을 변경하는 작업을 여러 인스턴스와 다른 파티션 작업(콜드 티어 이동 등) 중 한 곳에서만 실행합니다.
+     * DDL 은 트랜잭션으로 묶이지 않으므로 하나의 커넥션에서 잠금을 잡은 채 순서대로 실행합니다.
+     *
+     * @return 잠금을 얻어 실행한 경우 true
+     */
+    boolean runExclusively(Consumer<JdbcTemplate> task) {
+        return receivingHistoryJobLock.runExclusively(LOCK_NAME, task);
+    }
+
+    /**
+     * 테이블의 월 파티션을 오래된 순으로 반환합니다. (p_max 제외, 파티션되지 않은 테이블이면 빈 목록)
+     */
+    List<YearMonth> findMonthlyPartitions(JdbcTemplate session, String table) {
+        return findPartitionNames(session, table).stream()
+                .filter(partition -> MONTHLY_PARTITION.matcher(partition).matches())
+                .map(partition -> YearMonth.parse(partition, PARTITION_NAME_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    // 마지막 월 파티션 이후부터 목표 월까지 p_max 를 나누어 월 파티션 추가 (미래 월이라 p_max 는 비어 있어 즉시 완료)
+    private void addFuturePartitions(JdbcTemplate session, String table, YearMonth untilMonth) {
+        List<String> partitions = findPartitionNames(session, table);
+        if (!partitions.contains(MAX_PARTITION)) {
+            log.warn("월별 파티션 테이블이 아님 (점검 시간 마이그레이션 db/maintenance V8_1 미적용) - 테이블: {}", table);
+            return;
+        }
+
+        Optional<YearMonth> lastMonth = findMonthlyPartitions(session, table).stream()
+                .max(YearMonth::compareTo);
+        if (lastMonth.isEmpty()) {
+            return;
+        }
+
+        for (YearMonth month = lastMonth.get().plusMonths(1); !month.isAfter(untilMonth); month = month.plusMonths(1)) {
+            String partition = month.format(PARTITION_NAME_FORMAT);
+            session.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                    "PARTITION " + partition + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), " +
+                    "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("입출고 히스토리 파티션 추가 - 테이블: {}, 파티션: {}", table, partition);
+        }
+    }
+
+    // 보관 기간 이전 월의 파티션을 아카이브 테이블로 분리하고 운영 테이블에서 제거
+    private void archiveExpiredPartitions(JdbcTemplate session, YearMonth oldestRetainedMonth) {
+        List<String> expired = findMonthlyPartitions(session, PARTITIONED_TABLES.get(0)).stream()
+                .filter(month -> month.isBefore(oldestRetainedMonth))
+                .map(month -> month.format(PARTITION_NAME_FORMAT))
+                .toList();
+
+        for (String partition : expired) {
+            for (String table : PARTITIONED_TABLES) {
+                if (!archivePartition(session, table, partition)) {
+                    return;
+                }
+            }
+
+            // 분리된 히스토리의 승인 시도는 더 이상 재시도될 수 없으므로 함께 정리
+            int deleted = session.update("DELETE FROM receiving_history_approval_attempt WHERE history_created_at < ?",
+                    YearMonth.parse(partition, PARTITION_NAME_FORMAT).plusMonths(1).atDay(1).atStartOfDay());
+            log.info("입출고 히스토리 파티션 아카이브 완료 - 파티션: {}, 정리된 승인 시도 수: {}", partition, deleted);
+        }
+    }
+
+    private boolean archivePartition(JdbcTemplate session, String table, String partition) {
+        if (!findPartitionNames(session, table).contains(partition)) {
+            return true; // 이전 실행에서 이미 분리됨
+        }
+
+        String archiveTable = table + "_archive_" + partition;
+        Integer exists = session.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                Integer.class, archiveTable);
+        if (exists != null && exists > 0) {
+            // EXCHANGE 는 대상 테이블이 비어 있어야 하므로 이전 실행이 중간에 실패한 경우 수동 확인 필요
+            log.error("아카이브 테이블이 이미 존재하여 파티션 아카이브 중단 - 테이블: {}, 파티션: {}, 아카이브 테이블: {}",
+                    table, partition, archiveTable);
+            return false;
+        }
+
+        session.execute("CREATE TABLE " + archiveTable + " LIKE " + table);
+        session.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        session.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition + " WITH TABLE " + archiveTable);
+        session.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+        if (compressArchive) {
+            session.execute("ALTER TABLE " + archiveTable + " ROW_FORMAT=COMPRESSED");
+        }
+
+        log.info("입출고 히스토리 파티션 분리 - 테이블: {}, 파티션: {}, 아카이브 테이블: {}", table, partition, archiveTable);
+        return true;
+    }
+
+    private List<String> findPartitionNames(JdbcTemplate session, String table) {
+        return session.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, table);
+    }
+}
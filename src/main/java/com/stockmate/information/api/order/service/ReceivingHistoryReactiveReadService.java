@@ -0,0 +1,109 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursor;
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import com.stockmate.information.api.order.dto.ReceivingHistoryItemRow;
+import com.stockmate.information.api.order.dto.ReceivingHistoryRow;
+import com.stockmate.information.api.order.repository.ReceivingHistoryReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 입출고 히스토리 커서 조회의 논블로킹 버전입니다.
+ * R2DBC 로 히스토리와 아이템을 읽고 Parts/User 서버 조회(WebClient)와 이어서 조합하므로,
+ * 요청을 처리하는 동안 DB 나 외부 서버 응답을 기다리며 점유되는 스레드가 없습니다.
+ * 점진적으로 전환할 수 있도록 history.reactive.endpoints 에 지정한 엔드포인트만 이 경로로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryReactiveReadService {
+
+    // history.reactive.endpoints 에 지정할 수 있는 엔드포인트
+    public static final String MY_CURSOR = "my-cursor"; // GET /my/cursor
+    public static final String ADMIN_MEMBER_CURSOR = "admin-member-cursor"; // GET /admin/member/{memberId}/cursor
+    public static final String ORDER_CURSOR = "order-cursor"; // GET /order/{orderNumber}/cursor
+
+    private final ObjectProvider<ReceivingHistoryReactiveRepository> receivingHistoryReactiveRepository;
+    private final ReceivingOrderHistoryService receivingOrderHistoryService;
+    private final ReceivingHistoryColdTierService receivingHistoryColdTierService;
+
+    @Value("${history.reactive.endpoints:}")
+    private Set<String> endpoints; // 리액티브 조회로 처리할 엔드포인트 (쉼표 구분)
+
+    /**
+     * 엔드포인트를 리액티브 조회로 처리할지 여부 (history.reactive.enabled 가 꺼져 있으면 항상 false)
+     */
+    public boolean isEnabled(String endpoint) {
+        return endpoints.contains(endpoint) && receivingHistoryReactiveRepository.getIfAvailable() != null;
+    }
+
+    // 가맹점별 입출고 히스토리 조회 (커서 기반)
+    public Mono<ReceivingHistoryCursorResponseDTO> getReceivingHistoryByMemberIdWithCursor(Long memberId, String cursor, int size,
+                                                                                           LocalDate from, LocalDate to,
+                                                                                           boolean includeUser) {
+        log.info("가맹점별 입출고 히스토리 리액티브 커서 조회 - 가맹점 ID: {}, Cursor: {}, Size: {}, 기간: {} ~ {}",
+                memberId, cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = (size <= 0 || size > 100) ? 20 : size;
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+
+        Flux<ReceivingHistoryRow> histories = receivingHistoryReactiveRepository.getObject().findByMemberId(
+                memberId, range.getFrom(), range.getTo(), decoded, validSize + 1);
+        return loadPage(histories, validSize, includeUser, receivingHistoryColdTierService.byMemberId(memberId, range), decoded);
+    }
+
+    // 주문별 입출고 히스토리 조회 (커서 기반)
+    public Mono<ReceivingHistoryCursorResponseDTO> getReceivingHistoryByOrderNumberWithCursor(String orderNumber, String cursor, int size,
+                                                                                              LocalDate from, LocalDate to) {
+        log.info("주문별 입출고 히스토리 리액티브 커서 조회 - Order Number: {}, Cursor: {}, Size: {}, 기간: {} ~ {}",
+                orderNumber, cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = (size <= 0 || size > 100) ? 20 : size;
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+
+        Flux<ReceivingHistoryRow> histories = receivingHistoryReactiveRepository.getObject().findByOrderNumber(
+                orderNumber, range.getFrom(), range.getTo(), decoded, validSize + 1);
+        return loadPage(histories, validSize, false, receivingHistoryColdTierService.byOrderNumber(orderNumber, range), decoded);
+    }
+
+    // 요청 크기보다 하나 더 조회한 히스토리에 아이템을 채운 뒤 블로킹 조회와 같은 방식으로 응답 구성
+    private Mono<ReceivingHistoryCursorResponseDTO> loadPage(Flux<ReceivingHistoryRow> histories, int size, boolean includeUser,
+                                                             ReceivingHistoryColdTierService.Query archivedQuery,
+                                                             ReceivingHistoryCursor cursor) {
+        return histories.collectList()
+                .flatMap(rows -> {
+                    boolean hasNext = rows.size() > size;
+                    return withItems(hasNext ? rows.subList(0, size) : rows)
+                            .flatMap(page -> receivingOrderHistoryService.assembleCursorResponse(
+                                    page, hasNext, size, includeUser, archivedQuery, cursor));
+                });
+    }
+
+    // 페이지 히스토리의 아이템을 한 번의 쿼리로 조회하여 채움 (히스토리는 생성 시각 내림차순)
+    private Mono<List<ReceivingHistoryRow>> withItems(List<ReceivingHistoryRow> histories) {
+        if (histories.isEmpty()) {
+            return Mono.just(histories);
+        }
+
+        List<Long> historyIds = histories.stream().map(ReceivingHistoryRow::id).toList();
+        return receivingHistoryReactiveRepository.getObject()
+                .findItems(historyIds, histories.get(histories.size() - 1).createdAt(), histories.get(0).createdAt())
+                .collectMultimap(ReceivingHistoryItemRow::historyId)
+                .map(itemsByHistory -> histories.stream()
+                        .map(history -> history.withItems(List.copyOf(itemsByHistory.getOrDefault(history.id(), List.of()))))
+                        .toList());
+    }
+}
@@ -0,0 +1,251 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryRollupDTO;
+import com.stockmate.information.api.order.entity.ReceivingHistoryDailyRollup;
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
+import com.stockmate.information.api.order.entity.ReceivingOrderHistory;
+import com.stockmate.information.api.order.repository.ReceivingHistoryDailyRollupRepository;
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import com.stockmate.information.common.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가맹점/부품/일자/타입별 입출고 수량 집계를 관리합니다.
+ * 등록 시 같은 트랜잭션에서 증가시키고, 주기적으로 최근 며칠을 원본 히스토리로 다시 계산하여 보정합니다.
+ * 집계 테이블(V7) 이전에 저장된 히스토리의 집계는 초기 적재 작업이 가장 오래된 날부터 하루씩 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceivingHistoryRollupService {
+
+    private static final int MAX_QUERY_DAYS = 366;
+    private static final String SEED_JOB = "rollup_seed";
+    private static final long SEED_COMPLETED = Long.MAX_VALUE; // 초기 적재 완료 후 저장하는 진행 위치
+
+    // 동시 등록 트랜잭션이 같은 순서로 집계 행을 잠그도록 키를 정렬 (교착 상태 방지)
+    private static final Comparator<ReceivingHistoryDailyRollup.RollupId> ROLLUP_KEY_ORDER =
+            Comparator.comparing(ReceivingHistoryDailyRollup.RollupId::getMemberId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ReceivingHistoryDailyRollup.RollupId::getPartId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ReceivingHistoryDailyRollup.RollupId::getDay, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ReceivingHistoryDailyRollup.RollupId::getType, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ReceivingHistoryDailyRollupRepository receivingHistoryDailyRollupRepository;
+    private final ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceivingHistoryJobLock receivingHistoryJobLock;
+
+    @Value("${history.rollup.rebuild.days:7}")
+    private int rebuildDays; // 주기적 재계산 대상 기간 (오늘 제외 최근 N일)
+
+    @Value("${history.rollup.seed.enabled:true}")
+    private boolean seedEnabled;
+
+    @Value("${history.rollup.seed.days-per-run:31}")
+    private int seedDaysPerRun; // 한 번의 실행에서 채울 최대 일수
+
+    /**
+     * 새로 등록된 히스토리의 아이템 수량을 집계에 더합니다. 히스토리 등록 트랜잭션 안에서만 호출됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<ReceivingOrderHistory> histories) {
+        // 같은 키는 한 번만 갱신하도록 먼저 합산하고, 키 순서대로 갱신
+        Map<ReceivingHistoryDailyRollup.RollupId, long[]> deltas = new TreeMap<>(ROLLUP_KEY_ORDER);
+        for (ReceivingOrderHistory history : histories) {
+            if (history.getItems() == null || history.getCreatedAt() == null) {
+                continue;
+            }
+            LocalDate day = history.getCreatedAt().toLocalDate();
+            for (ReceivingHistoryItem item : history.getItems()) {
+                long[] delta = deltas.computeIfAbsent(
+                        new ReceivingHistoryDailyRollup.RollupId(history.getMemberId(), item.getPartId(), day, history.getType()),
+                        key -> new long[2]);
+                delta[0] += item.getQuantity();
+                delta[1]++;
+            }
+        }
+
+        deltas.forEach((key, delta) -> receivingHistoryDailyRollupRepository.upsert(
+                key.getMemberId(), key.getPartId(), key.getDay(), key.getType(), delta[0], delta[1]));
+    }
+
+    /**
+     * 집계를 조회합니다. 가맹점 ID 또는 부품 ID 중 하나 이상이 필요합니다.
+     *
+     * @param memberId 가맹점 ID (null 이면 전체 가맹점)
+     * @param partId   부품 ID (null 이면 전체 부품)
+     * @param from     시작일 (포함)
+     * @param to       종료일 (포함)
+     * @param type     타입 (null 이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<ReceivingHistoryRollupDTO> getRollups(Long memberId, Long partId, LocalDate from, LocalDate to, String type) {
+        log.info("입출고 일별 집계 조회 - 가맹점 ID: {}, 부품 ID: {}, 기간: {} ~ {}, 타입: {}", memberId, partId, from, to, type);
+
+        if (memberId == null && partId == null) {
+            throw new BadRequestException("가맹점 ID 또는 부품 ID가 필요합니다.");
+        }
+        validateRange(from, to);
+
+        List<ReceivingHistoryDailyRollup> rollups;
+        if (memberId != null && partId != null) {
+            rollups = receivingHistoryDailyRollupRepository.findByMemberIdAndPartIdAndDayBetweenOrderByDayAsc(memberId, partId, from, to);
+        } else if (memberId != null) {
+            rollups = receivingHistoryDailyRollupRepository.findByMemberIdAndDayBetweenOrderByDayAscPartIdAsc(memberId, from, to);
+        } else {
+            rollups = receivingHistoryDailyRollupRepository.findByPartIdAndDayBetweenOrderByDayAscMemberIdAsc(partId, from, to);
+        }
+
+        return rollups.stream()
+                .filter(rollup -> type == null || type.equals(rollup.getType()))
+                .map(rollup -> ReceivingHistoryRollupDTO.builder()
+                        .memberId(rollup.getMemberId())
+                        .partId(rollup.getPartId())
+                        .day(rollup.getDay())
+                        .type(rollup.getType())
+                        .totalQuantity(rollup.getTotalQuantity())
+                        .itemCount(rollup.getItemCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기간 내 집계를 원본 히스토리로 다시 계산합니다. 잠금 범위를 줄이기 위해 하루 단위 트랜잭션으로 수행합니다.
+     * 콜드 티어로 옮겨져 원본이 없는 날짜(가장 오래된 히스토리 이전)는 집계를 지우지 않도록 건너뜁니다.
+     *
+     * @return 재계산된 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        LocalDateTime oldestCreatedAt = receivingOrderHistoryRepository.findOldestCreatedAt();
+        if (oldestCreatedAt == null) {
+            log.warn("입출고 일별 집계 재계산 생략 - 원본 히스토리 없음, 기간: {} ~ {}", from, to);
+            return 0;
+        }
+        LocalDate oldestDay = oldestCreatedAt.toLocalDate();
+        if (from.isBefore(oldestDay)) {
+            log.warn("입출고 일별 집계 재계산 - 원본이 없는 기간 제외: {} ~ {}", from, to.isBefore(oldestDay) ? to : oldestDay.minusDays(1));
+            from = oldestDay;
+        }
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        log.info("입출고 일별 집계 재계산 시작 - 기간: {} ~ {}", from, to);
+
+        int rebuilt = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate target = day;
+            Integer inserted = transactionTemplate.execute(status -> rebuildDay(target));
+            rebuilt += inserted != null ? inserted : 0;
+        }
+
+        log.info("입출고 일별 집계 재계산 완료 - 기간: {} ~ {}, 집계 행 수: {}", from, to, rebuilt);
+        return rebuilt;
+    }
+
+    // 등록 중 실패나 수동 데이터 수정으로 생긴 차이를 보정 (등록이 진행 중인 오늘은 제외)
+    @Scheduled(cron = "${history.rollup.rebuild.cron:0 30 3 * * *}")
+    public void rebuildRecentDays() {
+        if (rebuildDays <= 0) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuild(yesterday.minusDays(rebuildDays - 1), yesterday);
+    }
+
+    /**
+     * 집계 테이블 이전에 저장된 히스토리의 집계를 가장 오래된 히스토리 날짜부터 어제까지 채웁니다.
+     * 하루씩 재계산하고 같은 트랜잭션에서 마지막으로 채운 날을 receiving_history_job_state 에 저장하므로,
+     * 재시작하거나 다른 인스턴스가 잠금을 이어받으면 다음 날부터 이어서 수행합니다. (오늘 집계는 등록 시 증가분으로 유지)
+     */
+    @Scheduled(fixedDelayString = "${history.rollup.seed.interval:PT1M}")
+    public void seed() {
+        if (!seedEnabled) {
+            return;
+        }
+        receivingHistoryJobLock.runExclusively(SEED_JOB, session -> seedDays());
+    }
+
+    private void seedDays() {
+        Long position = loadSeedPosition();
+        if (position != null && position == SEED_COMPLETED) {
+            return;
+        }
+
+        LocalDate from;
+        if (position != null) {
+            from = LocalDate.ofEpochDay(position + 1);
+        } else {
+            LocalDateTime oldestCreatedAt = receivingOrderHistoryRepository.findOldestCreatedAt();
+            from = oldestCreatedAt != null ? oldestCreatedAt.toLocalDate() : LocalDate.now();
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate until = from.plusDays(seedDaysPerRun - 1L).isBefore(yesterday) ? from.plusDays(seedDaysPerRun - 1L) : yesterday;
+
+        int seeded = 0;
+        for (LocalDate day = from; !day.isAfter(until); day = day.plusDays(1)) {
+            LocalDate target = day;
+            Integer inserted = transactionTemplate.execute(status -> {
+                int rows = rebuildDay(target);
+                saveSeedPosition(target.toEpochDay());
+                return rows;
+            });
+            seeded += inserted != null ? inserted : 0;
+        }
+
+        if (!until.isBefore(yesterday)) {
+            saveSeedPosition(SEED_COMPLETED);
+            log.info("입출고 일별 집계 초기 적재 완료 - 마지막 날짜: {}, 이번 실행 집계 행 수: {}", yesterday, seeded);
+        } else {
+            log.info("입출고 일별 집계 초기 적재 - 기간: {} ~ {}, 집계 행 수: {}", from, until, seeded);
+        }
+    }
+
+    // 하루치 집계를 원본 히스토리로 다시 만듦 (호출 측 트랜잭션에서 실행)
+    private int rebuildDay(LocalDate day) {
+        receivingHistoryDailyRollupRepository.deleteByDay(day);
+        return receivingHistoryDailyRollupRepository.insertFromHistory(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    private Long loadSeedPosition() {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT last_id FROM receiving_history_job_state WHERE job_name = ?", Long.class, SEED_JOB);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    private void saveSeedPosition(long lastDay) {
+        jdbcTemplate.update("INSERT INTO receiving_history_job_state (job_name, last_id, updated_at) VALUES (?, ?, NOW(6)) " +
+                "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)", SEED_JOB, lastDay);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new BadRequestException("조회 기간이 필요합니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_QUERY_DAYS) {
+            throw new BadRequestException("조회 기간은 최대 " + MAX_QUERY_DAYS + "일입니다.");
+        }
+    }
+}
@@ -1,15 +1,53 @@
 package com.stockmate.information.api.order.service;
 
+import com.stockmate.information.api.order.archive.ArchivedHistory;
+import com.stockmate.information.api.order.dto.LookupResultDTO;
+import com.stockmate.information.api.order.dto.PartDetailDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursor;
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDetailDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryItemRow;
 import com.stockmate.information.api.order.dto.ReceivingHistoryListResponseDTO;
 import com.stockmate.information.api.order.dto.ReceivingHistoryRequestDTO;
 import com.stockmate.information.api.order.dto.ReceivingHistoryResponseDTO;
-import com.stockmate.information.api.order.dto.ReceivingHistoryDetailDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryRow;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import com.stockmate.information.api.order.dto.UserBatchResponseDTO;
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import com.stockmate.information.api.order.entity.ReceivingHistoryApprovalAttempt;
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
 import com.stockmate.information.api.order.entity.ReceivingOrderHistory;
+import com.stockmate.information.api.order.repository.ReceivingHistoryApprovalAttemptRepository;
+import com.stockmate.information.api.order.repository.ReceivingHistoryItemRepository;
 import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,44 +55,239 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReceivingOrderHistoryService {
 
     private final ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+    private final ReceivingHistoryApprovalAttemptRepository receivingHistoryApprovalAttemptRepository;
+    private final ReceivingHistoryItemRepository receivingHistoryItemRepository;
     private final PartsApiService partsApiService;
     private final UserApiService userApiService;
+    private final ReceivingHistoryCountService receivingHistoryCountService;
+    private final ReceivingHistoryIdempotencyService receivingHistoryIdempotencyService;
+    private final ReceivingHistoryItemSnapshotService receivingHistoryItemSnapshotService;
+    private final ReceivingHistoryRollupService receivingHistoryRollupService;
+    private final ReceivingHistoryColdTierService receivingHistoryColdTierService;
+    private final ReceivingHistoryOutboxService receivingHistoryOutboxService;
+    private final ReceivingHistoryPartitionKeyBackfillService receivingHistoryPartitionKeyBackfillService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 부품 스냅샷 조회(Parts 서버 호출)는 트랜잭션을 열기 전에 수행하여 커넥션을 잡은 채 외부 응답을 기다리지 않음
     public ReceivingHistoryResponseDTO registerReceivingHistory(ReceivingHistoryRequestDTO requestDTO) {
         log.info("입출고 히스토리 등록 시작 - 가맹점 ID: {}, 주문 번호: {}, 타입: {}, 메시지: {}",
                 requestDTO.getMemberId(), requestDTO.getOrderNumber(), requestDTO.getType(), requestDTO.getMessage());
 
+        // 같은 승인 시도 ID 로 이미 등록된 경우 기존 등록 결과 반환
+        ReceivingHistoryResponseDTO registered = findRegistered(requestDTO.getApprovalAttemptId());
+        if (registered != null) {
+            log.info("이미 등록된 입출고 히스토리 - Approval Attempt ID: {}, 히스토리 ID: {}",
+                    requestDTO.getApprovalAttemptId(), registered.getId());
+            return registered;
+        }
+
+        Map<Long, PartSnapshot> partSnapshots = receivingHistoryItemSnapshotService.capture(collectPartIds(List.of(requestDTO)));
+        return transactionTemplate.execute(status -> {
+            ReceivingOrderHistory saved = receivingOrderHistoryRepository.save(buildHistory(requestDTO, partSnapshots));
+            saveApprovalAttempts(List.of(saved));
+            appendSuccessEvents(List.of(saved));
+            receivingHistoryCountService.increment(saved.getMemberId());
+            receivingHistoryRollupService.apply(List.of(saved));
+
+            log.info("입출고 히스토리 등록 완료 - 가맹점 ID: {}, 주문 번호: {}, 타입: {}, 상태: {}, 아이템 수: {}",
+                    requestDTO.getMemberId(), requestDTO.getOrderNumber(), requestDTO.getType(),
+                    requestDTO.getStatus(), saved.getItems().size());
+
+            ReceivingHistoryResponseDTO savedResponse = toResponseDTO(saved);
+            receivingHistoryIdempotencyService.remember(saved.getApprovalAttemptId(), savedResponse);
+            return savedResponse;
+        });
+    }
+
+    // 여러 건의 입출고 히스토리를 하나의 트랜잭션으로 등록 (이벤트 배치 수집용)
+    // 이미 등록된 승인 시도 ID 와 배치 안에서 중복된 승인 시도 ID 는 기존 등록 결과로 응답
+    // 단건 등록과 마찬가지로 부품 스냅샷은 트랜잭션을 열기 전에 배치 전체를 한 번에 조회
+    public List<ReceivingHistoryResponseDTO> registerReceivingHistories(List<ReceivingHistoryRequestDTO> requestDTOs) {
+        log.info("입출고 히스토리 일괄 등록 시작 - 건수: {}", requestDTOs.size());
+
+        Map<String, ReceivingHistoryResponseDTO> registered = findAllRegistered(requestDTOs.stream()
+                .map(ReceivingHistoryRequestDTO::getApprovalAttemptId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<ReceivingHistoryResponseDTO> responses = new ArrayList<>(Collections.nCopies(requestDTOs.size(), null));
+        List<ReceivingHistoryRequestDTO> pendingDTOs = new ArrayList<>();
+        List<Integer> historyPositions = new ArrayList<>();
+        Map<String, Integer> firstPositions = new HashMap<>();
+        Map<Integer, Integer> duplicatePositions = new HashMap<>();
+
+        for (int i = 0; i < requestDTOs.size(); i++) {
+            String approvalAttemptId = requestDTOs.get(i).getApprovalAttemptId();
+            if (approvalAttemptId != null) {
+                if (registered.containsKey(approvalAttemptId)) {
+                    responses.set(i, registered.get(approvalAttemptId));
+                    continue;
+                }
+                Integer firstPosition = firstPositions.putIfAbsent(approvalAttemptId, i);
+                if (firstPosition != null) {
+                    duplicatePositions.put(i, firstPosition);
+                    continue;
+                }
+            }
+            pendingDTOs.add(requestDTOs.get(i));
+            historyPositions.add(i);
+        }
+
+        // 배치 전체의 부품 ID를 모아 한 번에 스냅샷 조회
+        Map<Long, PartSnapshot> partSnapshots = receivingHistoryItemSnapshotService.capture(collectPartIds(pendingDTOs));
+        List<ReceivingOrderHistory> histories = pendingDTOs.stream()
+                .map(requestDTO -> buildHistory(requestDTO, partSnapshots))
+                .collect(Collectors.toList());
+
+        int savedCount = transactionTemplate.execute(status -> {
+            List<ReceivingOrderHistory> saved = receivingOrderHistoryRepository.saveAll(histories);
+            saveApprovalAttempts(saved);
+            appendSuccessEvents(saved);
+            receivingHistoryRollupService.apply(saved);
+            for (int i = 0; i < saved.size(); i++) {
+                ReceivingOrderHistory history = saved.get(i);
+                ReceivingHistoryResponseDTO response = toResponseDTO(history);
+                receivingHistoryCountService.increment(history.getMemberId());
+                receivingHistoryIdempotencyService.remember(history.getApprovalAttemptId(), response);
+                responses.set(historyPositions.get(i), response);
+            }
+            return saved.size();
+        });
+        duplicatePositions.forEach((position, firstPosition) -> responses.set(position, responses.get(firstPosition)));
+
+        log.info("입출고 히스토리 일괄 등록 완료 - 요청 건수: {}, 신규 등록 건수: {}", requestDTOs.size(), savedCount);
+
+        return responses;
+    }
+
+    // 승인 시도 ID 로 등록된 결과를 최근 등록 캐시, DB 순으로 조회 (없으면 null)
+    private ReceivingHistoryResponseDTO findRegistered(String approvalAttemptId) {
+        if (approvalAttemptId == null) {
+            return null;
+        }
+        ReceivingHistoryResponseDTO recent = receivingHistoryIdempotencyService.findRecent(approvalAttemptId);
+        if (recent != null) {
+            return recent;
+        }
+        return receivingHistoryApprovalAttemptRepository.findById(approvalAttemptId)
+                .flatMap(attempt -> receivingOrderHistoryRepository.findByIdAndCreatedAt(
+                        attempt.getHistoryId(), attempt.getHistoryCreatedAt()))
+                // 백필 전에는 V8 이전 승인 시도가 승인 시도 테이블에 없을 수 있으므로 히스토리 테이블에서도 확인
+                .or(() -> receivingHistoryPartitionKeyBackfillService.isCompleted() ? Optional.empty()
+                        : receivingOrderHistoryRepository.findByApprovalAttemptId(approvalAttemptId))
+                .map(history -> {
+                    ReceivingHistoryResponseDTO response = toResponseDTO(history);
+                    receivingHistoryIdempotencyService.remember(approvalAttemptId, response);
+                    return response;
+                })
+                .orElse(null);
+    }
+
+    private Map<String, ReceivingHistoryResponseDTO> findAllRegistered(Set<String> approvalAttemptIds) {
+        if (approvalAttemptIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ReceivingHistoryResponseDTO> registered =
+                new HashMap<>(receivingHistoryIdempotencyService.findAllRecent(approvalAttemptIds));
+
+        List<String> missing = approvalAttemptIds.stream()
+                .filter(approvalAttemptId -> !registered.containsKey(approvalAttemptId))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<ReceivingHistoryApprovalAttempt> attempts = receivingHistoryApprovalAttemptRepository.findAllById(missing);
+            List<ReceivingOrderHistory> histories = attempts.isEmpty() ? List.of()
+                    : receivingOrderHistoryRepository.findAllByIdInAndCreatedAtIn(
+                            attempts.stream().map(ReceivingHistoryApprovalAttempt::getHistoryId).toList(),
+                            attempts.stream().map(ReceivingHistoryApprovalAttempt::getHistoryCreatedAt).collect(Collectors.toSet()));
+            if (histories.size() < missing.size() && !receivingHistoryPartitionKeyBackfillService.isCompleted()) {
+                // 백필 전에는 V8 이전 승인 시도가 승인 시도 테이블에 없을 수 있으므로 히스토리 테이블에서도 확인
+                Set<String> found = histories.stream().map(ReceivingOrderHistory::getApprovalAttemptId).collect(Collectors.toSet());
+                List<ReceivingOrderHistory> legacy = receivingOrderHistoryRepository.findAllByApprovalAttemptIdIn(
+                        missing.stream().filter(approvalAttemptId -> !found.contains(approvalAttemptId)).toList());
+                histories = new ArrayList<>(histories);
+                histories.addAll(legacy);
+            }
+            for (ReceivingOrderHistory history : histories) {
+                ReceivingHistoryResponseDTO response = toResponseDTO(history);
+                receivingHistoryIdempotencyService.remember(history.getApprovalAttemptId(), response);
+                registered.put(history.getApprovalAttemptId(), response);
+            }
+        }
+        return registered;
+    }
+
+    // 승인 시도 ID 가 있는 히스토리의 승인 시도를 같은 트랜잭션에서 저장
+    // (동시에 같은 승인 시도 ID 로 등록하면 PK 제약 위반으로 한쪽 트랜잭션이 롤백됨)
+    private void saveApprovalAttempts(List<ReceivingOrderHistory> histories) {
+        List<ReceivingHistoryApprovalAttempt> attempts = histories.stream()
+                .filter(history -> history.getApprovalAttemptId() != null)
+                .map(history -> ReceivingHistoryApprovalAttempt.builder()
+                        .approvalAttemptId(history.getApprovalAttemptId())
+                        .historyId(history.getId())
+                        .historyCreatedAt(history.getCreatedAt())
+                        .build())
+                .toList();
+        if (!attempts.isEmpty()) {
+            receivingHistoryApprovalAttemptRepository.saveAll(attempts);
+        }
+    }
+
+    // 승인 시도 ID 가 있는 히스토리의 성공 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (REST 등록과 이벤트 등록 공통)
+    // 이미 등록된 승인 시도는 처음 등록할 때 기록한 이벤트가 발행되므로 새로 저장한 히스토리만 기록
+    private void appendSuccessEvents(List<ReceivingOrderHistory> histories) {
+        if (!receivingHistoryOutboxService.isEnabled()) {
+            return;
+        }
+        histories.stream()
+                .filter(history -> history.getApprovalAttemptId() != null)
+                .forEach(history -> receivingHistoryOutboxService.appendSuccess(ReceivingOrderHistorySuccessEvent.builder()
+                        .orderId(history.getOrderId())
+                        .orderNumber(history.getOrderNumber())
+                        .approvalAttemptId(history.getApprovalAttemptId())
+                        .message(history.getMessage())
+                        .build()));
+    }
+
+    // 등록 요청들에 포함된 부품 ID를 모으는 헬퍼 메서드
+    private List<Long> collectPartIds(List<ReceivingHistoryRequestDTO> requestDTOs) {
+        return requestDTOs.stream()
+                .filter(requestDTO -> requestDTO.getItems() != null)
+                .flatMap(requestDTO -> requestDTO.getItems().stream())
+                .map(ReceivingHistoryRequestDTO.HistoryItemDTO::getPartId)
+                .toList();
+    }
+
+    // 등록 요청으로 히스토리 엔티티를 생성하는 헬퍼 메서드
+    private ReceivingOrderHistory buildHistory(ReceivingHistoryRequestDTO requestDTO, Map<Long, PartSnapshot> partSnapshots) {
         // 히스토리 엔티티 생성
         ReceivingOrderHistory receivingOrderHistory = ReceivingOrderHistory.builder()
                 .memberId(requestDTO.getMemberId()) // 가맹점 ID
                 .orderId(requestDTO.getOrderId()) // 주문 ID
                 .orderNumber(requestDTO.getOrderNumber()) // 주문 번호
+                .approvalAttemptId(requestDTO.getApprovalAttemptId()) // 승인 시도 ID
                 .message(requestDTO.getMessage()) // 메시지
                 .status(requestDTO.getStatus()) // 상태
                 .type(requestDTO.getType()) // 타입
-                .items(new java.util.ArrayList<>())
+                .items(new ArrayList<>())
                 .build();
 
         // 부품 아이템 추가
         if (requestDTO.getItems() != null && !requestDTO.getItems().isEmpty()) {
             for (ReceivingHistoryRequestDTO.HistoryItemDTO itemDTO : requestDTO.getItems()) {
-                com.stockmate.information.api.order.entity.ReceivingHistoryItem item = 
-                        com.stockmate.information.api.order.entity.ReceivingHistoryItem.builder()
+                ReceivingHistoryItem item = 
+                        ReceivingHistoryItem.builder()
                         .history(receivingOrderHistory)
                         .partId(itemDTO.getPartId())
                         .quantity(itemDTO.getQuantity())
+                        .partSnapshot(partSnapshots.get(itemDTO.getPartId())) // 등록 시점 부품 정보
                         .build();
                 receivingOrderHistory.getItems().add(item);
             }
         }
+        return receivingOrderHistory;
+    }
 
-        ReceivingOrderHistory saved = receivingOrderHistoryRepository.save(receivingOrderHistory);
-        
-        log.info("입출고 히스토리 등록 완료 - 가맹점 ID: {}, 주문 번호: {}, 타입: {}, 상태: {}, 아이템 수: {}",
-                requestDTO.getMemberId(), requestDTO.getOrderNumber(), requestDTO.getType(), 
-                requestDTO.getStatus(), saved.getItems().size());
-
+    private ReceivingHistoryResponseDTO toResponseDTO(ReceivingOrderHistory saved) {
         return ReceivingHistoryResponseDTO.builder()
                 .id(saved.getId())
                 .memberId(saved.getMemberId())
@@ -67,283 +300,548 @@ public class ReceivingOrderHistoryService {
 
     // 가맹점별 입출고 히스토리 조회 (페이지네이션)
     @Transactional(readOnly = true)
-    public ReceivingHistoryListResponseDTO getReceivingHistoryByMemberId(Long memberId, int page, int size) {
-        log.info("가맹점별 입출고 히스토리 조회 - 가맹점 ID: {}, Page: {}, Size: {}", memberId, page, size);
+    public ReceivingHistoryListResponseDTO getReceivingHistoryByMemberId(Long memberId, int page, int size,
+                                                                       LocalDate from, LocalDate to) {
+        log.info("가맹점별 입출고 히스토리 조회 - 가맹점 ID: {}, Page: {}, Size: {}, 기간: {} ~ {}", memberId, page, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
         
         // 페이지 번호와 크기 검증
         int validPage = page < 0 ? 0 : page;
         int validSize = (size <= 0 || size > 100) ? 20 : size;
         
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(validPage, validSize);
-        org.springframework.data.domain.Page<ReceivingOrderHistory> historyPage = receivingOrderHistoryRepository.findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
+        Pageable pageable = PageRequest.of(validPage, validSize);
+        Slice<Long> idSlice = receivingOrderHistoryRepository.findIdsByMemberIdOrderByCreatedAtDesc(
+                memberId, range.getFrom(), range.getTo(), pageable);
+        ReceivingHistoryColdTierService.Query archivedQuery = receivingHistoryColdTierService.byMemberId(memberId, range);
+        long totalElements = getMemberCount(memberId, range) + archivedQuery.count();
+        ArchivedPage archived = findArchivedPage(idSlice, archivedQuery,
+                () -> receivingOrderHistoryRepository.countByMemberIdInRange(memberId, range.getFrom(), range.getTo()));
         
         log.info("가맹점별 입출고 히스토리 조회 완료 - 가맹점 ID: {}, 총 데이터 수: {}, 현재 페이지 데이터 수: {}", 
-                memberId, historyPage.getTotalElements(), historyPage.getContent().size());
-        
-        // Entity를 DetailDTO로 변환
-        java.util.List<ReceivingHistoryDetailDTO> content = historyPage.getContent().stream()
-                .map(this::convertToDetailDTO)
-                .collect(java.util.stream.Collectors.toList());
+                memberId, totalElements, idSlice.getNumberOfElements());
 
-        return ReceivingHistoryListResponseDTO.builder()
-                .totalElements(historyPage.getTotalElements())
-                .totalPages(historyPage.getTotalPages())
-                .currentPage(historyPage.getNumber())
-                .pageSize(historyPage.getSize())
-                .isLast(historyPage.isLast())
-                .content(content)
-                .build();
+        return buildListResponse(idSlice, totalElements, range, false, archived);
     }
 
     // 관리자용 - 모든 입출고 히스토리 조회 (페이지네이션)
     @Transactional(readOnly = true)
-    public ReceivingHistoryListResponseDTO getAllReceivingHistory(int page, int size) {
-        log.info("관리자용 전체 입출고 히스토리 조회 - Page: {}, Size: {}", page, size);
+    public ReceivingHistoryListResponseDTO getAllReceivingHistory(int page, int size, LocalDate from, LocalDate to) {
+        log.info("관리자용 전체 입출고 히스토리 조회 - Page: {}, Size: {}, 기간: {} ~ {}", page, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
         
         // 페이지 번호와 크기 검증
         int validPage = page < 0 ? 0 : page;
         int validSize = (size <= 0 || size > 100) ? 20 : size;
         
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(validPage, validSize);
-        org.springframework.data.domain.Page<ReceivingOrderHistory> historyPage = receivingOrderHistoryRepository.findAllOrderByCreatedAtDesc(pageable);
+        Pageable pageable = PageRequest.of(validPage, validSize);
+        Slice<Long> idSlice = receivingOrderHistoryRepository.findAllIdsOrderByCreatedAtDesc(range.getFrom(), range.getTo(), pageable);
+        long totalElements = range.isBounded()
+                ? receivingOrderHistoryRepository.countInRange(range.getFrom(), range.getTo())
+                : receivingHistoryCountService.getTotalCount();
         
         log.info("관리자용 전체 입출고 히스토리 조회 완료 - 총 데이터 수: {}, 현재 페이지 데이터 수: {}", 
-                historyPage.getTotalElements(), historyPage.getContent().size());
-        
-        // 모든 히스토리의 회원 ID 추출
-        java.util.Set<Long> memberIds = historyPage.getContent().stream()
-                .map(ReceivingOrderHistory::getMemberId)
-                .collect(java.util.stream.Collectors.toSet());
-        
-        log.info("사용자 정보 조회 시작 - 회원 수: {}", memberIds.size());
-        
-        // 사용자 정보 일괄 조회
-        java.util.Map<Long, com.stockmate.information.api.order.dto.UserBatchResponseDTO> userMap = 
-                userApiService.getUsersByMemberIds(new java.util.ArrayList<>(memberIds));
-        
-        log.info("사용자 정보 조회 완료 - 조회된 회원 수: {}", userMap.size());
-        
-        // Entity를 DetailDTO로 변환 (사용자 정보 포함)
-        java.util.List<ReceivingHistoryDetailDTO> content = historyPage.getContent().stream()
-                .map(history -> convertToDetailDTOWithUser(history, userMap))
-                .collect(java.util.stream.Collectors.toList());
+                totalElements, idSlice.getNumberOfElements());
 
-        return ReceivingHistoryListResponseDTO.builder()
-                .totalElements(historyPage.getTotalElements())
-                .totalPages(historyPage.getTotalPages())
-                .currentPage(historyPage.getNumber())
-                .pageSize(historyPage.getSize())
-                .isLast(historyPage.isLast())
-                .content(content)
-                .build();
+        return buildListResponse(idSlice, totalElements, range, true, ArchivedPage.EMPTY);
     }
 
     // 관리자용 - 특정 가맹점 입출고 히스토리 조회 (페이지네이션)
     @Transactional(readOnly = true)
-    public ReceivingHistoryListResponseDTO getReceivingHistoryByMemberIdForAdmin(Long memberId, int page, int size) {
-        log.info("관리자용 특정 가맹점 입출고 히스토리 조회 - 가맹점 ID: {}, Page: {}, Size: {}", memberId, page, size);
+    public ReceivingHistoryListResponseDTO getReceivingHistoryByMemberIdForAdmin(Long memberId, int page, int size,
+                                                                               LocalDate from, LocalDate to) {
+        log.info("관리자용 특정 가맹점 입출고 히스토리 조회 - 가맹점 ID: {}, Page: {}, Size: {}, 기간: {} ~ {}",
+                memberId, page, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
         
         // 페이지 번호와 크기 검증
         int validPage = page < 0 ? 0 : page;
         int validSize = (size <= 0 || size > 100) ? 20 : size;
         
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(validPage, validSize);
-        org.springframework.data.domain.Page<ReceivingOrderHistory> historyPage = receivingOrderHistoryRepository.findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
+        Pageable pageable = PageRequest.of(validPage, validSize);
+        Slice<Long> idSlice = receivingOrderHistoryRepository.findIdsByMemberIdOrderByCreatedAtDesc(
+                memberId, range.getFrom(), range.getTo(), pageable);
+        ReceivingHistoryColdTierService.Query archivedQuery = receivingHistoryColdTierService.byMemberId(memberId, range);
+        long totalElements = getMemberCount(memberId, range) + archivedQuery.count();
+        ArchivedPage archived = findArchivedPage(idSlice, archivedQuery,
+                () -> receivingOrderHistoryRepository.countByMemberIdInRange(memberId, range.getFrom(), range.getTo()));
         
         log.info("관리자용 특정 가맹점 입출고 히스토리 조회 완료 - 가맹점 ID: {}, 총 데이터 수: {}, 현재 페이지 데이터 수: {}", 
-                memberId, historyPage.getTotalElements(), historyPage.getContent().size());
-        
-        // 사용자 정보 조회
-        log.info("사용자 정보 조회 시작 - 회원 ID: {}", memberId);
-        
-        java.util.Map<Long, com.stockmate.information.api.order.dto.UserBatchResponseDTO> userMap = 
-                userApiService.getUsersByMemberIds(java.util.List.of(memberId));
-        
-        log.info("사용자 정보 조회 완료 - 조회된 회원 수: {}", userMap.size());
-        
-        // Entity를 DetailDTO로 변환 (사용자 정보 포함)
-        java.util.List<ReceivingHistoryDetailDTO> content = historyPage.getContent().stream()
-                .map(history -> convertToDetailDTOWithUser(history, userMap))
-                .collect(java.util.stream.Collectors.toList());
+                memberId, totalElements, idSlice.getNumberOfElements());
 
-        return ReceivingHistoryListResponseDTO.builder()
-                .totalElements(historyPage.getTotalElements())
-                .totalPages(historyPage.getTotalPages())
-                .currentPage(historyPage.getNumber())
-                .pageSize(historyPage.getSize())
-                .isLast(historyPage.isLast())
-                .content(content)
-                .build();
+        return buildListResponse(idSlice, totalElements, range, true, archived);
     }
 
     // 주문별 입출고 히스토리 조회 (페이지네이션)
     @Transactional(readOnly = true)
-    public ReceivingHistoryListResponseDTO getReceivingHistoryByOrderNumber(String orderNumber, int page, int size) {
-        log.info("주문별 입출고 히스토리 조회 - Order Number: {}, Page: {}, Size: {}", orderNumber, page, size);
+    public ReceivingHistoryListResponseDTO getReceivingHistoryByOrderNumber(String orderNumber, int page, int size,
+                                                                          LocalDate from, LocalDate to) {
+        log.info("주문별 입출고 히스토리 조회 - Order Number: {}, Page: {}, Size: {}, 기간: {} ~ {}", orderNumber, page, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
         
         // 페이지 번호와 크기 검증
         int validPage = page < 0 ? 0 : page;
         int validSize = (size <= 0 || size > 100) ? 20 : size;
         
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(validPage, validSize);
-        org.springframework.data.domain.Page<ReceivingOrderHistory> historyPage = receivingOrderHistoryRepository.findByOrderNumberOrderByCreatedAtDesc(orderNumber, pageable);
+        Pageable pageable = PageRequest.of(validPage, validSize);
+        Slice<Long> idSlice = receivingOrderHistoryRepository.findIdsByOrderNumberOrderByCreatedAtDesc(
+                orderNumber, range.getFrom(), range.getTo(), pageable);
+        long hotElements = receivingOrderHistoryRepository.countByOrderNumberInRange(orderNumber, range.getFrom(), range.getTo());
+        ReceivingHistoryColdTierService.Query archivedQuery = receivingHistoryColdTierService.byOrderNumber(orderNumber, range);
+        long totalElements = hotElements + archivedQuery.count();
+        ArchivedPage archived = findArchivedPage(idSlice, archivedQuery, () -> hotElements);
         
         log.info("주문별 입출고 히스토리 조회 완료 - Order Number: {}, 총 데이터 수: {}, 현재 페이지 데이터 수: {}", 
-                orderNumber, historyPage.getTotalElements(), historyPage.getContent().size());
-        
-        // Entity를 DetailDTO로 변환
-        java.util.List<ReceivingHistoryDetailDTO> content = historyPage.getContent().stream()
-                .map(this::convertToDetailDTO)
-                .collect(java.util.stream.Collectors.toList());
+                orderNumber, totalElements, idSlice.getNumberOfElements());
+
+        return buildListResponse(idSlice, totalElements, range, false, archived);
+    }
+
+    // 기간을 지정하지 않으면 별도 관리되는 가맹점 건수, 지정하면 해당 기간의 파티션만 세어 사용
+    private long getMemberCount(Long memberId, ReceivingHistoryDateRange range) {
+        return range.isBounded()
+                ? receivingOrderHistoryRepository.countByMemberIdInRange(memberId, range.getFrom(), range.getTo())
+                : receivingHistoryCountService.getMemberCount(memberId);
+    }
+
+    // 가맹점별 입출고 히스토리 목록의 ETag (목록 행 조회와 외부 서버 호출 없이 계산, ETag 를 붙일 수 없으면 null)
+    @Transactional(readOnly = true)
+    public String getReceivingHistoryETagByMemberId(Long memberId, int page, int size, LocalDate from, LocalDate to) {
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+        if (!receivingHistoryItemRepository.findIdsWithoutPartSnapshotByMemberId(
+                memberId, range.getFrom(), range.getTo(), PageRequest.of(0, 1)).isEmpty()) {
+            return null;
+        }
+        ReceivingOrderHistoryRepository.HistoryVersion version = receivingOrderHistoryRepository.findVersionByMemberId(
+                memberId, range.getFrom(), range.getTo());
+        // 기간을 지정하지 않은 응답의 전체 건수는 별도로 관리되는 값이므로 함께 포함
+        long totalElements = range.isBounded() ? version.getCount() : receivingHistoryCountService.getMemberCount(memberId);
+        return buildETag("m" + memberId, range, version, totalElements, page, size);
+    }
+
+    // 주문별 입출고 히스토리 목록의 ETag (목록 행 조회와 외부 서버 호출 없이 계산, ETag 를 붙일 수 없으면 null)
+    @Transactional(readOnly = true)
+    public String getReceivingHistoryETagByOrderNumber(String orderNumber, int page, int size, LocalDate from, LocalDate to) {
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+        if (!receivingHistoryItemRepository.findIdsWithoutPartSnapshotByOrderNumber(
+                orderNumber, range.getFrom(), range.getTo(), PageRequest.of(0, 1)).isEmpty()) {
+            return null;
+        }
+        ReceivingOrderHistoryRepository.HistoryVersion version = receivingOrderHistoryRepository.findVersionByOrderNumber(
+                orderNumber, range.getFrom(), range.getTo());
+        return buildETag("o" + orderNumber, range, version, version.getCount(), page, size);
+    }
+
+    // 대상, 기간, 최대 ID, 건수, 페이지 정보로 ETag 생성 (페이지 번호와 크기는 목록 조회와 같은 규칙으로 보정)
+    // 스냅샷이 없는 아이템은 조회할 때마다 현재 부품 정보로 응답하고 백필로 부품 정보가 바뀌지만 이 값들에는 나타나지 않으므로,
+    // 기간에 그런 아이템이 있으면 호출 측에서 ETag 를 만들지 않음 (스냅샷이 채워진 아이템은 다시 바뀌지 않음)
+    private String buildETag(String target, ReceivingHistoryDateRange range, ReceivingOrderHistoryRepository.HistoryVersion version,
+                             long totalElements, int page, int size) {
+        int validPage = page < 0 ? 0 : page;
+        int validSize = (size <= 0 || size > 100) ? 20 : size;
+        String value = String.join("|", target, range.toKey(), String.valueOf(version.getMaxId()), String.valueOf(version.getCount()),
+                String.valueOf(totalElements), String.valueOf(validPage), String.valueOf(validSize));
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 가맹점별 입출고 히스토리 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public ReceivingHistoryCursorResponseDTO getReceivingHistoryByMemberIdWithCursor(Long memberId, String cursor, int size,
+                                                                                     LocalDate from, LocalDate to) {
+        log.info("가맹점별 입출고 히스토리 커서 조회 - 가맹점 ID: {}, Cursor: {}, Size: {}, 기간: {} ~ {}",
+                memberId, cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = validCursorSize(size);
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, validSize + 1);
+
+        List<Long> ids = decoded == null
+                ? receivingOrderHistoryRepository.findFirstIdsByMemberId(memberId, range.getFrom(), range.getTo(), limit)
+                : receivingOrderHistoryRepository.findIdsByMemberIdAfterCursor(memberId, range.getFrom(), range.getTo(),
+                        decoded.getCreatedAt(), decoded.getId(), limit);
+
+        return buildCursorResponse(ids, validSize, range, false,
+                receivingHistoryColdTierService.byMemberId(memberId, range), decoded);
+    }
+
+    // 관리자용 - 모든 입출고 히스토리 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public ReceivingHistoryCursorResponseDTO getAllReceivingHistoryWithCursor(String cursor, int size, LocalDate from, LocalDate to) {
+        log.info("관리자용 전체 입출고 히스토리 커서 조회 - Cursor: {}, Size: {}, 기간: {} ~ {}", cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = validCursorSize(size);
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, validSize + 1);
+
+        List<Long> ids = decoded == null
+                ? receivingOrderHistoryRepository.findFirstIds(range.getFrom(), range.getTo(), limit)
+                : receivingOrderHistoryRepository.findIdsAfterCursor(range.getFrom(), range.getTo(),
+                        decoded.getCreatedAt(), decoded.getId(), limit);
+
+        return buildCursorResponse(ids, validSize, range, true, null, decoded);
+    }
+
+    // 관리자용 - 특정 가맹점 입출고 히스토리 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public ReceivingHistoryCursorResponseDTO getReceivingHistoryByMemberIdForAdminWithCursor(Long memberId, String cursor, int size,
+                                                                                             LocalDate from, LocalDate to) {
+        log.info("관리자용 특정 가맹점 입출고 히스토리 커서 조회 - 가맹점 ID: {}, Cursor: {}, Size: {}, 기간: {} ~ {}",
+                memberId, cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = validCursorSize(size);
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, validSize + 1);
+
+        List<Long> ids = decoded == null
+                ? receivingOrderHistoryRepository.findFirstIdsByMemberId(memberId, range.getFrom(), range.getTo(), limit)
+                : receivingOrderHistoryRepository.findIdsByMemberIdAfterCursor(memberId, range.getFrom(), range.getTo(),
+                        decoded.getCreatedAt(), decoded.getId(), limit);
+
+        return buildCursorResponse(ids, validSize, range, true,
+                receivingHistoryColdTierService.byMemberId(memberId, range), decoded);
+    }
+
+    // 주문별 입출고 히스토리 조회 (커서 기반)
+    @Transactional(readOnly = true)
+    public ReceivingHistoryCursorResponseDTO getReceivingHistoryByOrderNumberWithCursor(String orderNumber, String cursor, int size,
+                                                                                        LocalDate from, LocalDate to) {
+        log.info("주문별 입출고 히스토리 커서 조회 - Order Number: {}, Cursor: {}, Size: {}, 기간: {} ~ {}",
+                orderNumber, cursor, size, from, to);
+        ReceivingHistoryDateRange range = ReceivingHistoryDateRange.of(from, to);
+
+        int validSize = validCursorSize(size);
+        ReceivingHistoryCursor decoded = ReceivingHistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, validSize + 1);
+
+        List<Long> ids = decoded == null
+                ? receivingOrderHistoryRepository.findFirstIdsByOrderNumber(orderNumber, range.getFrom(), range.getTo(), limit)
+                : receivingOrderHistoryRepository.findIdsByOrderNumberAfterCursor(orderNumber, range.getFrom(), range.getTo(),
+                        decoded.getCreatedAt(), decoded.getId(), limit);
+
+        return buildCursorResponse(ids, validSize, range, false,
+                receivingHistoryColdTierService.byOrderNumber(orderNumber, range), decoded);
+    }
+
+    private int validCursorSize(int size) {
+        return (size <= 0 || size > 100) ? 20 : size;
+    }
+
+    // 요청 크기보다 하나 더 조회한 ID 목록으로 다음 페이지 존재 여부와 다음 커서를 계산하는 헬퍼 메서드
+    private ReceivingHistoryCursorResponseDTO buildCursorResponse(List<Long> ids, int size, ReceivingHistoryDateRange range,
+                                                                  boolean includeUser,
+                                                                  ReceivingHistoryColdTierService.Query archivedQuery,
+                                                                  ReceivingHistoryCursor cursor) {
+        boolean hasNext = ids.size() > size;
+        List<ReceivingHistoryRow> histories = loadHistoryRows(hasNext ? ids.subList(0, size) : ids, range);
+        return assembleCursorResponse(histories, hasNext, size, includeUser, archivedQuery, cursor).block();
+    }
+
+    /**
+     * 운영 DB 에서 조회한 한 페이지의 히스토리로 커서 응답을 구성합니다. (리액티브 조회와 공용)
+     * 운영 DB 의 히스토리가 끝나면 남은 자리를 콜드 티어 히스토리로 채웁니다. (archivedQuery 가 null 이면 운영 DB 만 조회)
+     *
+     * @param histories 요청 크기 이하로 자른 운영 DB 히스토리
+     * @param hasNext   운영 DB 에 다음 히스토리가 있는지 여부
+     */
+    Mono<ReceivingHistoryCursorResponseDTO> assembleCursorResponse(List<ReceivingHistoryRow> histories, boolean hasNext, int size,
+                                                                   boolean includeUser,
+                                                                   ReceivingHistoryColdTierService.Query archivedQuery,
+                                                                   ReceivingHistoryCursor cursor) {
+        int remaining = size - histories.size();
+        // 콜드 티어의 히스토리는 모두 운영 DB 의 히스토리보다 오래되었으므로 요청 커서 이후를 그대로 이어 붙임
+        // (세그먼트 압축 해제는 요청/이벤트 루프 스레드를 점유하지 않도록 별도 스레드에서 수행)
+        Mono<List<ReceivingHistoryRow>> archived = hasNext || archivedQuery == null || !receivingHistoryColdTierService.isEnabled()
+                ? Mono.just(List.of())
+                : Mono.fromCallable(() -> archivedQuery.after(cursor, remaining + 1).stream()
+                                .map(ReceivingHistoryRow::from)
+                                .toList())
+                        .subscribeOn(Schedulers.boundedElastic());
+
+        return archived.flatMap(archivedRows -> {
+            boolean pageHasNext = hasNext || archivedRows.size() > remaining;
+            List<ReceivingHistoryRow> rows = concat(histories,
+                    archivedRows.size() > remaining ? archivedRows.subList(0, remaining) : archivedRows);
+
+            String nextCursor = null;
+            if (pageHasNext && !rows.isEmpty()) {
+                ReceivingHistoryRow last = rows.get(rows.size() - 1);
+                nextCursor = ReceivingHistoryCursor.of(last.createdAt(), last.id()).encode();
+            }
+            String encodedNextCursor = nextCursor;
+
+            return convertPage(rows, includeUser).map(page -> ReceivingHistoryCursorResponseDTO.builder()
+                    .pageSize(size)
+                    .hasNext(pageHasNext)
+                    .nextCursor(encodedNextCursor)
+                    .partial(page.partial())
+                    .content(page.content())
+                    .build());
+        });
+    }
+
+    // 운영 DB 의 목록 다음에 이어 붙일 콜드 티어 히스토리와 그 이후 히스토리 존재 여부
+    private record ArchivedPage(List<ReceivingHistoryRow> content, boolean hasNext) {
+        static final ArchivedPage EMPTY = new ArchivedPage(List.of(), false);
+    }
+
+    // 운영 DB 의 마지막 페이지부터 남은 자리를 콜드 티어 히스토리로 채움
+    // (운영 DB 의 히스토리가 없는 페이지는 운영 DB 의 정확한 건수만큼 건너뛴 위치부터 조회)
+    private ArchivedPage findArchivedPage(Slice<Long> idSlice, ReceivingHistoryColdTierService.Query archivedQuery,
+                                          LongSupplier hotCount) {
+        if (!receivingHistoryColdTierService.isEnabled() || idSlice.hasNext()) {
+            return ArchivedPage.EMPTY;
+        }
+
+        int limit = idSlice.getSize() - idSlice.getNumberOfElements();
+        long offset = idSlice.hasContent() ? 0 : Math.max(0, idSlice.getPageable().getOffset() - hotCount.getAsLong());
+        List<ArchivedHistory> rows = archivedQuery.page(offset, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        return new ArchivedPage((hasNext ? rows.subList(0, limit) : rows).stream()
+                .map(ReceivingHistoryRow::from)
+                .toList(), hasNext);
+    }
+
+    // ID 슬라이스와 별도로 관리되는 전체 건수로 목록 응답을 구성하는 헬퍼 메서드 (콜드 티어 히스토리는 운영 DB 히스토리 뒤에 붙임)
+    private ReceivingHistoryListResponseDTO buildListResponse(Slice<Long> idSlice, long totalElements, ReceivingHistoryDateRange range,
+                                                              boolean includeUser, ArchivedPage archived) {
+        List<ReceivingHistoryRow> histories = concat(loadHistoryRows(idSlice.getContent(), range), archived.content());
+
+        // 히스토리 행을 DetailDTO로 변환
+        PageContent page = convertPage(histories, includeUser).block();
+        boolean hasNext = idSlice.hasNext() || archived.hasNext();
+
+        // 전체 건수는 주기적으로 갱신되는 값이므로 현재 페이지까지의 건수보다 작지 않도록 보정
+        long minimumTotal = idSlice.getPageable().getOffset() + histories.size() + (hasNext ? 1 : 0);
+        long validTotal = Math.max(totalElements, minimumTotal);
 
         return ReceivingHistoryListResponseDTO.builder()
-                .totalElements(historyPage.getTotalElements())
-                .totalPages(historyPage.getTotalPages())
-                .currentPage(historyPage.getNumber())
-                .pageSize(historyPage.getSize())
-                .isLast(historyPage.isLast())
-                .content(content)
+                .totalElements(validTotal)
+                .totalPages((int) ((validTotal + idSlice.getSize() - 1) / idSlice.getSize()))
+                .currentPage(idSlice.getNumber())
+                .pageSize(idSlice.getSize())
+                .isLast(!hasNext)
+                .partial(page.partial())
+                .content(page.content())
                 .build();
     }
 
-    // Entity를 DetailDTO로 변환하는 헬퍼 메서드
-    private ReceivingHistoryDetailDTO convertToDetailDTO(ReceivingOrderHistory history) {
-        java.util.List<ReceivingHistoryDetailDTO.HistoryItemDTO> items = null;
-        
-        // Entity의 items에서 partId와 quantity 가져오기
-        if (history.getItems() != null && !history.getItems().isEmpty()) {
-            // Part ID 목록 추출
-            java.util.List<Long> partIds = history.getItems().stream()
-                    .map(com.stockmate.information.api.order.entity.ReceivingHistoryItem::getPartId)
-                    .collect(java.util.stream.Collectors.toList());
-            
-            // Parts 서버에서 부품 상세 정보 조회
-            java.util.Map<Long, java.util.Map<String, Object>> partDetailsMap = partsApiService.getPartDetails(partIds);
-            
-            // 부품 상세 정보와 수량을 결합
-            items = new java.util.ArrayList<>();
-            for (com.stockmate.information.api.order.entity.ReceivingHistoryItem item : history.getItems()) {
-                Long partId = item.getPartId();
-                int quantity = item.getQuantity();
-                
-                java.util.Map<String, Object> partDetail = partDetailsMap.get(partId);
-                
-                if (partDetail != null) {
-                    // 부품 서버에서 받은 모든 정보를 그대로 매핑
-                    items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
-                            .id(partId)
-                            .name((String) partDetail.get("name"))
-                            .price(((Number) partDetail.getOrDefault("price", 0)).intValue())
-                            .image((String) partDetail.get("image"))
-                            .trim((String) partDetail.get("trim"))
-                            .model((String) partDetail.get("model"))
-                            .category(((Number) partDetail.getOrDefault("category", 0)).intValue())
-                            .korName((String) partDetail.get("korName"))
-                            .engName((String) partDetail.get("engName"))
-                            .categoryName((String) partDetail.get("categoryName"))
-                            .amount(((Number) partDetail.getOrDefault("amount", 0)).intValue())
-                            .code((String) partDetail.get("code"))
-                            .location((String) partDetail.get("location"))
-                            .cost(((Number) partDetail.getOrDefault("cost", 0)).intValue())
-                            .historyQuantity(quantity) // 입고/출고 수량
-                            .build());
-                } else {
-                    // 부품 정보를 못 가져온 경우
-                    items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
-                            .id(partId)
-                            .name("알 수 없는 부품")
-                            .code(String.valueOf(partId))
-                            .historyQuantity(quantity)
-                            .build());
-                }
-            }
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        if (second.isEmpty()) {
+            return first;
         }
+        List<T> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+
+    // 1단계에서 조회한 히스토리 ID 목록으로 히스토리와 아이템을 행으로 조회하는 헬퍼 메서드
+    // 엔티티 대신 필요한 열만 읽어 영속성 컨텍스트에 올리지 않음 (히스토리 1회 + 아이템 1회 쿼리로 N+1 문제 방지)
+    private List<ReceivingHistoryRow> loadHistoryRows(List<Long> ids, ReceivingHistoryDateRange range) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, ReceivingHistoryRow> historyMap = receivingOrderHistoryRepository.findRowsByIdIn(ids, range.getFrom(), range.getTo()).stream()
+                .collect(Collectors.toMap(ReceivingHistoryRow::id, Function.identity()));
+        if (historyMap.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 아이템은 페이지 히스토리의 생성 시각 범위로 파티션을 제한하여 조회 (히스토리별 ID 순서 유지)
+        LocalDateTime oldest = historyMap.values().stream().map(ReceivingHistoryRow::createdAt).min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime newest = historyMap.values().stream().map(ReceivingHistoryRow::createdAt).max(LocalDateTime::compareTo).orElseThrow();
+        Map<Long, List<ReceivingHistoryItemRow>> itemsByHistory = receivingHistoryItemRepository
+                .findRowsByHistoryIdIn(historyMap.keySet(), oldest, newest).stream()
+                .collect(Collectors.groupingBy(ReceivingHistoryItemRow::historyId));
+
+        // ID 목록의 정렬 순서 복원
+        return ids.stream()
+                .map(historyMap::get)
+                .filter(Objects::nonNull)
+                .map(history -> history.withItems(itemsByHistory.getOrDefault(history.id(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // 변환된 페이지와 외부 정보 일부 누락 여부
+    record PageContent(List<ReceivingHistoryDetailDTO> content, boolean partial) {
+    }
+
+    /**
+     * 페이지 단위로 부품 상세 정보(includeUser 이면 사용자 정보도)를 동시에 조회하여 DetailDTO로 변환합니다.
+     * 블로킹 조회는 결과를 한 번만 기다리고, 리액티브 조회는 그대로 이어서 조합합니다.
+     */
+    Mono<PageContent> convertPage(List<ReceivingHistoryRow> histories, boolean includeUser) {
+        Mono<LookupResultDTO<Long, UserBatchResponseDTO>> users = includeUser
+                ? getUsersForPage(histories)
+                : Mono.just(LookupResultDTO.empty());
+
+        return Mono.zip(users, getPartDetailsForPage(histories))
+                .map(enrichment -> {
+                    Map<Long, UserBatchResponseDTO> userMap = enrichment.getT1().getValues();
+                    Map<Long, PartDetailDTO> partDetailsMap = enrichment.getT2().getValues();
+                    boolean partsPartial = enrichment.getT2().isPartial();
+                    if (includeUser) {
+                        log.info("사용자/부품 정보 조회 완료 - 조회된 회원 수: {}, 조회된 부품 수: {}", userMap.size(), partDetailsMap.size());
+                    }
+
+                    List<ReceivingHistoryDetailDTO> content = histories.stream()
+                            .map(history -> convertToDetailDTO(history, userMap.get(history.memberId()), partDetailsMap, partsPartial))
+                            .collect(Collectors.toList());
+                    return new PageContent(content, enrichment.getT1().isPartial() || partsPartial);
+                });
+    }
+
+    // 페이지의 회원 ID를 모아 사용자 정보를 일괄 조회하는 헬퍼 메서드
+    private Mono<LookupResultDTO<Long, UserBatchResponseDTO>> getUsersForPage(List<ReceivingHistoryRow> histories) {
+        if (histories.isEmpty()) {
+            return Mono.just(LookupResultDTO.empty());
+        }
+
+        // 모든 히스토리의 회원 ID 추출
+        Set<Long> memberIds = histories.stream()
+                .map(ReceivingHistoryRow::memberId)
+                .collect(Collectors.toSet());
+
+        log.info("사용자/부품 정보 조회 시작 - 회원 수: {}", memberIds.size());
+        return userApiService.getUsersByMemberIdsMono(new ArrayList<>(memberIds));
+    }
+
+    // 페이지에서 부품 스냅샷이 없는 아이템의 부품 ID를 모아 중복 제거 후 일괄 조회하는 헬퍼 메서드
+    // (스냅샷이 모두 채워진 페이지는 Parts 서버를 호출하지 않음)
+    private Mono<LookupResultDTO<Long, PartDetailDTO>> getPartDetailsForPage(List<ReceivingHistoryRow> histories) {
+        Set<Long> partIds = histories.stream()
+                .flatMap(history -> history.items().stream())
+                .filter(item -> !item.hasPartSnapshot())
+                .map(ReceivingHistoryItemRow::partId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (partIds.isEmpty()) {
+            return Mono.just(LookupResultDTO.empty());
+        }
+
+        log.info("페이지 부품 상세 정보 일괄 조회 - 히스토리 수: {}, 부품 수: {}", histories.size(), partIds.size());
+        return partsApiService.getPartDetailsMono(partIds);
+    }
+
+    // 히스토리 행을 DetailDTO로 변환하는 헬퍼 메서드 (사용자 정보를 조회하지 않은 경우 userInfo 는 null)
+    private ReceivingHistoryDetailDTO convertToDetailDTO(
+            ReceivingHistoryRow history,
+            UserBatchResponseDTO userInfo,
+            Map<Long, PartDetailDTO> partDetailsMap,
+            boolean partsPartial) {
 
         return ReceivingHistoryDetailDTO.builder()
-                .id(history.getId())
-                .memberId(history.getMemberId())
-                .orderId(history.getOrderId())
-                .orderNumber(history.getOrderNumber())
-                .message(history.getMessage())
-                .status(history.getStatus())
-                .type(history.getType())
-                .createdAt(history.getCreatedAt())
-                .updatedAt(history.getUpdatedAt())
-                .items(items)
+                .id(history.id())
+                .memberId(history.memberId())
+                .orderId(history.orderId())
+                .orderNumber(history.orderNumber())
+                .message(history.message())
+                .status(history.status())
+                .type(history.type())
+                .createdAt(history.createdAt())
+                .updatedAt(history.updatedAt())
+                .userInfo(userInfo) // 가맹점 정보
+                .items(convertToItemDTOs(history, partDetailsMap, partsPartial))
                 .build();
     }
 
-    // Entity를 DetailDTO로 변환하는 헬퍼 메서드 (사용자 정보 포함)
-    private ReceivingHistoryDetailDTO convertToDetailDTOWithUser(
-            ReceivingOrderHistory history, 
-            java.util.Map<Long, com.stockmate.information.api.order.dto.UserBatchResponseDTO> userMap) {
-        
-        java.util.List<ReceivingHistoryDetailDTO.HistoryItemDTO> items = null;
-        
-        // Entity의 items에서 partId와 quantity 가져오기
-        if (history.getItems() != null && !history.getItems().isEmpty()) {
-            // Part ID 목록 추출
-            java.util.List<Long> partIds = history.getItems().stream()
-                    .map(com.stockmate.information.api.order.entity.ReceivingHistoryItem::getPartId)
-                    .collect(java.util.stream.Collectors.toList());
-            
-            // Parts 서버에서 부품 상세 정보 조회
-            java.util.Map<Long, java.util.Map<String, Object>> partDetailsMap = partsApiService.getPartDetails(partIds);
-            
-            // 부품 상세 정보와 수량을 결합
-            items = new java.util.ArrayList<>();
-            for (com.stockmate.information.api.order.entity.ReceivingHistoryItem item : history.getItems()) {
-                Long partId = item.getPartId();
-                int quantity = item.getQuantity();
-                
-                java.util.Map<String, Object> partDetail = partDetailsMap.get(partId);
-                
-                if (partDetail != null) {
-                    // 부품 서버에서 받은 모든 정보를 그대로 매핑
-                    items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
-                            .id(partId)
-                            .name((String) partDetail.get("name"))
-                            .price(((Number) partDetail.getOrDefault("price", 0)).intValue())
-                            .image((String) partDetail.get("image"))
-                            .trim((String) partDetail.get("trim"))
-                            .model((String) partDetail.get("model"))
-                            .category(((Number) partDetail.getOrDefault("category", 0)).intValue())
-                            .korName((String) partDetail.get("korName"))
-                            .engName((String) partDetail.get("engName"))
-                            .categoryName((String) partDetail.get("categoryName"))
-                            .amount(((Number) partDetail.getOrDefault("amount", 0)).intValue())
-                            .code((String) partDetail.get("code"))
-                            .location((String) partDetail.get("location"))
-                            .cost(((Number) partDetail.getOrDefault("cost", 0)).intValue())
-                            .historyQuantity(quantity) // 입고/출고 수량
-                            .build());
-                } else {
-                    // 부품 정보를 못 가져온 경우
-                    items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
-                            .id(partId)
-                            .name("알 수 없는 부품")
-                            .code(String.valueOf(partId))
-                            .historyQuantity(quantity)
-                            .build());
-                }
+    // 히스토리 아이템과 미리 조회된 부품 상세 정보를 결합하는 헬퍼 메서드
+    // (Parts 서버 장애로 일부 조회되지 않은 경우 부품 ID와 수량만 채움)
+    private List<ReceivingHistoryDetailDTO.HistoryItemDTO> convertToItemDTOs(
+            ReceivingHistoryRow history,
+            Map<Long, PartDetailDTO> partDetailsMap,
+            boolean partsPartial) {
+
+        if (history.items().isEmpty()) {
+            return null;
+        }
+
+        // 부품 상세 정보와 수량을 결합
+        List<ReceivingHistoryDetailDTO.HistoryItemDTO> items = new ArrayList<>();
+        for (ReceivingHistoryItemRow item : history.items()) {
+            Long partId = item.partId();
+            int quantity = item.quantity();
+
+            // 등록 시점 스냅샷이 있으면 그대로 사용
+            if (item.hasPartSnapshot()) {
+                items.add(convertSnapshotToItemDTO(partId, quantity, item.partSnapshot()));
+                continue;
+            }
+
+            PartDetailDTO partDetail = partDetailsMap.get(partId);
+
+            if (partDetail != null) {
+                // 부품 서버에서 받은 모든 정보를 그대로 매핑
+                items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
+                        .id(partId)
+                        .name(partDetail.getName())
+                        .price(partDetail.getPrice())
+                        .image(partDetail.getImage())
+                        .trim(partDetail.getTrim())
+                        .model(partDetail.getModel())
+                        .category(partDetail.getCategory())
+                        .korName(partDetail.getKorName())
+                        .engName(partDetail.getEngName())
+                        .categoryName(partDetail.getCategoryName())
+                        .amount(partDetail.getAmount())
+                        .code(partDetail.getCode())
+                        .location(partDetail.getLocation())
+                        .cost(partDetail.getCost())
+                        .historyQuantity(quantity) // 입고/출고 수량
+                        .build());
+            } else if (partsPartial) {
+                // Parts 서버 장애로 부품 정보를 조회하지 못한 경우
+                items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
+                        .id(partId)
+                        .historyQuantity(quantity)
+                        .build());
+            } else {
+                // 부품 정보를 못 가져온 경우
+                items.add(ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
+                        .id(partId)
+                        .name("알 수 없는 부품")
+                        .code(String.valueOf(partId))
+                        .historyQuantity(quantity)
+                        .build());
             }
         }
+        return items;
+    }
 
-        // 사용자 정보 가져오기
-        com.stockmate.information.api.order.dto.UserBatchResponseDTO userInfo = userMap.get(history.getMemberId());
+    // 부품 스냅샷과 수량을 결합하는 헬퍼 메서드
+    private ReceivingHistoryDetailDTO.HistoryItemDTO convertSnapshotToItemDTO(Long partId, int quantity, PartSnapshot snapshot) {
+        if (!snapshot.isFound()) {
+            // 등록 시점에 Parts 서버에 없던 부품
+            return ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
+                    .id(partId)
+                    .name("알 수 없는 부품")
+                    .code(String.valueOf(partId))
+                    .historyQuantity(quantity)
+                    .build();
+        }
 
-        return ReceivingHistoryDetailDTO.builder()
-                .id(history.getId())
-                .memberId(history.getMemberId())
-                .orderId(history.getOrderId())
-                .orderNumber(history.getOrderNumber())
-                .message(history.getMessage())
-                .status(history.getStatus())
-                .type(history.getType())
-                .createdAt(history.getCreatedAt())
-                .updatedAt(history.getUpdatedAt())
-                .userInfo(userInfo) // 사용자 정보 추가
-                .items(items)
+        return ReceivingHistoryDetailDTO.HistoryItemDTO.builder()
+                .id(partId)
+                .name(snapshot.getName())
+                .price(valueOrZero(snapshot.getPrice()))
+                .image(snapshot.getImage())
+                .trim(snapshot.getTrim())
+                .model(snapshot.getModel())
+                .category(valueOrZero(snapshot.getCategory()))
+                .korName(snapshot.getKorName())
+                .engName(snapshot.getEngName())
+                .categoryName(snapshot.getCategoryName())
+                .amount(valueOrZero(snapshot.getAmount()))
+                .code(snapshot.getCode())
+                .location(snapshot.getLocation())
+                .cost(valueOrZero(snapshot.getCost()))
+                .historyQuantity(quantity) // 입고/출고 수량
                 .build();
     }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
 }
@@ -0,0 +1,89 @@
+package com.stockmate.information.api.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어온 같은 ID 의 외부 서버 조회를 하나의 요청으로 합칩니다. (single-flight)
+ * 이미 조회 중인 ID 는 진행 중인 요청의 결과를 공유하고, 나머지 ID 만 새 요청으로 조회합니다.
+ * 로더는 조회에 실패한 ID 를 결과에서 제외해야 하며, 호출 측은 이를 통해 일부 누락 여부를 판단합니다.
+ */
+class RequestCoalescer<K, V> {
+
+    // ID -> 해당 ID 를 조회 중인 요청의 결과
+    private final ConcurrentMap<K, Mono<Map<K, V>>> inFlight = new ConcurrentHashMap<>();
+    private final Function<List<K>, Mono<Map<K, V>>> loader;
+    private final Counter coalescedCounter;
+
+    RequestCoalescer(String name, Function<List<K>, Mono<Map<K, V>>> loader, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.coalescedCounter = Counter.builder("outbound.requests.coalesced")
+                .description("진행 중인 요청과 합쳐진 조회 ID 수")
+                .tag("target", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중복 없는 ID 목록을 조회합니다. 결과에는 요청한 ID 만 포함됩니다.
+     */
+    Mono<Map<K, V>> load(Collection<K> keys) {
+        // 이 요청이 맡은 ID 는 아래 반복이 끝난 뒤 불변 목록으로 한 번에 확정됨
+        // (반복 도중 다른 요청이 합류하여 먼저 구독해도 ID 가 확정될 때까지 조회를 시작하지 않음)
+        Sinks.One<List<K>> ownedKeysSink = Sinks.one();
+        AtomicReference<Mono<Map<K, V>>> ownedRef = new AtomicReference<>();
+
+        // 완료 후 진행 중 목록에서 제거 (로더가 먼저 캐시에 저장하므로 이후 요청은 캐시에서 조회)
+        Mono<Map<K, V>> owned = ownedKeysSink.asMono()
+                .flatMap(confirmedKeys -> loader.apply(confirmedKeys)
+                        .doFinally(signal -> confirmedKeys.forEach(key -> inFlight.remove(key, ownedRef.get()))))
+                .cache();
+        ownedRef.set(owned);
+
+        List<K> ownedKeys = new ArrayList<>();
+        Set<Mono<Map<K, V>>> joined = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (K key : keys) {
+            Mono<Map<K, V>> existing = inFlight.putIfAbsent(key, owned);
+            if (existing == null) {
+                ownedKeys.add(key);
+            } else {
+                joined.add(existing);
+            }
+        }
+        if (!ownedKeys.isEmpty()) {
+            ownedKeysSink.tryEmitValue(List.copyOf(ownedKeys));
+        }
+
+        if (ownedKeys.size() < keys.size()) {
+            coalescedCounter.increment(keys.size() - ownedKeys.size());
+        }
+
+        List<Mono<Map<K, V>>> sources = new ArrayList<>(joined);
+        if (!ownedKeys.isEmpty()) {
+            sources.add(owned);
+        }
+
+        return Flux.merge(sources)
+                .<Map<K, V>>collect(HashMap::new, (result, loaded) -> keys.forEach(key -> {
+                    V value = loaded.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }));
+    }
+}
@@ -1,82 +1,204 @@
 package com.stockmate.information.api.order.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmate.information.api.order.dto.ExternalApiResponseDTO;
+import com.stockmate.information.api.order.dto.LookupResultDTO;
 import com.stockmate.information.api.order.dto.UserBatchResponseDTO;
-import com.stockmate.information.common.exception.InternalServerException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserApiService {
 
+    private static final ParameterizedTypeReference<ExternalApiResponseDTO<List<UserBatchResponseDTO>>> USERS_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    @Qualifier("userWebClient")
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
 
     @Value("${user.server.url}")
     private String userServerUrl;
 
+    @Value("${user.cache.maximum-size:5000}")
+    private long cacheMaximumSize; // 캐시에 보관할 최대 회원 수
+
+    @Value("${user.cache.expire-after-write:PT1H}")
+    private Duration cacheExpireAfterWrite; // 저장 후 만료 시간
+
+    // 회원 ID -> 가맹점 정보
+    private Cache<Long, UserBatchResponseDTO> userCache;
+
+    // User 서버 장애 시 즉시 실패 처리 (resilience4j.circuitbreaker.instances.user.*)
+    private CircuitBreaker circuitBreaker;
+
+    // User 서버 동시 호출 수 제한 (resilience4j.bulkhead.instances.user.*)
+    private Bulkhead bulkhead;
+
+    // 동시에 들어온 같은 회원 ID 조회를 하나의 요청으로 합침 (Optional.empty() 는 User 서버에 없는 회원)
+    private RequestCoalescer<Long, Optional<UserBatchResponseDTO>> userCoalescer;
+
+    @PostConstruct
+    void initUserCache() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("user");
+        bulkhead = bulkheadRegistry.bulkhead("user");
+        userCoalescer = new RequestCoalescer<>("user", this::loadUsers, meterRegistry);
+
+        userCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheExpireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "users");
+    }
+
     /**
      * User 서버에서 사용자 정보를 일괄 조회합니다.
-     * 
+     * 캐시에 유효한 정보가 없는 회원 ID만 User 서버로 요청합니다.
+     * 다른 요청이 이미 조회 중인 회원 ID는 새로 요청하지 않고 진행 중인 요청의 결과를 함께 사용합니다.
+     *
      * @param memberIds 조회할 회원 ID 목록
      * @return 회원 ID를 키로 하는 사용자 정보 Map
      */
     public Map<Long, UserBatchResponseDTO> getUsersByMemberIds(List<Long> memberIds) {
+        return getUsersByMemberIdsMono(memberIds).block().getValues();
+    }
+
+    /**
+     * User 서버에서 사용자 정보를 논블로킹으로 일괄 조회합니다.
+     * 다른 외부 호출과 함께 조합하여 동시에 실행할 수 있도록 Mono 로 반환합니다.
+     * 서킷이 열려 있거나 요청이 실패한 경우 캐시된 정보만으로 응답하며 partial 로 표시됩니다.
+     *
+     * @param memberIds 조회할 회원 ID 목록
+     * @return 회원 ID를 키로 하는 사용자 정보 조회 결과를 발행하는 Mono
+     */
+    public Mono<LookupResultDTO<Long, UserBatchResponseDTO>> getUsersByMemberIdsMono(List<Long> memberIds) {
         if (memberIds == null || memberIds.isEmpty()) {
             log.warn("회원 ID 목록이 비어있습니다.");
-            return new HashMap<>();
+            return Mono.just(LookupResultDTO.empty());
+        }
+
+        List<Long> distinctMemberIds = memberIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, UserBatchResponseDTO> cached = userCache.getAllPresent(distinctMemberIds);
+        List<Long> missingMemberIds = distinctMemberIds.stream()
+                .filter(memberId -> !cached.containsKey(memberId))
+                .toList();
+
+        if (missingMemberIds.isEmpty()) {
+            return Mono.just(LookupResultDTO.of(new HashMap<>(cached), false));
         }
 
+        return userCoalescer.load(missingMemberIds)
+                .map(loaded -> {
+                    Map<Long, UserBatchResponseDTO> userMap = new HashMap<>(cached);
+                    loaded.forEach((memberId, user) -> user.ifPresent(found -> userMap.put(memberId, found)));
+                    // 조회에 실패한 회원 ID는 결과에 없음
+                    return LookupResultDTO.of(userMap, !loaded.keySet().containsAll(missingMemberIds));
+                });
+    }
+
+    /**
+     * 특정 회원의 캐시된 사용자 정보를 무효화합니다.
+     */
+    public void invalidateUser(Long memberId) {
+        userCache.invalidate(memberId);
+        log.info("사용자 정보 캐시 무효화 - 회원 ID: {}", memberId);
+    }
+
+    /**
+     * 캐시된 모든 사용자 정보를 무효화합니다.
+     */
+    public void invalidateAllUsers() {
+        userCache.invalidateAll();
+        log.info("사용자 정보 캐시 전체 무효화");
+    }
+
+    // User 서버에서 조회한 사용자 정보를 캐시에 저장하고, 응답에 없는 회원 ID는 Optional.empty() 로 채움
+    private Mono<Map<Long, Optional<UserBatchResponseDTO>>> loadUsers(List<Long> memberIds) {
+        return fetchUsersByMemberIds(memberIds)
+                .doOnNext(userCache::putAll)
+                .map(found -> {
+                    Map<Long, Optional<UserBatchResponseDTO>> result = new HashMap<>();
+                    for (Long memberId : memberIds) {
+                        result.put(memberId, Optional.ofNullable(found.get(memberId)));
+                    }
+                    return result;
+                });
+    }
+
+    // User 서버에 일괄 조회 요청 (서킷 오픈/벌크헤드 초과/실패 시 결과 없이 완료)
+    private Mono<Map<Long, UserBatchResponseDTO>> fetchUsersByMemberIds(List<Long> memberIds) {
         log.info("사용자 정보 일괄 조회 요청 - Member IDs 수: {}", memberIds.size());
 
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("memberIds", memberIds);
-
-            String response = webClient.post()
-                    .uri(userServerUrl + "/api/v1/user/batch")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            // JSON 파싱
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.JsonNode rootNode = objectMapper.readTree(response);
-            com.fasterxml.jackson.databind.JsonNode dataNode = rootNode.get("data");
-
-            Map<Long, UserBatchResponseDTO> userMap = new HashMap<>();
-
-            if (dataNode != null && dataNode.isArray()) {
-                for (com.fasterxml.jackson.databind.JsonNode userNode : dataNode) {
-                    try {
-                        UserBatchResponseDTO user = objectMapper.treeToValue(userNode, UserBatchResponseDTO.class);
-                        userMap.put(user.getMemberId(), user);
-                    } catch (Exception e) {
-                        log.error("사용자 정보 파싱 실패", e);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("memberIds", memberIds);
+
+        return webClient.post()
+                .uri(userServerUrl + "/api/v1/user/batch")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(USERS_RESPONSE_TYPE)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(response -> {
+                    Map<Long, UserBatchResponseDTO> userMap = new HashMap<>();
+                    if (response.getData() != null) {
+                        for (UserBatchResponseDTO user : response.getData()) {
+                            if (user != null && user.getMemberId() != null) {
+                                userMap.put(user.getMemberId(), user);
+                            }
+                        }
                     }
-                }
-            }
-
-            log.info("사용자 정보 일괄 조회 완료 - 조회된 사용자 수: {}", userMap.size());
-            return userMap;
-
-        } catch (WebClientResponseException e) {
-            log.error("User 서버 사용자 정보 조회 실패 - Status: {}, Response: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            return new HashMap<>();
-        } catch (Exception e) {
-            log.error("User 서버 사용자 정보 조회 중 예외 발생 - Error: {}", e.getMessage(), e);
-            return new HashMap<>();
-        }
+                    return userMap;
+                })
+                .doOnNext(userMap -> log.info("사용자 정보 일괄 조회 완료 - 조회된 사용자 수: {}", userMap.size()))
+                .onErrorResume(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    log.warn("User 서버 호출 차단 - Member IDs 수: {}, 사유: {}", memberIds.size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("User 서버 사용자 정보 조회 실패 - Status: {}, Response: {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    log.error("User 서버 사용자 정보 조회 중 예외 발생 - Error: {}", e.getMessage(), e);
+                    return Mono.empty();
+                });
     }
 }
-
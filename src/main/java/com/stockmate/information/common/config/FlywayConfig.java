@@ -0,0 +1,19 @@
+package com.stockmate.information.common.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // 마이그레이션 도입 전부터 운영 중인 DB 는 V1(기존 스키마)을 기준선으로 삼고 이후 버전만 적용
+    // 점검 시간에 수동 적용하는 마이그레이션(db/maintenance)은 애플리케이션 위치에 없으므로 적용 이력이 있어도 검증 오류로 보지 않음
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .ignoreMigrationPatterns("*:missing");
+    }
+}
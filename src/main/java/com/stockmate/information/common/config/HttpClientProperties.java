@@ -0,0 +1,27 @@
+package com.stockmate.information.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 외부 서버별 WebClient 커넥션 풀 및 타임아웃 설정 (parts.http-client.*, user.http-client.*)
+ */
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    private int maxConnections = 100; // 최대 커넥션 수
+    private int pendingAcquireMaxCount = 500; // 커넥션 획득 대기 최대 요청 수
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(3); // 커넥션 획득 대기 시간
+    private Duration maxIdleTime = Duration.ofSeconds(30); // 유휴 커넥션 유지 시간 (서버 keep-alive 보다 짧게)
+    private Duration maxLifeTime = Duration.ofMinutes(5); // 커넥션 최대 수명
+    private Duration evictInBackground = Duration.ofSeconds(30); // 유휴/만료 커넥션 정리 주기
+    private Duration connectTimeout = Duration.ofSeconds(2); // 연결 타임아웃
+    private Duration responseTimeout = Duration.ofSeconds(5); // 응답 헤더 수신 타임아웃
+    private Duration readTimeout = Duration.ofSeconds(5); // 응답 본문 읽기 간 유휴 타임아웃
+    private boolean compress = true; // gzip 응답 압축 요청
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(2); // 응답 본문 메모리 버퍼 최대 크기
+}
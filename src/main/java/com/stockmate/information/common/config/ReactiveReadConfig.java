@@ -0,0 +1,53 @@
+package com.stockmate.information.common.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * 입출고 히스토리 리액티브 조회용 R2DBC 커넥션 풀을 구성합니다. (history.reactive.enabled=true 일 때만 생성)
+ * JPA(JDBC) 커넥션 풀과 별도로 동작하며, 조회 전용이므로 트랜잭션 매니저는 만들지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "history.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool historyConnectionPool(
+            @Value("${history.reactive.r2dbc.url}") String url, // 예: r2dbc:mysql://host:3306/information
+            @Value("${history.reactive.r2dbc.username}") String username,
+            @Value("${history.reactive.r2dbc.password:}") String password,
+            @Value("${history.reactive.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${history.reactive.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${history.reactive.r2dbc.pool.max-acquire-time:PT3S}") Duration maxAcquireTime, // 커넥션 획득 대기 시간
+            @Value("${history.reactive.r2dbc.pool.max-idle-time:PT10M}") Duration maxIdleTime) {
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("history-reactive")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .maxIdleTime(maxIdleTime)
+                .validationQuery("SELECT 1")
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient historyDatabaseClient(ConnectionPool historyConnectionPool) {
+        return DatabaseClient.create(historyConnectionPool);
+    }
+}
@@ -0,0 +1,35 @@
+package com.stockmate.information.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 실행 환경을 확인합니다.
+ * JDK 21 이상에서는 Spring Boot 가 요청 처리(Tomcat), 스케줄러, 비동기 응답(히스토리 내보내기)을 가상 스레드로 실행하며,
+ * 요청 스레드에서 외부 서버(Parts, User) 응답을 기다리는 block() 은 캐리어 스레드를 점유하지 않습니다.
+ * JDK 21 미만에서는 설정이 무시되고 플랫폼 스레드로 실행되므로 시작 시 경고를 남깁니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final int VIRTUAL_THREAD_MIN_VERSION = 21;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logVirtualThreadMode() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < VIRTUAL_THREAD_MIN_VERSION) {
+            log.warn("가상 스레드 모드가 설정되었지만 JDK {} 에서는 지원되지 않아 플랫폼 스레드로 실행 - JDK 21 이상 이미지 필요", javaVersion);
+            return;
+        }
+
+        // 캐리어 스레드 수는 기본적으로 컨테이너 CPU 수 (jdk.virtualThreadScheduler.parallelism 으로 조정)
+        log.info("가상 스레드 모드로 실행 - JDK: {}, 캐리어 스레드 수: {}", javaVersion,
+                System.getProperty("jdk.virtualThreadScheduler.parallelism",
+                        String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+}
@@ -1,15 +1,98 @@
 package com.stockmate.information.common.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 서버(Parts, User)별로 커넥션 풀을 분리한 WebClient 를 구성합니다.
+ * 한 서버의 지연이 다른 서버 호출의 커넥션을 점유하지 않도록 하며,
+ * 풀 지표(reactor.netty.connection.provider.*)는 이름(parts, user)별로 노출됩니다.
+ */
 @Configuration
 public class WebClientConfig {
-    
+
+    private static final String READ_TIMEOUT_HANDLER = "readTimeoutHandler";
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    @ConfigurationProperties("parts.http-client")
+    public HttpClientProperties partsHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("user.http-client")
+    public HttpClientProperties userHttpClientProperties() {
+        return new HttpClientProperties();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider partsConnectionProvider(@Qualifier("partsHttpClientProperties") HttpClientProperties properties) {
+        return connectionProvider("parts", properties);
     }
-}
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userConnectionProvider(@Qualifier("userHttpClientProperties") HttpClientProperties properties) {
+        return connectionProvider("user", properties);
+    }
+
+    // Spring Boot 가 구성한 Builder 를 사용하여 애플리케이션 공용 ObjectMapper 기반 코덱을 공유
+    @Bean
+    public WebClient partsWebClient(WebClient.Builder webClientBuilder,
+                                    @Qualifier("partsConnectionProvider") ConnectionProvider connectionProvider,
+                                    @Qualifier("partsHttpClientProperties") HttpClientProperties properties) {
+        return webClient(webClientBuilder, connectionProvider, properties);
+    }
+
+    @Bean
+    public WebClient userWebClient(WebClient.Builder webClientBuilder,
+                                   @Qualifier("userConnectionProvider") ConnectionProvider connectionProvider,
+                                   @Qualifier("userHttpClientProperties") HttpClientProperties properties) {
+        return webClient(webClientBuilder, connectionProvider, properties);
+    }
+
+    private ConnectionProvider connectionProvider(String name, HttpClientProperties properties) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictInBackground())
+                .metrics(true) // 활성/유휴/대기 커넥션 게이지
+                .build();
+    }
+
+    private WebClient webClient(WebClient.Builder webClientBuilder, ConnectionProvider connectionProvider,
+                                HttpClientProperties properties) {
+        long readTimeoutMillis = properties.getReadTimeout().toMillis();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(properties.isCompress())
+                .responseTimeout(properties.getResponseTimeout())
+                // 본문 읽기 타임아웃은 요청마다 응답 헤더 수신 후 추가하고 응답을 다 읽으면 제거
+                // (커넥션 연결 시 추가하면 풀에 반납될 때 제거된 뒤 재사용하는 요청에는 다시 추가되지 않음)
+                .doOnResponse((response, connection) -> connection.addHandlerLast(READ_TIMEOUT_HANDLER,
+                        new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)))
+                .doAfterResponseSuccess((response, connection) -> connection.removeHandler(READ_TIMEOUT_HANDLER));
+
+        // Builder 는 프로토타입 빈이지만 설정이 섞이지 않도록 복제하여 사용
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+    }
+}
@@ -10,7 +10,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,6 +29,10 @@ public class JwtHeaderFilter extends OncePerRequestFilter {
     private static final String MEMBER_ID_HEADER = "X-Member-Id";
     private static final String MEMBER_ROLE_HEADER = "X-Member-Role";
 
+    // 이 필터는 비동기 응답(ASYNC 디스패치)에서 다시 실행되지 않으므로 인증 정보를 요청 속성에 저장하여
+    // SecurityContextHolderFilter 가 ASYNC 디스패치에서 불러오도록 함 (SecurityConfig 의 저장소와 같은 요청 속성 사용)
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -58,7 +65,10 @@ public class JwtHeaderFilter extends OncePerRequestFilter {
             );
 
             // SecurityContextHolder에 인증 정보 등록
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
             log.info("인증 성공: SecurityUser(Member ID '{}', Role '{}')가 Security Context에 저장되었습니다.", memberId, role);
 
         } catch (NumberFormatException e) {
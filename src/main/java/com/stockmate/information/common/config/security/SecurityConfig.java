@@ -11,6 +11,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 
 @Configuration
 @EnableWebSecurity
@@ -28,6 +29,9 @@ public class SecurityConfig {
                 // 세션을 사용하지 않음 (Stateless API)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+                // 인증 정보는 요청 속성에만 저장 (JwtHeaderFilter 가 저장한 인증 정보를 비동기 응답의 ASYNC 디스패치에서 다시 불러옴)
+                .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+
                 // Form 로그인 및 HTTP Basic 인증 비활성화
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
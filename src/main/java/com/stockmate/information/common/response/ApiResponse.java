@@ -3,6 +3,8 @@ package com.stockmate.information.common.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 @Builder
@@ -25,6 +27,27 @@ public class ApiResponse<T> {
         return ResponseEntity.status(status.getStatusCode()).body(response);
     }
 
+    // 조건부 GET 용 ETag 헤더 포함 (가맹점/주문별 데이터이므로 공유 캐시에는 저장하지 않고 매번 재검증)
+    public static <T> ResponseEntity<ApiResponse<T>> success_with_etag(SuccessStatus status, T data, String eTag) {
+        ApiResponse<T> response = ApiResponse.<T>builder()
+                .status(status.getStatusCode())
+                .success(true)
+                .message(status.getMessage())
+                .data(data)
+                .build();
+        return ResponseEntity.status(status.getStatusCode())
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> not_modified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+    }
+
     public static ResponseEntity<ApiResponse<Void>> success_only(SuccessStatus status) {
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .status(status.getStatusCode())
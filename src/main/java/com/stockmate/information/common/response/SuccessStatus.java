@@ -15,6 +15,9 @@ public enum SuccessStatus {
     SEND_HEALTH_CHECK_SUCCESS(HttpStatus.OK,"서버 상태 체크 성공"),
     GET_RECEIVING_HISTORY_SUCCESS(HttpStatus.OK,"입고 히스토리 조회 성공"),
     REGISTER_RECEIVING_HISTORY_SUCCESS(HttpStatus.OK,"입고 히스토리 등록 성공"),
+    INVALIDATE_USER_CACHE_SUCCESS(HttpStatus.OK,"가맹점 정보 캐시 무효화 성공"),
+    GET_RECEIVING_HISTORY_ROLLUP_SUCCESS(HttpStatus.OK,"입출고 일별 집계 조회 성공"),
+    REBUILD_RECEIVING_HISTORY_ROLLUP_SUCCESS(HttpStatus.OK,"입출고 일별 집계 재계산 성공"),
 
     ;
 
@@ -0,0 +1,117 @@
+-- receiving_history / receiving_history_item PK 변경 및 월별 RANGE 파티셔닝 (V8 의 후속, 점검 시간 수동 적용)
+--
+-- 각 ALTER 는 테이블 전체를 복사(ALGORITHM=COPY)하고 완료될 때까지 쓰기를 막으며 데이터 양에 비례하여 오래 걸리므로
+-- 애플리케이션 기동 시 자동 적용하지 않음 (spring.flyway.locations 에 포함하지 않는 위치)
+--
+-- 적용 방법 (둘 중 하나)
+--  1) 점검 시간에 입출고 히스토리 등록을 멈추고 Flyway CLI 로 적용
+--     flyway -url=... -user=... -locations=classpath:db/migration,classpath:db/maintenance -outOfOrder=true migrate
+--     (V9 이후가 이미 적용된 DB 에서도 8.1 로 기록되도록 outOfOrder 사용)
+--  2) 무중단이 필요하면 0 번 보정 문장을 실행하고 pt-online-schema-change 로 아래 ALTER 를 테이블별로 적용한 뒤
+--     flyway_schema_history 에 8.1 버전을 실행 없이 기록 (flyway ... -outOfOrder=true -skipExecutingMigrations=true migrate)
+--
+-- 애플리케이션은 이 버전이 로컬에 없어도 검증에 실패하지 않도록 누락된 버전을 무시함 (FlywayConfig)
+--
+-- p202412 는 2025-01 이전 전체 데이터를 담음, 이후 월 파티션은 스케줄러가 미리 추가 (p_max 분할)
+
+-- 0. 파티션 키 백필 확인 및 남은 행 보정
+-- ReceivingHistoryPartitionKeyBackfillService 의 백필이 완료된 뒤 적용 (receiving_history_job_state 의 partition_key_backfill 위치가 완료 표시)
+-- 아래 문장은 백필 완료 후 이전 버전 인스턴스가 저장한 행과 히스토리가 없는 아이템만 보정하므로 대부분 변경 없이 끝남
+UPDATE receiving_history
+SET created_at = COALESCE(updated_at, NOW(6))
+WHERE created_at IS NULL;
+
+INSERT INTO receiving_history_approval_attempt (approval_attempt_id, history_id, history_created_at)
+SELECT approval_attempt_id, MIN(id), MIN(created_at)
+FROM receiving_history
+WHERE approval_attempt_id IS NOT NULL
+  AND approval_attempt_id NOT IN (SELECT approval_attempt_id FROM receiving_history_approval_attempt)
+GROUP BY approval_attempt_id;
+
+UPDATE receiving_history_item i
+    JOIN receiving_history h ON h.id = i.history_id
+SET i.history_created_at = h.created_at
+WHERE i.history_created_at IS NULL;
+
+-- 히스토리가 없는 아이템 (정상적으로는 없음) 은 자신의 생성 시각 사용
+UPDATE receiving_history_item
+SET history_created_at = COALESCE(created_at, NOW(6))
+WHERE history_created_at IS NULL;
+
+-- 승인 시도 ID 유일성은 이제 승인 시도 테이블이 보장 (파티션 키가 없는 유니크 인덱스는 파티션 테이블에 둘 수 없음)
+DROP INDEX uk_receiving_history_approval_attempt ON receiving_history;
+
+-- 1. 파티션 키 NOT NULL (위에서 값 보정 완료)
+ALTER TABLE receiving_history MODIFY created_at DATETIME(6) NOT NULL;
+
+ALTER TABLE receiving_history_item MODIFY history_created_at DATETIME(6) NOT NULL;
+
+-- 2. PK 에 파티션 키 포함 (ID 는 V3 부터 시퀀스 테이블에서 할당하므로 AUTO_INCREMENT 제거)
+ALTER TABLE receiving_history
+    MODIFY id BIGINT NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE receiving_history_item
+    MODIFY id BIGINT NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, history_created_at);
+
+-- 3. 월별 파티셔닝
+ALTER TABLE receiving_history PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p202412 VALUES LESS THAN ('2025-01-01'),
+    PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+    PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+    PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+    PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+    PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+    PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+    PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+    PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_max VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE receiving_history_item PARTITION BY RANGE COLUMNS (history_created_at) (
+    PARTITION p202412 VALUES LESS THAN ('2025-01-01'),
+    PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+    PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+    PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+    PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+    PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+    PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+    PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+    PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+    PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+    PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_max VALUES LESS THAN (MAXVALUE)
+);
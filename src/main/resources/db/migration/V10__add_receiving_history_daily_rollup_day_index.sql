@@ -0,0 +1,4 @@
+-- 집계 재계산의 하루치 삭제: DELETE FROM receiving_history_daily_rollup WHERE day = ?
+-- 기본 키와 기존 인덱스는 모두 가맹점/부품이 앞에 있어, 인덱스가 없으면 재계산마다 집계 테이블 전체를 훑으며 모든 행을 잠금
+-- 온라인 DDL 로 생성하여 생성 중에도 등록 트랜잭션의 집계 갱신을 막지 않음
+CREATE INDEX idx_receiving_history_daily_rollup_day ON receiving_history_daily_rollup (day) ALGORITHM = INPLACE LOCK = NONE;
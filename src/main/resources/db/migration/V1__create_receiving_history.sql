@@ -0,0 +1,28 @@
+-- 기존 운영 스키마 (JPA 엔티티 기준)
+-- 이미 테이블이 있는 DB 는 FlywayConfig 의 baseline 으로 이 버전을 건너뜀
+
+CREATE TABLE IF NOT EXISTS receiving_history
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id    BIGINT       NOT NULL,
+    order_id     BIGINT       NULL,
+    order_number VARCHAR(255) NULL,
+    message      VARCHAR(255) NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    type         VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NULL,
+    updated_at   DATETIME(6)  NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS receiving_history_item
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    history_id BIGINT      NOT NULL,
+    part_id    BIGINT      NOT NULL,
+    quantity   INT         NOT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_receiving_history_item_history FOREIGN KEY (history_id) REFERENCES receiving_history (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- 조회 경로별 복합 인덱스 (ORDER BY created_at DESC, id DESC 와 동일한 순서)
+
+-- 가맹점별 조회: WHERE member_id = ? ORDER BY created_at DESC, id DESC (오프셋/커서/건수)
+CREATE INDEX idx_receiving_history_member_created ON receiving_history (member_id, created_at DESC, id DESC);
+
+-- 주문별 조회: WHERE order_number = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_receiving_history_order_created ON receiving_history (order_number, created_at DESC, id DESC);
+
+-- 관리자 전체 조회: ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_receiving_history_created ON receiving_history (created_at DESC, id DESC);
+
+-- 아이템 조인: WHERE history_id IN (...)
+CREATE INDEX idx_receiving_history_item_history ON receiving_history_item (history_id, id);
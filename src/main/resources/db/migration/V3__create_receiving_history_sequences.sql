@@ -0,0 +1,20 @@
+-- 배치 INSERT 를 위한 pooled 시퀀스 테이블 (MySQL 은 시퀀스를 지원하지 않아 Hibernate 가 테이블로 대체)
+-- Hibernate pooled 옵티마이저는 읽은 값 - (allocationSize - 1) 부터 사용하므로 기존 최대 ID + allocationSize + 1 로 시작
+
+CREATE TABLE receiving_history_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO receiving_history_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM receiving_history;
+
+CREATE TABLE receiving_history_item_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO receiving_history_item_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM receiving_history_item;
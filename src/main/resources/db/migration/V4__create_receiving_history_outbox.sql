@@ -0,0 +1,23 @@
+-- 성공/실패 이벤트 트랜잭셔널 아웃박스 (히스토리와 같은 트랜잭션에서 기록, 릴레이가 배치로 발행)
+
+CREATE TABLE receiving_history_outbox
+(
+    id                  BIGINT       NOT NULL,
+    event_type          VARCHAR(20)  NOT NULL,
+    approval_attempt_id VARCHAR(255) NULL,
+    payload             TEXT         NOT NULL,
+    published_at        DATETIME(6)  NULL,
+    created_at          DATETIME(6)  NULL,
+    updated_at          DATETIME(6)  NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_receiving_history_outbox_published ON receiving_history_outbox (published_at, id);
+
+CREATE TABLE receiving_history_outbox_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO receiving_history_outbox_seq (next_val)
+VALUES (51);
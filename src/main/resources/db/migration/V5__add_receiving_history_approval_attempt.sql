@@ -0,0 +1,5 @@
+-- 승인 시도 ID 기반 중복 등록 방지 (재시도 요청은 기존 히스토리로 응답)
+-- 승인 시도 ID 가 없는 기존/직접 등록 건은 NULL 로 남으며 유니크 제약 대상에서 제외됨
+ALTER TABLE receiving_history ADD COLUMN approval_attempt_id VARCHAR(100) NULL;
+
+CREATE UNIQUE INDEX uk_receiving_history_approval_attempt ON receiving_history (approval_attempt_id);
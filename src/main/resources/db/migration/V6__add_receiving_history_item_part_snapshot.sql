@@ -0,0 +1,20 @@
+-- 등록 시점 부품 표시 정보 스냅샷 (조회 시 Parts 서버 호출 제거)
+-- 기존 아이템은 part_snapshot_at 이 NULL 이며 ReceivingHistoryItemSnapshotService 의 백필 작업이 채움
+ALTER TABLE receiving_history_item
+    ADD COLUMN part_name          VARCHAR(255) NULL,
+    ADD COLUMN part_price         INT          NULL,
+    ADD COLUMN part_image         VARCHAR(500) NULL,
+    ADD COLUMN part_trim          VARCHAR(255) NULL,
+    ADD COLUMN part_model         VARCHAR(255) NULL,
+    ADD COLUMN part_category      INT          NULL,
+    ADD COLUMN part_kor_name      VARCHAR(255) NULL,
+    ADD COLUMN part_eng_name      VARCHAR(255) NULL,
+    ADD COLUMN part_category_name VARCHAR(255) NULL,
+    ADD COLUMN part_amount        INT          NULL,
+    ADD COLUMN part_code          VARCHAR(255) NULL,
+    ADD COLUMN part_location      VARCHAR(255) NULL,
+    ADD COLUMN part_cost          INT          NULL,
+    ADD COLUMN part_snapshot_at   DATETIME(6)  NULL;
+
+-- 백필 대상 조회: WHERE part_snapshot_at IS NULL AND id > ? ORDER BY id
+CREATE INDEX idx_receiving_history_item_snapshot ON receiving_history_item (part_snapshot_at, id);
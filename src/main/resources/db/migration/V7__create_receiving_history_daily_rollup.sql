@@ -0,0 +1,20 @@
+-- 가맹점/부품/일자/타입별 입출고 수량 집계 (히스토리 등록 트랜잭션에서 함께 갱신)
+CREATE TABLE receiving_history_daily_rollup
+(
+    member_id      BIGINT      NOT NULL,
+    part_id        BIGINT      NOT NULL,
+    day            DATE        NOT NULL,
+    type           VARCHAR(50) NOT NULL,
+    total_quantity BIGINT      NOT NULL,
+    item_count     BIGINT      NOT NULL,
+    PRIMARY KEY (member_id, part_id, day, type)
+) ENGINE = InnoDB;
+
+-- 부품 기준 조회: WHERE part_id = ? AND day BETWEEN ? AND ?
+CREATE INDEX idx_receiving_history_daily_rollup_part_day ON receiving_history_daily_rollup (part_id, day);
+
+-- 가맹점 기준 조회: WHERE member_id = ? AND day BETWEEN ? AND ?
+CREATE INDEX idx_receiving_history_daily_rollup_member_day ON receiving_history_daily_rollup (member_id, day);
+
+-- 기존 히스토리의 집계는 기동 시 전체 히스토리를 집계하지 않도록 마이그레이션에서 채우지 않고
+-- ReceivingHistoryRollupService 의 초기 적재 작업이 가장 오래된 날부터 하루 단위 트랜잭션으로 채움
@@ -0,0 +1,32 @@
+-- receiving_history / receiving_history_item 월별 RANGE 파티셔닝 준비
+-- 목록/내보내기 조회가 created_at 기간 조건을 포함하므로 파티셔닝 후 DB 가 해당 월의 파티션만 조회하고,
+-- 오래된 월은 파티션 단위로 분리/삭제할 수 있음 (ReceivingHistoryPartitionService)
+--
+-- MySQL 파티션 테이블 제약
+--  * 모든 PK/유니크 키에 파티션 키가 포함되어야 함 -> PK (id, created_at), 승인 시도 ID 유일성은 별도 테이블로 이동
+--  * 외래 키를 지원하지 않음 -> 아이템 -> 히스토리 FK 제거 (아이템은 히스토리와 같은 트랜잭션에서만 저장됨)
+--  * 아이템은 히스토리와 같은 월의 파티션에 들어가도록 히스토리 생성 시각(history_created_at)을 파티션 키로 사용
+--
+-- 이 마이그레이션은 테이블을 다시 쓰지 않는 변경(테이블 생성, FK 제거, NULL 허용 컬럼 추가)만 수행하여 기동 시 자동 적용됨
+-- 기존 행의 값 보정(created_at, history_created_at, 승인 시도 테이블)은 테이블 전체를 한 트랜잭션으로 갱신하지 않도록
+-- ReceivingHistoryPartitionKeyBackfillService 가 히스토리 ID 순으로 청크 단위로 채우고 진행 위치를 저장하여 이어서 수행
+-- PK 변경과 파티셔닝은 테이블 전체를 복사(ALGORITHM=COPY)하고 그동안 쓰기를 막으므로
+-- 자동 마이그레이션 대상이 아닌 db/maintenance/V8_1__partition_receiving_history_by_month.sql 로 분리하여 백필 완료 후 점검 시간에 적용
+-- (적용 전에도 애플리케이션은 파티션 없는 테이블로 동작하며, 파티션 관리 스케줄러는 경고만 남김)
+
+-- 1. 승인 시도 ID 유일성 테이블 (파티션되지 않음)
+CREATE TABLE receiving_history_approval_attempt
+(
+    approval_attempt_id VARCHAR(100) NOT NULL,
+    history_id          BIGINT       NOT NULL,
+    history_created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (approval_attempt_id)
+) ENGINE = InnoDB;
+
+-- 2. 외래 키 제거 (메타데이터 변경)
+-- 승인 시도 ID 유니크 인덱스(uk_receiving_history_approval_attempt)는 백필로 승인 시도 테이블이 채워질 때까지
+-- 중복 등록을 막도록 유지하고 V8_1 에서 제거
+ALTER TABLE receiving_history_item DROP FOREIGN KEY fk_receiving_history_item_history;
+
+-- 3. 아이템 파티션 키 컬럼 (NULL 허용 컬럼 추가는 테이블을 다시 쓰지 않음, 값은 백필 작업이 채움)
+ALTER TABLE receiving_history_item ADD COLUMN history_created_at DATETIME(6) NULL;
@@ -0,0 +1,9 @@
+-- 여러 인스턴스가 나누어 실행하는 스케줄 작업의 진행 위치 (예: 부품 스냅샷 백필의 마지막 처리 아이템 ID)
+-- 재시작하거나 다른 인스턴스가 잠금을 이어받아도 처음부터 다시 훑지 않도록 DB 에 저장
+CREATE TABLE receiving_history_job_state
+(
+    job_name   VARCHAR(100) NOT NULL,
+    last_id    BIGINT       NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,147 @@
+package com.stockmate.information.api.order.archive;
+
+import com.stockmate.information.api.order.entity.PartSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistorySegmentTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private static final LocalDateTime BASE = MONTH.atDay(1).atStartOfDay();
+    private static final int GROUP_ROWS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("행 그룹 단위로 쓴 세그먼트를 다시 열면 모든 행과 아이템이 같은 순서로 읽힌다")
+    void roundTripsRowsAcrossGroups() throws Exception {
+        List<ArchivedHistory> histories = histories();
+        Path file = write(histories);
+
+        HistorySegment segment = HistorySegment.open(file);
+
+        assertThat(segment.getMonth()).isEqualTo(MONTH);
+        assertThat(segment.getRowCount()).isEqualTo(histories.size());
+        assertThat(segment.getItemCount()).isEqualTo(histories.stream().mapToInt(history -> history.getItems().size()).sum());
+        assertThat(segment.getGroupCount()).isEqualTo(3);
+        assertThat(segment.getMinCreatedAt()).isEqualTo(BASE.plusHours(1));
+        assertThat(segment.getMaxCreatedAt()).isEqualTo(BASE.plusHours(5));
+
+        List<ArchivedHistory> read = new ArrayList<>();
+        for (int group = 0; group < segment.getGroupCount(); group++) {
+            read.addAll(segment.readGroup(group));
+        }
+        assertThat(read).usingRecursiveComparison().isEqualTo(histories);
+
+        LocalDateTime[] createdAt = segment.readCreatedAt(1);
+        assertThat(createdAt).containsExactly(read.subList(4, 8).stream().map(ArchivedHistory::getCreatedAt).toArray(LocalDateTime[]::new));
+    }
+
+    @Test
+    @DisplayName("가맹점 디렉터리와 주문 색인으로 열 데이터를 풀지 않고 행 위치를 찾는다")
+    void findsRowsByMemberAndOrderNumber() throws Exception {
+        HistorySegment segment = HistorySegment.open(write(histories()));
+
+        assertThat(segment.findMemberRows(1L)).containsExactly(0, 5);
+        assertThat(segment.findMemberRows(2L)).containsExactly(5, 4);
+        assertThat(segment.findMemberRows(3L)).isNull();
+
+        assertThat(segment.findOrderRows("SO-A")).containsExactly(0, 2, 4, 6, 8);
+        assertThat(segment.findOrderRows("SO-B")).containsExactly(1, 3, 5, 7);
+        assertThat(segment.findOrderRows("SO-NONE")).isEmpty();
+        assertThat(Arrays.stream(segment.findOrderRows("SO-B")).map(segment::groupOf)).containsExactly(0, 0, 1, 1);
+    }
+
+    @Test
+    @DisplayName("정렬 순서가 아닌 행은 거부하고, 완료하지 않고 닫으면 파일을 남기지 않는다")
+    void rejectsUnorderedRowsAndDiscardsUnfinishedFile() throws Exception {
+        Path file = directory.resolve("unordered.seg");
+        try (HistorySegmentWriter writer = HistorySegmentWriter.create(file, MONTH, GROUP_ROWS)) {
+            writer.append(history(1L, 1L, BASE.plusHours(1), "SO-A"));
+            assertThatThrownBy(() -> writer.append(history(2L, 1L, BASE.plusHours(2), "SO-A")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(file).doesNotExist();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("히스토리가 없는 월도 빈 세그먼트로 쓰고 읽는다")
+    void writesEmptySegment() throws Exception {
+        HistorySegment segment = HistorySegment.open(write(List.of()));
+
+        assertThat(segment.getRowCount()).isZero();
+        assertThat(segment.getGroupCount()).isZero();
+        assertThat(segment.getMinCreatedAt()).isNull();
+        assertThat(segment.findMemberRows(1L)).isNull();
+        assertThat(segment.findOrderRows("SO-A")).isEmpty();
+    }
+
+    private Path write(List<ArchivedHistory> histories) throws Exception {
+        Path file = directory.resolve("receiving-history-" + MONTH + ".seg");
+        try (HistorySegmentWriter writer = HistorySegmentWriter.create(file, MONTH, GROUP_ROWS)) {
+            for (ArchivedHistory history : histories) {
+                writer.append(history);
+            }
+            writer.finish();
+        }
+        return file;
+    }
+
+    // 가맹점 1 의 5건, 가맹점 2 의 4건 (세그먼트 행 순서)
+    private static List<ArchivedHistory> histories() {
+        List<ArchivedHistory> histories = new ArrayList<>();
+        long id = 100;
+        for (long memberId = 1; memberId <= 2; memberId++) {
+            int count = memberId == 1 ? 5 : 4;
+            for (int i = 0; i < count; i++) {
+                int row = histories.size();
+                histories.add(history(id--, memberId, BASE.plusHours(count - i), row % 2 == 0 ? "SO-A" : "SO-B"));
+            }
+        }
+        return histories;
+    }
+
+    private static ArchivedHistory history(Long id, Long memberId, LocalDateTime createdAt, String orderNumber) {
+        List<ArchivedHistory.Item> items = new ArrayList<>();
+        for (int i = 0; i < id % 3; i++) {
+            items.add(ArchivedHistory.Item.builder()
+                    .id(id * 10 + i)
+                    .partId((long) i + 1)
+                    .quantity(i + 1)
+                    .partSnapshot(PartSnapshot.builder()
+                            .name("부품 " + (i + 1))
+                            .price(i % 2 == 0 ? 1000 * (i + 1) : null)
+                            .code("P-" + (i + 1))
+                            .capturedAt(createdAt)
+                            .build())
+                    .build());
+        }
+        return ArchivedHistory.builder()
+                .id(id)
+                .memberId(memberId)
+                .orderId(id % 2 == 0 ? id : null)
+                .orderNumber(orderNumber)
+                .approvalAttemptId("a-" + id)
+                .message("입고 처리")
+                .status("RECEIVED")
+                .type("RECEIVING")
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusMinutes(1))
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.stockmate.information.api.order.controller;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import com.stockmate.information.common.config.filter.JwtHeaderFilter;
+import com.stockmate.information.common.config.security.SecurityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리액티브 조회가 꺼져 있을 때 커서 조회 API 가 비동기 디스패치 없이 게이트웨이 헤더로 인증된 요청 스레드에서 응답하는지 검증합니다.
+ */
+@WebMvcTest(ReceivingHistoryCursorController.class)
+@Import({SecurityConfig.class, JwtHeaderFilter.class})
+@MockitoBean(types = JpaMetamodelMappingContext.class)
+class ReceivingHistoryCursorControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/information/order-history";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    private final ReceivingHistoryCursorResponseDTO emptyPage = ReceivingHistoryCursorResponseDTO.builder()
+            .pageSize(20)
+            .hasNext(false)
+            .content(List.of())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        given(receivingOrderHistoryService.getReceivingHistoryByMemberIdWithCursor(any(), any(), anyInt(), any(), any()))
+                .willReturn(emptyPage);
+        given(receivingOrderHistoryService.getReceivingHistoryByMemberIdForAdminWithCursor(any(), any(), anyInt(), any(), any()))
+                .willReturn(emptyPage);
+        given(receivingOrderHistoryService.getReceivingHistoryByOrderNumberWithCursor(anyString(), any(), anyInt(), any(), any()))
+                .willReturn(emptyPage);
+    }
+
+    @Test
+    @DisplayName("가맹점 커서 조회는 헤더의 가맹점 ID 로 동기 응답한다")
+    void myCursorRespondsSynchronously() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/my/cursor")
+                        .header("X-Member-Id", "7")
+                        .header("X-Member-Role", "USER"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+
+        then(receivingOrderHistoryService).should().getReceivingHistoryByMemberIdWithCursor(eq(7L), isNull(), eq(20), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("관리자용 가맹점 커서 조회는 관리자 헤더로 동기 응답한다")
+    void adminMemberCursorRespondsSynchronously() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/admin/member/7/cursor")
+                        .header("X-Member-Id", "1")
+                        .header("X-Member-Role", "ADMIN")
+                        .param("size", "10"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk());
+
+        then(receivingOrderHistoryService).should().getReceivingHistoryByMemberIdForAdminWithCursor(eq(7L), isNull(), eq(10), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("주문별 커서 조회는 인증된 헤더로 동기 응답한다")
+    void orderCursorRespondsSynchronously() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/order/SO-7-3/cursor")
+                        .header("X-Member-Id", "7")
+                        .header("X-Member-Role", "USER"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk());
+
+        then(receivingOrderHistoryService).should().getReceivingHistoryByOrderNumberWithCursor(eq("SO-7-3"), isNull(), eq(20), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("게이트웨이 헤더가 없으면 커서 조회를 거부한다")
+    void cursorRequiresAuthentication() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/my/cursor"))
+                .andExpect(status().isForbidden());
+
+        then(receivingOrderHistoryService).should(never()).getReceivingHistoryByMemberIdWithCursor(any(), any(), anyInt(), any(), any());
+    }
+}
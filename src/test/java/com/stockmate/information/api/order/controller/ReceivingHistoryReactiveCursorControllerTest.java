@@ -0,0 +1,95 @@
+package com.stockmate.information.api.order.controller;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursorResponseDTO;
+import com.stockmate.information.api.order.service.ReceivingHistoryReactiveReadService;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import com.stockmate.information.common.config.filter.JwtHeaderFilter;
+import com.stockmate.information.common.config.security.SecurityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 리액티브 조회가 켜져 있을 때 커서 조회 API 의 Mono 응답이 ASYNC 디스패치에서도 게이트웨이 헤더의 인증 상태로 처리되는지 검증합니다.
+ */
+@WebMvcTest(controllers = ReceivingHistoryReactiveCursorController.class, properties = "history.reactive.enabled=true")
+@Import({SecurityConfig.class, JwtHeaderFilter.class})
+@MockitoBean(types = JpaMetamodelMappingContext.class)
+class ReceivingHistoryReactiveCursorControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/information/order-history";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    @MockitoBean
+    private ReceivingHistoryReactiveReadService receivingHistoryReactiveReadService;
+
+    @BeforeEach
+    void setUp() {
+        ReceivingHistoryCursorResponseDTO emptyPage = ReceivingHistoryCursorResponseDTO.builder()
+                .pageSize(20)
+                .hasNext(false)
+                .content(List.of())
+                .build();
+        given(receivingHistoryReactiveReadService.isEnabled(anyString())).willReturn(true);
+        given(receivingHistoryReactiveReadService.getReceivingHistoryByMemberIdWithCursor(any(), any(), anyInt(), any(), any(), anyBoolean()))
+                .willReturn(Mono.just(emptyPage));
+        given(receivingHistoryReactiveReadService.getReceivingHistoryByOrderNumberWithCursor(anyString(), any(), anyInt(), any(), any()))
+                .willReturn(Mono.just(emptyPage));
+    }
+
+    @Test
+    @DisplayName("가맹점 커서 조회는 ASYNC 디스패치에서도 인증된 요청으로 응답한다")
+    void myCursorKeepsAuthenticationOnAsyncDispatch() throws Exception {
+        assertAsyncOk(BASE_PATH + "/my/cursor", "USER");
+    }
+
+    @Test
+    @DisplayName("관리자용 가맹점 커서 조회는 ASYNC 디스패치에서도 인증된 요청으로 응답한다")
+    void adminMemberCursorKeepsAuthenticationOnAsyncDispatch() throws Exception {
+        assertAsyncOk(BASE_PATH + "/admin/member/7/cursor", "ADMIN");
+    }
+
+    @Test
+    @DisplayName("주문별 커서 조회는 ASYNC 디스패치에서도 인증된 요청으로 응답한다")
+    void orderCursorKeepsAuthenticationOnAsyncDispatch() throws Exception {
+        assertAsyncOk(BASE_PATH + "/order/SO-7-3/cursor", "USER");
+    }
+
+    private void assertAsyncOk(String path, String role) throws Exception {
+        MvcResult result = mockMvc.perform(get(path)
+                        .header("X-Member-Id", "7")
+                        .header("X-Member-Role", role))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+}
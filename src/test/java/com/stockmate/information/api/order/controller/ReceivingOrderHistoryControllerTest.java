@@ -0,0 +1,122 @@
+package com.stockmate.information.api.order.controller;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryListResponseDTO;
+import com.stockmate.information.api.order.service.ReceivingHistoryExportService;
+import com.stockmate.information.api.order.service.ReceivingHistoryRollupService;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import com.stockmate.information.common.config.filter.JwtHeaderFilter;
+import com.stockmate.information.common.config.security.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게이트웨이 헤더(X-Member-Id, X-Member-Role)로 인증된 요청이 비동기 응답의 ASYNC 디스패치에서도 인증 상태를 유지하는지 검증합니다.
+ * 목록 조회의 조건부 GET 은 서비스가 ETag 를 만들지 않은 경우 재검증 없이 본문으로 응답하는지 검증합니다.
+ */
+@WebMvcTest(ReceivingOrderHistoryController.class)
+@Import({SecurityConfig.class, JwtHeaderFilter.class})
+@MockitoBean(types = JpaMetamodelMappingContext.class)
+class ReceivingOrderHistoryControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/information/order-history";
+    private static final String NDJSON_LINE = "{\"historyId\":1}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    @MockitoBean
+    private ReceivingHistoryExportService receivingHistoryExportService;
+
+    @MockitoBean
+    private ReceivingHistoryRollupService receivingHistoryRollupService;
+
+    @Test
+    @DisplayName("내보내기는 요청별 타임아웃으로 비동기 처리되고 ASYNC 디스패치에서도 인증된 요청으로 응답한다")
+    void exportKeepsAuthenticationOnAsyncDispatch() throws Exception {
+        given(receivingHistoryExportService.getTimeout()).willReturn(Duration.ofMinutes(30));
+        willAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(4);
+            output.write(NDJSON_LINE.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(receivingHistoryExportService).export(isNull(), isNull(), isNull(), any(), any());
+
+        MvcResult result = mockMvc.perform(get(BASE_PATH + "/admin/export")
+                        .header("X-Member-Id", "1")
+                        .header("X-Member-Role", "ADMIN"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("receiving-history.ndjson")))
+                .andExpect(content().string(NDJSON_LINE));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 목록 조회 없이 304 로 응답한다")
+    void listReturnsNotModifiedForMatchingETag() throws Exception {
+        given(receivingOrderHistoryService.getReceivingHistoryETagByOrderNumber(eq("SO-1"), anyInt(), anyInt(), isNull(), isNull()))
+                .willReturn("\"v1\"");
+
+        mockMvc.perform(get(BASE_PATH + "/order/SO-1")
+                        .header("X-Member-Id", "1")
+                        .header("X-Member-Role", "USER")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("ETag 를 만들 수 없는 목록(스냅샷 백필 전 아이템 포함)은 If-None-Match 와 관계없이 ETag 없이 본문으로 응답한다")
+    void listWithoutETagIsNotRevalidated() throws Exception {
+        given(receivingOrderHistoryService.getReceivingHistoryETagByOrderNumber(eq("SO-1"), anyInt(), anyInt(), isNull(), isNull()))
+                .willReturn(null);
+        given(receivingOrderHistoryService.getReceivingHistoryByOrderNumber(eq("SO-1"), anyInt(), anyInt(), isNull(), isNull()))
+                .willReturn(ReceivingHistoryListResponseDTO.builder().content(List.of()).build());
+
+        mockMvc.perform(get(BASE_PATH + "/order/SO-1")
+                        .header("X-Member-Id", "1")
+                        .header("X-Member-Role", "USER")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("게이트웨이 헤더가 없으면 내보내기를 시작하지 않는다")
+    void exportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/admin/export"))
+                .andExpect(status().isForbidden());
+    }
+}
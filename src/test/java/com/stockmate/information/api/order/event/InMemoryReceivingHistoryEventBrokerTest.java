@@ -0,0 +1,39 @@
+package com.stockmate.information.api.order.event;
+
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryRequestEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryReceivingHistoryEventBrokerTest {
+
+    @Test
+    @DisplayName("요청 큐가 가득 차면 이벤트를 받지 않는다")
+    void rejectsRequestsBeyondCapacity() {
+        InMemoryReceivingHistoryEventBroker broker = new InMemoryReceivingHistoryEventBroker(2);
+
+        assertThat(broker.submit(ReceivingOrderHistoryRequestEvent.builder().approvalAttemptId("a-1").build())).isTrue();
+        assertThat(broker.submit(ReceivingOrderHistoryRequestEvent.builder().approvalAttemptId("a-2").build())).isTrue();
+        assertThat(broker.submit(ReceivingOrderHistoryRequestEvent.builder().approvalAttemptId("a-3").build())).isFalse();
+        assertThat(broker.poll(10)).extracting(ReceivingOrderHistoryRequestEvent::getApprovalAttemptId)
+                .containsExactly("a-1", "a-2");
+    }
+
+    @Test
+    @DisplayName("꺼내 가지 않은 성공 이벤트가 가득 차면 발행이 실패하고, 꺼낸 뒤에는 다시 발행된다")
+    void boundsPublishedEvents() {
+        InMemoryReceivingHistoryEventBroker broker = new InMemoryReceivingHistoryEventBroker(1);
+        broker.publishSuccess(ReceivingOrderHistorySuccessEvent.builder().approvalAttemptId("a-1").build());
+
+        assertThatThrownBy(() -> broker.publishSuccess(ReceivingOrderHistorySuccessEvent.builder().approvalAttemptId("a-2").build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(broker.drainSuccessEvents()).hasSize(1);
+        broker.publishSuccess(ReceivingOrderHistorySuccessEvent.builder().approvalAttemptId("a-2").build());
+        assertThat(broker.drainSuccessEvents()).extracting(ReceivingOrderHistorySuccessEvent::getApprovalAttemptId)
+                .containsExactly("a-2");
+    }
+}
@@ -0,0 +1,143 @@
+package com.stockmate.information.api.order.event;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryRequestDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryResponseDTO;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryRequestEvent;
+import com.stockmate.information.api.order.service.ReceivingHistoryOutboxService;
+import com.stockmate.information.api.order.service.ReceivingOrderHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 인메모리 브로커로 요청 이벤트 배치를 흘려보내 배치 등록과 실패 시 개별 등록으로의 전환을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReceivingHistoryIngestionConsumerTest {
+
+    @Mock
+    private ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    @Mock
+    private ReceivingHistoryOutboxService receivingHistoryOutboxService;
+
+    private InMemoryReceivingHistoryEventBroker broker;
+    private ReceivingHistoryIngestionConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryReceivingHistoryEventBroker(100);
+        consumer = new ReceivingHistoryIngestionConsumer(broker, receivingOrderHistoryService, receivingHistoryOutboxService);
+        ReflectionTestUtils.setField(consumer, "batchSize", 3);
+        ReflectionTestUtils.setField(consumer, "maxBatchesPerPoll", 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("요청 이벤트를 배치 크기만큼 묶어 한 번에 등록한다")
+    void registersEventsInBatches() {
+        List.of("a-1", "a-2", "a-3", "a-4", "a-5").forEach(id -> broker.submit(event(id)));
+        given(receivingOrderHistoryService.registerReceivingHistories(anyList()))
+                .willAnswer(invocation -> invocation.<List<ReceivingHistoryRequestDTO>>getArgument(0).stream()
+                        .map(ReceivingHistoryIngestionConsumerTest::response)
+                        .toList());
+
+        consumer.consume();
+
+        ArgumentCaptor<List<ReceivingHistoryRequestDTO>> batches = ArgumentCaptor.forClass(List.class);
+        verify(receivingOrderHistoryService, times(2)).registerReceivingHistories(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(ReceivingHistoryRequestDTO::getApprovalAttemptId)
+                .containsExactly("a-1", "a-2", "a-3");
+        assertThat(batches.getAllValues().get(1)).extracting(ReceivingHistoryRequestDTO::getApprovalAttemptId)
+                .containsExactly("a-4", "a-5");
+        assertThat(batches.getAllValues().get(0)).extracting(ReceivingHistoryRequestDTO::getType)
+                .containsOnly("RECEIVING");
+        verify(receivingOrderHistoryService, never()).registerReceivingHistory(any());
+        verify(receivingHistoryOutboxService, never()).appendFailed(any());
+        assertThat(broker.poll(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 등록이 실패하면 개별 등록으로 다시 시도하여 실패한 이벤트만 실패 이벤트로 기록한다")
+    void fallsBackToSingleRegistrationWhenBatchFails() {
+        List.of("b-1", "b-2", "b-3").forEach(id -> broker.submit(event(id)));
+        given(receivingOrderHistoryService.registerReceivingHistories(anyList()))
+                .willThrow(new IllegalStateException("배치 등록 실패"));
+        given(receivingOrderHistoryService.registerReceivingHistory(any()))
+                .willAnswer(invocation -> {
+                    ReceivingHistoryRequestDTO request = invocation.getArgument(0);
+                    if ("b-2".equals(request.getApprovalAttemptId())) {
+                        throw new IllegalArgumentException("잘못된 요청");
+                    }
+                    return response(request);
+                });
+
+        consumer.consume();
+
+        ArgumentCaptor<ReceivingHistoryRequestDTO> singles = ArgumentCaptor.forClass(ReceivingHistoryRequestDTO.class);
+        verify(receivingOrderHistoryService, times(3)).registerReceivingHistory(singles.capture());
+        assertThat(singles.getAllValues()).extracting(ReceivingHistoryRequestDTO::getApprovalAttemptId)
+                .containsExactly("b-1", "b-2", "b-3");
+        ArgumentCaptor<ReceivingOrderHistoryFailedEvent> failures = ArgumentCaptor.forClass(ReceivingOrderHistoryFailedEvent.class);
+        verify(receivingHistoryOutboxService).appendFailed(failures.capture());
+        assertThat(failures.getValue().getApprovalAttemptId()).isEqualTo("b-2");
+        assertThat(failures.getValue().getErrorMessage()).isEqualTo("잘못된 요청");
+    }
+
+    @Test
+    @DisplayName("개별 등록 중 승인 시도 ID 동시 등록으로 제약 위반이 나면 한 번 더 시도한다")
+    void retriesSingleRegistrationOnConstraintViolation() {
+        broker.submit(event("c-1"));
+        given(receivingOrderHistoryService.registerReceivingHistories(anyList()))
+                .willThrow(new DataIntegrityViolationException("중복 승인 시도 ID"));
+        given(receivingOrderHistoryService.registerReceivingHistory(argThat(request -> "c-1".equals(request.getApprovalAttemptId()))))
+                .willThrow(new DataIntegrityViolationException("중복 승인 시도 ID"))
+                .willAnswer(invocation -> response(invocation.getArgument(0)));
+
+        consumer.consume();
+
+        verify(receivingOrderHistoryService, times(2)).registerReceivingHistory(any());
+        verify(receivingHistoryOutboxService, never()).appendFailed(any());
+    }
+
+    private static ReceivingOrderHistoryRequestEvent event(String approvalAttemptId) {
+        return ReceivingOrderHistoryRequestEvent.builder()
+                .orderId(1L)
+                .approvalAttemptId(approvalAttemptId)
+                .memberId(1L)
+                .orderNumber("SO-" + approvalAttemptId)
+                .message("입고 처리")
+                .status("RECEIVED")
+                .items(List.of())
+                .build();
+    }
+
+    private static ReceivingHistoryResponseDTO response(ReceivingHistoryRequestDTO request) {
+        return ReceivingHistoryResponseDTO.builder()
+                .id(1L)
+                .memberId(request.getMemberId())
+                .orderNumber(request.getOrderNumber())
+                .message(request.getMessage())
+                .status(request.getStatus())
+                .success(true)
+                .build();
+    }
+}
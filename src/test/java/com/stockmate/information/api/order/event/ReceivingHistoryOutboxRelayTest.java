@@ -0,0 +1,124 @@
+package com.stockmate.information.api.order.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistoryFailedEvent;
+import com.stockmate.information.api.order.dto.ReceivingOrderHistorySuccessEvent;
+import com.stockmate.information.api.order.entity.ReceivingHistoryOutbox;
+import com.stockmate.information.api.order.repository.ReceivingHistoryOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReceivingHistoryOutboxRelayTest {
+
+    @Mock
+    private ReceivingHistoryOutboxRepository receivingHistoryOutboxRepository;
+
+    @Mock
+    private ReceivingHistoryEventBroker receivingHistoryEventBroker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReceivingHistoryOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ReceivingHistoryOutboxRelay(receivingHistoryOutboxRepository, receivingHistoryEventBroker, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 3);
+        relay.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트를 순서대로 발행하고 모두 완료 표시한다")
+    void publishesAndMarksAllEvents() {
+        given(receivingHistoryOutboxRepository.findUnpublishedForUpdate(10)).willReturn(List.of(
+                outbox(1L, ReceivingHistoryOutbox.EventType.SUCCESS, "a-1"),
+                outbox(2L, ReceivingHistoryOutbox.EventType.FAILED, "a-2")));
+        given(receivingHistoryOutboxRepository.findOldestUnpublishedCreatedAt()).willReturn(null);
+
+        relay.relay();
+
+        ArgumentCaptor<ReceivingOrderHistorySuccessEvent> success = ArgumentCaptor.forClass(ReceivingOrderHistorySuccessEvent.class);
+        verify(receivingHistoryEventBroker).publishSuccess(success.capture());
+        assertThat(success.getValue().getApprovalAttemptId()).isEqualTo("a-1");
+        ArgumentCaptor<ReceivingOrderHistoryFailedEvent> failed = ArgumentCaptor.forClass(ReceivingOrderHistoryFailedEvent.class);
+        verify(receivingHistoryEventBroker).publishFailed(failed.capture());
+        assertThat(failed.getValue().getApprovalAttemptId()).isEqualTo("a-2");
+
+        verify(receivingHistoryOutboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+        // 배치 크기보다 적게 조회되면 같은 실행에서 다시 조회하지 않음
+        verify(receivingHistoryOutboxRepository, times(1)).findUnpublishedForUpdate(anyInt());
+        assertThat(meterRegistry.counter("history.outbox.relay.published").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("history.outbox.relay.lag.seconds").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 그 이전 이벤트만 완료 표시하고 나머지는 다음 실행으로 미룬다")
+    void stopsAtFirstPublishFailure() {
+        given(receivingHistoryOutboxRepository.findUnpublishedForUpdate(10)).willReturn(List.of(
+                outbox(1L, ReceivingHistoryOutbox.EventType.SUCCESS, "b-1"),
+                outbox(2L, ReceivingHistoryOutbox.EventType.SUCCESS, "b-2"),
+                outbox(3L, ReceivingHistoryOutbox.EventType.SUCCESS, "b-3")));
+        willAnswer(invocation -> {
+            ReceivingOrderHistorySuccessEvent event = invocation.getArgument(0);
+            if ("b-2".equals(event.getApprovalAttemptId())) {
+                throw new IllegalStateException("브로커 장애");
+            }
+            return null;
+        }).given(receivingHistoryEventBroker).publishSuccess(any());
+        given(receivingHistoryOutboxRepository.findOldestUnpublishedCreatedAt()).willReturn(LocalDateTime.now().minusSeconds(30));
+
+        relay.relay();
+
+        verify(receivingHistoryEventBroker, times(2)).publishSuccess(any());
+        verify(receivingHistoryOutboxRepository).markPublished(eq(List.of(1L)), any());
+        verify(receivingHistoryOutboxRepository, times(1)).findUnpublishedForUpdate(anyInt());
+        assertThat(meterRegistry.counter("history.outbox.relay.published").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("history.outbox.relay.lag.seconds").gauge().value()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트가 없으면 완료 표시하지 않는다")
+    void skipsWhenNothingToPublish() {
+        given(receivingHistoryOutboxRepository.findUnpublishedForUpdate(10)).willReturn(List.of());
+
+        relay.relay();
+
+        verify(receivingHistoryOutboxRepository, never()).markPublished(any(), any());
+        verify(receivingHistoryEventBroker, never()).publishSuccess(any());
+    }
+
+    private static ReceivingHistoryOutbox outbox(Long id, ReceivingHistoryOutbox.EventType eventType, String approvalAttemptId) {
+        return ReceivingHistoryOutbox.builder()
+                .id(id)
+                .eventType(eventType)
+                .approvalAttemptId(approvalAttemptId)
+                .payload("{\"approvalAttemptId\":\"" + approvalAttemptId + "\"}")
+                .build();
+    }
+}
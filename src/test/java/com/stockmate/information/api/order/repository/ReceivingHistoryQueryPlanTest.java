@@ -0,0 +1,365 @@
+package com.stockmate.information.api.order.repository;
+
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import com.stockmate.information.support.CapturingQueryInterceptor;
+import com.stockmate.information.support.MySqlContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리의 모든 쿼리 메서드가 전용 인덱스를 사용하는지 MySQL 실행 계획(EXPLAIN)으로 검증합니다.
+ * 메서드를 실제로 호출하면서 드라이버가 보낸 SQL 을 {@link CapturingQueryInterceptor} 로 기록하여 그대로 EXPLAIN 하므로,
+ * 검증하는 SQL 은 Hibernate 가 생성한 SQL 과 같습니다.
+ * 리포지토리에 쿼리 메서드를 추가하면 이 목록에 실행 계획 검증을 추가해야 하며, 빠진 메서드가 있으면 빌드에서 실패합니다.
+ * (R2DBC 로 조회하는 ReceivingHistoryReactiveRepository 는 Spring Data 리포지토리가 아니고 JDBC 드라이버를 거치지 않아 대상에서 제외)
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.data-source-properties.queryInterceptors="
+        + "com.stockmate.information.support.CapturingQueryInterceptor")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// ANALYZE TABLE 은 암시적으로 커밋하므로 테스트 트랜잭션 대신 직접 데이터를 정리하고, 각 쿼리는 롤백되는 트랜잭션에서 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReceivingHistoryQueryPlanTest extends MySqlContainerSupport {
+
+    // 다른 테스트가 시퀀스로 할당받는 ID 와 겹치지 않는 범위
+    private static final long FIRST_ID = 1_000_000L;
+    private static final int HISTORY_COUNT = 5_000;
+    private static final int MEMBER_COUNT = 50;
+    private static final int ORDER_COUNT = 1_000;
+    private static final int OUTBOX_COUNT = 2_000;
+    private static final int ROLLUP_MEMBER_COUNT = 20;
+    private static final int ROLLUP_PART_COUNT = 20;
+    private static final int ROLLUP_DAY_COUNT = 40;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDate BASE_DAY = BASE_TIME.toLocalDate();
+
+    private static final long MEMBER_ID = 7L;
+    private static final String ORDER_NUMBER = "QP-7";
+    private static final long ROLLUP_MEMBER_ID = FIRST_ID + 3;
+    private static final long ROLLUP_PART_ID = 5L;
+
+    private static final ReceivingHistoryDateRange ALL = ReceivingHistoryDateRange.all();
+    private static final ReceivingHistoryDateRange ONE_DAY = ReceivingHistoryDateRange.of(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 10));
+    private static final LocalDateTime CURSOR_CREATED_AT = createdAt(2_000);
+    private static final long CURSOR_ID = FIRST_ID + 2_000;
+
+    private static final String MEMBER_INDEX = "idx_receiving_history_member_created";
+    private static final String ORDER_INDEX = "idx_receiving_history_order_created";
+    private static final String CREATED_INDEX = "idx_receiving_history_created";
+    private static final String ITEM_HISTORY_INDEX = "idx_receiving_history_item_history";
+    private static final String ITEM_SNAPSHOT_INDEX = "idx_receiving_history_item_snapshot";
+    private static final String OUTBOX_PUBLISHED_INDEX = "idx_receiving_history_outbox_published";
+    private static final String ROLLUP_PART_DAY_INDEX = "idx_receiving_history_daily_rollup_part_day";
+    private static final String ROLLUP_MEMBER_DAY_INDEX = "idx_receiving_history_daily_rollup_member_day";
+    private static final String ROLLUP_DAY_INDEX = "idx_receiving_history_daily_rollup_day";
+    private static final String PRIMARY = "PRIMARY";
+
+    // 실행 계획을 검증하지 않는 쿼리 메서드와 그 이유
+    private static final Map<String, String> EXEMPT = Map.of(
+            "ReceivingOrderHistoryRepository.findByApprovalAttemptId",
+            "파티션 키 백필 완료 전(V8_1 적용 전)에만 호출되며, 테스트 DB 에는 V8_1 이 적용되어 uk_receiving_history_approval_attempt 가 없음",
+            "ReceivingOrderHistoryRepository.findAllByApprovalAttemptIdIn",
+            "파티션 키 백필 완료 전(V8_1 적용 전)에만 호출되며, 테스트 DB 에는 V8_1 이 적용되어 uk_receiving_history_approval_attempt 가 없음");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+
+    @Autowired
+    private ReceivingHistoryItemRepository receivingHistoryItemRepository;
+
+    @Autowired
+    private ReceivingHistoryOutboxRepository receivingHistoryOutboxRepository;
+
+    @Autowired
+    private ReceivingHistoryDailyRollupRepository receivingHistoryDailyRollupRepository;
+
+    /**
+     * @param method  리포지토리 단순 이름.메서드 이름
+     * @param indexes 실행 계획에 모두 나타나야 하는 인덱스
+     * @param ordered 정렬을 인덱스 순서로 처리해야 하는지 여부 (filesort 금지)
+     * @param query   리포지토리 메서드 호출 (롤백되는 트랜잭션에서 실행)
+     */
+    private record Plan(String method, Set<String> indexes, boolean ordered, Runnable query) {
+    }
+
+    private static Plan plan(String method, Set<String> indexes, boolean ordered, Runnable query) {
+        return new Plan(method, indexes, ordered, query);
+    }
+
+    private List<Plan> plans() {
+        String history = "ReceivingOrderHistoryRepository.";
+        String item = "ReceivingHistoryItemRepository.";
+        String outbox = "ReceivingHistoryOutboxRepository.";
+        String rollup = "ReceivingHistoryDailyRollupRepository.";
+        PageRequest page = PageRequest.of(0, 20);
+        PageRequest limit = PageRequest.of(0, 21);
+        List<Long> pageIds = List.of(FIRST_ID + 10, FIRST_ID + 20, FIRST_ID + 30);
+        return List.of(
+                // 히스토리 - 가맹점
+                plan(history + "findIdsByMemberIdOrderByCreatedAtDesc", Set.of(MEMBER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findIdsByMemberIdOrderByCreatedAtDesc(MEMBER_ID, ALL.getFrom(), ALL.getTo(), page)),
+                plan(history + "findFirstIdsByMemberId", Set.of(MEMBER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findFirstIdsByMemberId(MEMBER_ID, ALL.getFrom(), ALL.getTo(), limit)),
+                plan(history + "findIdsByMemberIdAfterCursor", Set.of(MEMBER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findIdsByMemberIdAfterCursor(
+                                MEMBER_ID, ALL.getFrom(), ALL.getTo(), CURSOR_CREATED_AT, CURSOR_ID, limit)),
+                plan(history + "countByMemberId", Set.of(MEMBER_INDEX), false,
+                        () -> receivingOrderHistoryRepository.countByMemberId(MEMBER_ID)),
+                plan(history + "countByMemberIdInRange", Set.of(MEMBER_INDEX), false,
+                        () -> receivingOrderHistoryRepository.countByMemberIdInRange(MEMBER_ID, ONE_DAY.getFrom(), ONE_DAY.getTo())),
+                plan(history + "findVersionByMemberId", Set.of(MEMBER_INDEX), false,
+                        () -> receivingOrderHistoryRepository.findVersionByMemberId(MEMBER_ID, ALL.getFrom(), ALL.getTo())),
+                plan(history + "streamExportRowsByMemberId", Set.of(MEMBER_INDEX, ITEM_HISTORY_INDEX), false,
+                        () -> {
+                            try (Stream<?> rows = receivingOrderHistoryRepository.streamExportRowsByMemberId(MEMBER_ID, ALL.getFrom(), ALL.getTo())) {
+                                rows.forEach(row -> { });
+                            }
+                        }),
+
+                // 히스토리 - 주문
+                plan(history + "findIdsByOrderNumberOrderByCreatedAtDesc", Set.of(ORDER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findIdsByOrderNumberOrderByCreatedAtDesc(ORDER_NUMBER, ALL.getFrom(), ALL.getTo(), page)),
+                plan(history + "findFirstIdsByOrderNumber", Set.of(ORDER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findFirstIdsByOrderNumber(ORDER_NUMBER, ALL.getFrom(), ALL.getTo(), limit)),
+                plan(history + "findIdsByOrderNumberAfterCursor", Set.of(ORDER_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findIdsByOrderNumberAfterCursor(
+                                ORDER_NUMBER, ALL.getFrom(), ALL.getTo(), CURSOR_CREATED_AT, CURSOR_ID, limit)),
+                plan(history + "countByOrderNumberInRange", Set.of(ORDER_INDEX), false,
+                        () -> receivingOrderHistoryRepository.countByOrderNumberInRange(ORDER_NUMBER, ALL.getFrom(), ALL.getTo())),
+                plan(history + "findVersionByOrderNumber", Set.of(ORDER_INDEX), false,
+                        () -> receivingOrderHistoryRepository.findVersionByOrderNumber(ORDER_NUMBER, ALL.getFrom(), ALL.getTo())),
+
+                // 히스토리 - 관리자 전체
+                plan(history + "findAllIdsOrderByCreatedAtDesc", Set.of(CREATED_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findAllIdsOrderByCreatedAtDesc(ALL.getFrom(), ALL.getTo(), page)),
+                plan(history + "findFirstIds", Set.of(CREATED_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findFirstIds(ALL.getFrom(), ALL.getTo(), limit)),
+                plan(history + "findIdsAfterCursor", Set.of(CREATED_INDEX), true,
+                        () -> receivingOrderHistoryRepository.findIdsAfterCursor(ALL.getFrom(), ALL.getTo(), CURSOR_CREATED_AT, CURSOR_ID, limit)),
+                plan(history + "countInRange", Set.of(CREATED_INDEX), false,
+                        () -> receivingOrderHistoryRepository.countInRange(ONE_DAY.getFrom(), ONE_DAY.getTo())),
+                // MIN 은 인덱스 끝 값만 읽어 테이블 접근 없이 처리 (Select tables optimized away)
+                plan(history + "findOldestCreatedAt", Set.of(), false,
+                        () -> receivingOrderHistoryRepository.findOldestCreatedAt()),
+                // 내보내기는 아이템 ID 까지 정렬하므로 정렬은 허용하되, 기간은 created_at 인덱스 범위로만 읽음
+                plan(history + "streamExportRows", Set.of(CREATED_INDEX, ITEM_HISTORY_INDEX), false,
+                        () -> {
+                            try (Stream<?> rows = receivingOrderHistoryRepository.streamExportRows(ONE_DAY.getFrom(), ONE_DAY.getTo())) {
+                                rows.forEach(row -> { });
+                            }
+                        }),
+
+                // 히스토리 - 기본 키 (파티션 키 포함)
+                plan(history + "findRowsByIdIn", Set.of(PRIMARY), false,
+                        () -> receivingOrderHistoryRepository.findRowsByIdIn(pageIds, ALL.getFrom(), ALL.getTo())),
+                plan(history + "findByIdAndCreatedAt", Set.of(PRIMARY), false,
+                        () -> receivingOrderHistoryRepository.findByIdAndCreatedAt(FIRST_ID + 10, createdAt(10))),
+                plan(history + "findAllByIdInAndCreatedAtIn", Set.of(PRIMARY), false,
+                        () -> receivingOrderHistoryRepository.findAllByIdInAndCreatedAtIn(pageIds, List.of(createdAt(10), createdAt(20), createdAt(30)))),
+
+                // 아이템
+                plan(item + "findRowsByHistoryIdIn", Set.of(ITEM_HISTORY_INDEX), true,
+                        () -> receivingHistoryItemRepository.findRowsByHistoryIdIn(pageIds, createdAt(10), createdAt(30))),
+                plan(item + "findWithoutPartSnapshotAfter", Set.of(ITEM_SNAPSHOT_INDEX), true,
+                        () -> receivingHistoryItemRepository.findWithoutPartSnapshotAfter(0L, PageRequest.of(0, 500))),
+                plan(item + "findIdsWithoutPartSnapshotByMemberId", Set.of(ITEM_SNAPSHOT_INDEX), false,
+                        () -> receivingHistoryItemRepository.findIdsWithoutPartSnapshotByMemberId(MEMBER_ID, ALL.getFrom(), ALL.getTo(), PageRequest.of(0, 1))),
+                plan(item + "findIdsWithoutPartSnapshotByOrderNumber", Set.of(ITEM_SNAPSHOT_INDEX), false,
+                        () -> receivingHistoryItemRepository.findIdsWithoutPartSnapshotByOrderNumber(ORDER_NUMBER, ALL.getFrom(), ALL.getTo(), PageRequest.of(0, 1))),
+
+                // 아웃박스
+                plan(outbox + "findUnpublishedForUpdate", Set.of(OUTBOX_PUBLISHED_INDEX), true,
+                        () -> receivingHistoryOutboxRepository.findUnpublishedForUpdate(100)),
+                plan(outbox + "markPublished", Set.of(PRIMARY), false,
+                        () -> receivingHistoryOutboxRepository.markPublished(List.of(FIRST_ID, FIRST_ID + 20), BASE_TIME)),
+                plan(outbox + "findOldestUnpublishedCreatedAt", Set.of(OUTBOX_PUBLISHED_INDEX), false,
+                        () -> receivingHistoryOutboxRepository.findOldestUnpublishedCreatedAt()),
+                plan(outbox + "deletePublishedBefore", Set.of(OUTBOX_PUBLISHED_INDEX), false,
+                        () -> receivingHistoryOutboxRepository.deletePublishedBefore(BASE_TIME.plusMinutes(100), 500)),
+
+                // 일별 집계
+                // 한 행 INSERT 는 읽는 테이블이 없으므로 (INSERT 행 제외) 전체 스캔이 없는지만 확인
+                plan(rollup + "upsert", Set.of(), false,
+                        () -> receivingHistoryDailyRollupRepository.upsert(ROLLUP_MEMBER_ID, ROLLUP_PART_ID, BASE_DAY, "RECEIVING", 1, 1)),
+                plan(rollup + "findByMemberIdAndPartIdAndDayBetweenOrderByDayAsc", Set.of(PRIMARY), true,
+                        () -> receivingHistoryDailyRollupRepository.findByMemberIdAndPartIdAndDayBetweenOrderByDayAsc(
+                                ROLLUP_MEMBER_ID, ROLLUP_PART_ID, BASE_DAY, BASE_DAY.plusDays(6))),
+                plan(rollup + "findByMemberIdAndDayBetweenOrderByDayAscPartIdAsc", Set.of(ROLLUP_MEMBER_DAY_INDEX), true,
+                        () -> receivingHistoryDailyRollupRepository.findByMemberIdAndDayBetweenOrderByDayAscPartIdAsc(
+                                ROLLUP_MEMBER_ID, BASE_DAY, BASE_DAY.plusDays(6))),
+                plan(rollup + "findByPartIdAndDayBetweenOrderByDayAscMemberIdAsc", Set.of(ROLLUP_PART_DAY_INDEX), true,
+                        () -> receivingHistoryDailyRollupRepository.findByPartIdAndDayBetweenOrderByDayAscMemberIdAsc(
+                                ROLLUP_PART_ID, BASE_DAY, BASE_DAY.plusDays(6))),
+                plan(rollup + "deleteByDay", Set.of(ROLLUP_DAY_INDEX), false,
+                        () -> receivingHistoryDailyRollupRepository.deleteByDay(BASE_DAY.plusDays(9))),
+                // 하루치 히스토리를 created_at 인덱스 범위로 읽고 아이템은 히스토리 ID 인덱스로 조인 (GROUP BY 정렬은 허용)
+                plan(rollup + "insertFromHistory", Set.of(CREATED_INDEX, ITEM_HISTORY_INDEX), false,
+                        () -> receivingHistoryDailyRollupRepository.insertFromHistory(ONE_DAY.getFrom().toLocalDate(), ONE_DAY.getFrom(), ONE_DAY.getTo()))
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> histories = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < HISTORY_COUNT; i++) {
+            long id = FIRST_ID + i;
+            Timestamp createdAt = Timestamp.valueOf(createdAt(i));
+            histories.add(new Object[]{id, (long) (i % MEMBER_COUNT) + 1, "QP-" + (i % ORDER_COUNT), createdAt});
+            for (int j = 0; j < 2; j++) {
+                // 스냅샷이 없는 아이템은 백필 전까지 남은 소수만 존재
+                Timestamp snapshotAt = (j == 0 && i % 500 == 0) ? null : createdAt;
+                items.add(new Object[]{id * 2 + j, id, createdAt, (long) j + 1, snapshotAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO receiving_history (id, member_id, order_number, message, status, type, created_at, updated_at) " +
+                "VALUES (?, ?, ?, '입고 처리', 'RECEIVED', 'RECEIVING', ?, NULL)", histories);
+        jdbcTemplate.batchUpdate("INSERT INTO receiving_history_item (id, history_id, history_created_at, part_id, quantity, part_snapshot_at, created_at) " +
+                "VALUES (?, ?, ?, ?, 1, ?, ?)", items);
+
+        List<Object[]> outbox = new ArrayList<>();
+        for (int i = 0; i < OUTBOX_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusMinutes(i));
+            outbox.add(new Object[]{FIRST_ID + i, i % 20 == 0 ? null : createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO receiving_history_outbox (id, event_type, payload, published_at, created_at) " +
+                "VALUES (?, 'SUCCESS', '{}', ?, ?)", outbox);
+
+        List<Object[]> rollups = new ArrayList<>();
+        for (int member = 0; member < ROLLUP_MEMBER_COUNT; member++) {
+            for (int part = 0; part < ROLLUP_PART_COUNT; part++) {
+                for (int day = 0; day < ROLLUP_DAY_COUNT; day++) {
+                    rollups.add(new Object[]{FIRST_ID + member, (long) part + 1, Date.valueOf(BASE_DAY.plusDays(day))});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO receiving_history_daily_rollup (member_id, part_id, day, type, total_quantity, item_count) " +
+                "VALUES (?, ?, ?, 'RECEIVING', 1, 1)", rollups);
+
+        jdbcTemplate.execute("ANALYZE TABLE receiving_history, receiving_history_item, receiving_history_outbox, receiving_history_daily_rollup");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM receiving_history_daily_rollup WHERE member_id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM receiving_history_outbox WHERE id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM receiving_history_item WHERE history_id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM receiving_history WHERE id >= ?", FIRST_ID);
+    }
+
+    @TestFactory
+    @DisplayName("리포지토리 쿼리마다 Hibernate 가 생성한 SQL 이 전용 인덱스를 사용하고 전체 스캔하지 않는다")
+    Stream<DynamicTest> everyRepositoryQueryUsesItsIndex() {
+        return plans().stream().map(plan -> DynamicTest.dynamicTest(plan.method(), () -> assertPlan(plan)));
+    }
+
+    @Test
+    @DisplayName("실행 계획 검증이 없는 리포지토리 쿼리 메서드가 없다")
+    void everyRepositoryQueryHasPlanAssertion() throws Exception {
+        Set<String> declared = declaredRepositoryMethods();
+        Set<String> covered = new TreeSet<>(EXEMPT.keySet());
+        plans().forEach(plan -> covered.add(plan.method()));
+
+        Set<String> missing = new TreeSet<>(declared);
+        missing.removeAll(covered);
+        Set<String> stale = new TreeSet<>(covered);
+        stale.removeAll(declared);
+
+        assertThat(missing).as("실행 계획 검증이 없는 리포지토리 메서드").isEmpty();
+        assertThat(stale).as("리포지토리에 없는 메서드의 실행 계획 검증").isEmpty();
+    }
+
+    // 메서드를 롤백되는 트랜잭션에서 호출하며 보낸 SQL 을 기록하고, 히스토리 테이블을 읽는 SQL 마다 EXPLAIN
+    private void assertPlan(Plan plan) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> statements = CapturingQueryInterceptor.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            plan.query().run();
+            status.setRollbackOnly();
+        })).stream().filter(sql -> sql.contains("receiving_history")).toList();
+        assertThat(statements).as("%s 실행 SQL", plan.method()).isNotEmpty();
+
+        Set<Object> usedIndexes = new HashSet<>();
+        for (String sql : statements) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            for (Map<String, Object> row : rows) {
+                // INSERT 대상 테이블 행과 테이블 접근이 없는 행(Select tables optimized away 등)은 접근 방식이 없음
+                if ("INSERT".equals(row.get("select_type")) || row.get("table") == null) {
+                    continue;
+                }
+                assertThat(row.get("type")).as("%s 접근 방식 - %s", plan.method(), sql).isNotEqualTo("ALL");
+                if (plan.ordered()) {
+                    assertThat(String.valueOf(row.get("Extra"))).as("%s 정렬 - %s", plan.method(), sql).doesNotContain("Using filesort");
+                }
+                usedIndexes.add(row.get("key"));
+            }
+        }
+        assertThat(usedIndexes).as("%s 사용 인덱스 - %s", plan.method(), statements).containsAll(plan.indexes());
+    }
+
+    // 애플리케이션 패키지의 Spring Data 리포지토리 인터페이스가 직접 선언한 쿼리 메서드 (상속한 JpaRepository 메서드는 기본 키 조회)
+    private Set<String> declaredRepositoryMethods() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<String> methods = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.stockmate.information")) {
+            Class<?> repository = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    methods.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        assertThat(methods).as("검사할 리포지토리 메서드").isNotEmpty();
+        return methods;
+    }
+
+    private static LocalDateTime createdAt(int index) {
+        return BASE_TIME.plusMinutes(index * 10L);
+    }
+}
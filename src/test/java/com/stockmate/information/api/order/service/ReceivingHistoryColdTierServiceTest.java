@@ -0,0 +1,230 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.archive.ArchivedHistory;
+import com.stockmate.information.api.order.archive.HistorySegmentWriter;
+import com.stockmate.information.api.order.dto.ReceivingHistoryCursor;
+import com.stockmate.information.api.order.dto.ReceivingHistoryDateRange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 행 그룹에 걸친 세그먼트에서 가맹점/주문 조회의 건수, 페이지, 커서 결과가 전체 행을 걸러 정렬한 결과와 같은지 검증합니다.
+ * DB 파티션 삭제 전의 대기 세그먼트는 조회되지 않고, 파티션이 삭제된 뒤에만 게시되는지도 검증합니다.
+ */
+class ReceivingHistoryColdTierServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+    private static final long OTHER_MEMBER_ID = 8L;
+    private static final String ORDER_NUMBER = "SO-7-3";
+
+    private static final Comparator<ArchivedHistory> SEGMENT_ORDER = Comparator.comparing(ArchivedHistory::getMemberId)
+            .thenComparing(ArchivedHistory::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ArchivedHistory::getId, Comparator.reverseOrder());
+    private static final Comparator<ArchivedHistory> NEWEST_FIRST =
+            Comparator.comparing(ArchivedHistory::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(ArchivedHistory::getId, Comparator.reverseOrder());
+
+    @TempDir
+    Path directory;
+
+    private final List<ArchivedHistory> archived = new ArrayList<>();
+    private final ReceivingHistoryPartitionService receivingHistoryPartitionService = mock(ReceivingHistoryPartitionService.class);
+    private final ReceivingHistoryCountService receivingHistoryCountService = mock(ReceivingHistoryCountService.class);
+    private final JdbcTemplate session = mock(JdbcTemplate.class);
+    private ReceivingHistoryColdTierService receivingHistoryColdTierService;
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writeSegment(YearMonth.of(2024, 2), 1500);
+        writeSegment(YearMonth.of(2024, 3), 2600);
+
+        receivingHistoryColdTierService = new ReceivingHistoryColdTierService(receivingHistoryPartitionService,
+                mock(ReceivingHistoryItemSnapshotService.class), receivingHistoryCountService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(receivingHistoryColdTierService, "enabled", true);
+        ReflectionTestUtils.setField(receivingHistoryColdTierService, "directory", directory.toString());
+        ReflectionTestUtils.setField(receivingHistoryColdTierService, "cacheMaxBytes", 64L * 1024 * 1024);
+        receivingHistoryColdTierService.initColdTier();
+    }
+
+    @Test
+    @DisplayName("가맹점 조회는 기간 조건과 관계없이 전체 행을 걸러 정렬한 결과와 같다")
+    void memberQueryMatchesFilteredRows() {
+        for (ReceivingHistoryDateRange range : List.of(
+                ReceivingHistoryDateRange.all(),
+                ReceivingHistoryDateRange.of(LocalDate.of(2024, 2, 20), LocalDate.of(2024, 3, 9)),
+                ReceivingHistoryDateRange.of(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 5)),
+                ReceivingHistoryDateRange.of(LocalDate.of(2025, 1, 1), null))) {
+            List<ArchivedHistory> expected = expected(history -> history.getMemberId() == MEMBER_ID, range);
+            ReceivingHistoryColdTierService.Query query = receivingHistoryColdTierService.byMemberId(MEMBER_ID, range);
+
+            assertThat(query.count()).as(range.toKey()).isEqualTo(expected.size());
+            assertPagesMatch(query, expected);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 조회는 주문 색인의 후보 행만 읽어 전체 행을 걸러 정렬한 결과와 같다")
+    void orderQueryMatchesFilteredRows() {
+        for (ReceivingHistoryDateRange range : List.of(
+                ReceivingHistoryDateRange.all(),
+                ReceivingHistoryDateRange.of(LocalDate.of(2024, 3, 1), null))) {
+            List<ArchivedHistory> expected = expected(history -> ORDER_NUMBER.equals(history.getOrderNumber()), range);
+            ReceivingHistoryColdTierService.Query query = receivingHistoryColdTierService.byOrderNumber(ORDER_NUMBER, range);
+
+            assertThat(expected).isNotEmpty();
+            assertThat(query.count()).as(range.toKey()).isEqualTo(expected.size());
+            assertPagesMatch(query, expected);
+        }
+        assertThat(receivingHistoryColdTierService.byOrderNumber("SO-NONE", ReceivingHistoryDateRange.all()).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 세그먼트는 조회되지 않고, 히스토리 파티션이 삭제된 뒤 남은 아이템 파티션을 지우고 게시하면 조회되며 가맹점별 건수를 버린다")
+    void pendingSegmentIsServedOnlyAfterPartitionDrop() throws Exception {
+        YearMonth month = YearMonth.of(2024, 1);
+        List<ArchivedHistory> rows = rows(month, 120);
+        Path pending = directory.resolve("receiving-history-202401.seg.pending");
+        write(pending, month, rows);
+        long before = countAll();
+
+        receivingHistoryColdTierService.refreshSegments();
+        assertThat(countAll()).isEqualTo(before);
+
+        clearInvocations(receivingHistoryCountService);
+        when(receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history"))
+                .thenReturn(List.of(YearMonth.of(2024, 4)));
+        when(receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history_item"))
+                .thenReturn(List.of(month, YearMonth.of(2024, 4)));
+        receivingHistoryColdTierService.publishPendingSegments(session);
+        receivingHistoryColdTierService.refreshSegments();
+
+        verify(session).execute("ALTER TABLE receiving_history_item DROP PARTITION p202401");
+        verify(receivingHistoryCountService).invalidateMemberCounts(List.of(MEMBER_ID, OTHER_MEMBER_ID));
+        assertThat(pending).doesNotExist();
+        assertThat(directory.resolve("receiving-history-202401.seg")).exists();
+        assertThat(countAll()).isEqualTo(before + rows.stream().filter(row -> row.getMemberId() == MEMBER_ID).count());
+    }
+
+    @Test
+    @DisplayName("히스토리 파티션이 남아 있는 월의 대기 세그먼트는 게시하지 않고 지운다")
+    void pendingSegmentOfHotMonthIsDeleted() throws Exception {
+        YearMonth month = YearMonth.of(2024, 1);
+        Path pending = directory.resolve("receiving-history-202401.seg.pending");
+        write(pending, month, rows(month, 10));
+        when(receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history"))
+                .thenReturn(List.of(month, YearMonth.of(2024, 4)));
+        when(receivingHistoryPartitionService.findMonthlyPartitions(session, "receiving_history_item"))
+                .thenReturn(List.of(month, YearMonth.of(2024, 4)));
+
+        receivingHistoryColdTierService.publishPendingSegments(session);
+
+        verify(session, never()).execute(anyString());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).noneMatch(file -> file.getFileName().toString().startsWith("receiving-history-202401"));
+        }
+    }
+
+    private long countAll() {
+        return receivingHistoryColdTierService.byMemberId(MEMBER_ID, ReceivingHistoryDateRange.all()).count();
+    }
+
+    private void assertPagesMatch(ReceivingHistoryColdTierService.Query query, List<ArchivedHistory> expected) {
+        int size = 37;
+        for (int offset = 0; offset < expected.size() + size; offset += 5 * size) {
+            assertThat(ids(query.page(offset, size)))
+                    .isEqualTo(ids(expected.subList(Math.min(offset, expected.size()), Math.min(offset + size, expected.size()))));
+        }
+
+        List<ArchivedHistory> walked = new ArrayList<>();
+        ReceivingHistoryCursor cursor = null;
+        while (true) {
+            List<ArchivedHistory> page = query.after(cursor, size);
+            walked.addAll(page);
+            if (page.size() < size) {
+                break;
+            }
+            ArchivedHistory last = page.get(page.size() - 1);
+            cursor = ReceivingHistoryCursor.of(last.getCreatedAt(), last.getId());
+        }
+        assertThat(ids(walked)).isEqualTo(ids(expected));
+    }
+
+    private List<ArchivedHistory> expected(Predicate<ArchivedHistory> condition, ReceivingHistoryDateRange range) {
+        return archived.stream()
+                .filter(condition)
+                .filter(history -> !history.getCreatedAt().isBefore(range.getFrom()) && history.getCreatedAt().isBefore(range.getTo()))
+                .sorted(NEWEST_FIRST)
+                .toList();
+    }
+
+    private static List<Long> ids(List<ArchivedHistory> histories) {
+        return histories.stream().map(ArchivedHistory::getId).toList();
+    }
+
+    // 가맹점 7 은 여러 행 그룹에 걸치고 같은 생성 시각의 행을 포함하며, 가맹점 8 은 다른 주문 번호만 가짐
+    private void writeSegment(YearMonth month, int memberRows) throws Exception {
+        List<ArchivedHistory> rows = rows(month, memberRows);
+        archived.addAll(rows);
+        write(directory.resolve("receiving-history-" + month.toString().replace("-", "") + ".seg"), month, rows);
+    }
+
+    private List<ArchivedHistory> rows(YearMonth month, int memberRows) {
+        List<ArchivedHistory> rows = new ArrayList<>();
+        for (int i = 0; i < memberRows; i++) {
+            rows.add(history(MEMBER_ID, month.atDay(1).atStartOfDay().plusMinutes((i / 2) * 15L), "SO-7-" + (i % 40)));
+        }
+        for (int i = 0; i < 300; i++) {
+            rows.add(history(OTHER_MEMBER_ID, month.atDay(1).atStartOfDay().plusMinutes(i * 7L), "SO-8-" + i));
+        }
+        rows.sort(SEGMENT_ORDER);
+        return rows;
+    }
+
+    private void write(Path target, YearMonth month, List<ArchivedHistory> rows) throws Exception {
+        try (HistorySegmentWriter writer = HistorySegmentWriter.create(target, month)) {
+            for (ArchivedHistory row : rows) {
+                writer.append(row);
+            }
+            writer.finish();
+        }
+    }
+
+    private ArchivedHistory history(long memberId, LocalDateTime createdAt, String orderNumber) {
+        return ArchivedHistory.builder()
+                .id(nextId++)
+                .memberId(memberId)
+                .orderNumber(orderNumber)
+                .message("입고 처리")
+                .status("RECEIVED")
+                .type("RECEIVING")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .items(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 가맹점별 건수가 갱신 주기가 지나면 기존 값으로 응답하면서 백그라운드에서 다시 계산되고,
+ * 처음 계산 중이거나 다시 계산 중에 반영된 증가분을 잃지 않는지 검증합니다.
+ */
+class ReceivingHistoryCountServiceTest {
+
+    private static final long MEMBER_ID = 7L;
+
+    private final ReceivingOrderHistoryRepository receivingOrderHistoryRepository = mock(ReceivingOrderHistoryRepository.class);
+    private ReceivingHistoryCountService receivingHistoryCountService;
+
+    private void init(Duration refreshInterval) {
+        receivingHistoryCountService = new ReceivingHistoryCountService(receivingOrderHistoryRepository);
+        ReflectionTestUtils.setField(receivingHistoryCountService, "refreshInterval", refreshInterval);
+        ReflectionTestUtils.setField(receivingHistoryCountService, "memberCacheSize", 100L);
+        ReflectionTestUtils.setField(receivingHistoryCountService, "refreshThreads", 2);
+        receivingHistoryCountService.initMemberCounts();
+    }
+
+    @AfterEach
+    void tearDown() {
+        receivingHistoryCountService.shutdownCountExecutor();
+    }
+
+    @Test
+    @DisplayName("처음 계산하는 중에 반영된 증가분은 계산이 끝난 건수에 더해진다")
+    void incrementDuringFirstLoadIsKept() {
+        init(Duration.ofMinutes(5));
+        given(receivingOrderHistoryRepository.countByMemberId(MEMBER_ID)).willAnswer(invocation -> {
+            Thread.sleep(50); // 계산 중인 항목이 캐시에 등록된 뒤
+            receivingHistoryCountService.increment(MEMBER_ID); // COUNT 이후 커밋된 등록
+            return 10L;
+        });
+
+        receivingHistoryCountService.getMemberCount(MEMBER_ID);
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(11L));
+        verify(receivingOrderHistoryRepository, times(1)).countByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 건수는 다시 계산이 끝날 때까지 기존 값으로 바로 응답한다")
+    void staleCountIsServedWhileReloading() throws Exception {
+        init(Duration.ofMillis(1));
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        given(receivingOrderHistoryRepository.countByMemberId(MEMBER_ID))
+                .willReturn(10L)
+                .willAnswer(invocation -> {
+                    reloadStarted.countDown();
+                    releaseReload.await(5, TimeUnit.SECONDS);
+                    return 12L;
+                })
+                .willThrow(new IllegalStateException("DB 응답 없음")); // 이후 갱신은 실패하여 기존 값 유지
+
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(10L);
+        Thread.sleep(5);
+
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(10L);
+        assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(10L);
+
+        releaseReload.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(12L));
+    }
+
+    @Test
+    @DisplayName("다시 계산하는 중에 반영된 증가분은 새로 계산된 건수에 이어진다")
+    void incrementDuringReloadIsKept() throws Exception {
+        init(Duration.ofMillis(1));
+        given(receivingOrderHistoryRepository.countByMemberId(MEMBER_ID))
+                .willReturn(10L)
+                .willAnswer(invocation -> {
+                    receivingHistoryCountService.increment(MEMBER_ID); // COUNT 이후 커밋된 등록
+                    return 12L; // 다른 인스턴스에서 등록된 2건 포함
+                })
+                .willThrow(new IllegalStateException("DB 응답 없음"));
+
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(10L);
+        Thread.sleep(5);
+        receivingHistoryCountService.getMemberCount(MEMBER_ID);
+
+        verify(receivingOrderHistoryRepository, timeout(5000).times(2)).countByMemberId(MEMBER_ID);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(13L));
+    }
+
+    @Test
+    @DisplayName("무효화한 가맹점은 다음 조회에서 새로 계산한다")
+    void invalidatedCountIsReloaded() {
+        init(Duration.ofMinutes(5));
+        given(receivingOrderHistoryRepository.countByMemberId(MEMBER_ID)).willReturn(10L, 4L);
+
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(10L);
+        receivingHistoryCountService.invalidateMemberCounts(List.of(MEMBER_ID));
+
+        assertThat(receivingHistoryCountService.getMemberCount(MEMBER_ID)).isEqualTo(4L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
+import com.stockmate.information.api.order.entity.ReceivingOrderHistory;
+import com.stockmate.information.api.order.repository.ReceivingHistoryDailyRollupRepository;
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReceivingHistoryRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private ReceivingHistoryDailyRollupRepository receivingHistoryDailyRollupRepository;
+
+    @Mock
+    private ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ReceivingHistoryJobLock receivingHistoryJobLock;
+
+    private ReceivingHistoryRollupService receivingHistoryRollupService;
+
+    @BeforeEach
+    void setUp() {
+        receivingHistoryRollupService = new ReceivingHistoryRollupService(receivingHistoryDailyRollupRepository,
+                receivingOrderHistoryRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                jdbcTemplate, receivingHistoryJobLock);
+        ReflectionTestUtils.setField(receivingHistoryRollupService, "rebuildDays", 7);
+        ReflectionTestUtils.setField(receivingHistoryRollupService, "seedEnabled", true);
+        ReflectionTestUtils.setField(receivingHistoryRollupService, "seedDaysPerRun", 3);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 히스토리 이전 날짜는 집계를 지우지 않고 건너뛴다")
+    void skipsDaysBeforeOldestHistory() {
+        given(receivingOrderHistoryRepository.findOldestCreatedAt()).willReturn(DAY.atTime(9, 30));
+        given(receivingHistoryDailyRollupRepository.insertFromHistory(any(), any(), any())).willReturn(2);
+
+        int rebuilt = receivingHistoryRollupService.rebuild(DAY.minusDays(3), DAY.plusDays(1));
+
+        assertThat(rebuilt).isEqualTo(4);
+        verify(receivingHistoryDailyRollupRepository, never()).deleteByDay(DAY.minusDays(1));
+        verify(receivingHistoryDailyRollupRepository).deleteByDay(DAY);
+        verify(receivingHistoryDailyRollupRepository).insertFromHistory(DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        verify(receivingHistoryDailyRollupRepository).deleteByDay(DAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("원본 히스토리가 없거나 기간 전체가 콜드 티어이면 재계산하지 않는다")
+    void skipsWhenNoHotHistory() {
+        given(receivingOrderHistoryRepository.findOldestCreatedAt()).willReturn(null, DAY.atStartOfDay());
+
+        assertThat(receivingHistoryRollupService.rebuild(DAY.minusDays(3), DAY)).isZero();
+        assertThat(receivingHistoryRollupService.rebuild(DAY.minusDays(3), DAY.minusDays(1))).isZero();
+
+        verify(receivingHistoryDailyRollupRepository, never()).deleteByDay(any());
+        verify(receivingHistoryDailyRollupRepository, never()).insertFromHistory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("초기 적재는 저장된 위치 다음 날부터 하루씩 채우고 어제까지 채우면 완료로 기록한다")
+    void seedsOneDayPerTransactionFromSavedPosition() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        given(receivingHistoryJobLock.runExclusively(eq("rollup_seed"), any())).willAnswer(invocation -> {
+            invocation.<Consumer<JdbcTemplate>>getArgument(1).accept(jdbcTemplate);
+            return true;
+        });
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("rollup_seed")))
+                .willReturn(List.of(yesterday.minusDays(5).toEpochDay()), List.of(yesterday.minusDays(2).toEpochDay()));
+
+        receivingHistoryRollupService.seed();
+
+        InOrder firstRun = inOrder(receivingHistoryDailyRollupRepository, jdbcTemplate);
+        for (LocalDate day = yesterday.minusDays(4); !day.isAfter(yesterday.minusDays(2)); day = day.plusDays(1)) {
+            firstRun.verify(receivingHistoryDailyRollupRepository).deleteByDay(day);
+            firstRun.verify(receivingHistoryDailyRollupRepository).insertFromHistory(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+            firstRun.verify(jdbcTemplate).update(anyString(), eq("rollup_seed"), eq(day.toEpochDay()));
+        }
+        verify(jdbcTemplate, never()).update(anyString(), eq("rollup_seed"), eq(Long.MAX_VALUE));
+
+        receivingHistoryRollupService.seed();
+
+        verify(receivingHistoryDailyRollupRepository).deleteByDay(yesterday.minusDays(1));
+        verify(receivingHistoryDailyRollupRepository).deleteByDay(yesterday);
+        verify(receivingHistoryDailyRollupRepository, never()).deleteByDay(yesterday.plusDays(1));
+        verify(jdbcTemplate).update(anyString(), eq("rollup_seed"), eq(Long.MAX_VALUE));
+        verify(receivingOrderHistoryRepository, never()).findOldestCreatedAt();
+    }
+
+    @Test
+    @DisplayName("집계 증가는 등록 순서와 관계없이 키 순서대로 갱신한다")
+    void upsertsInKeyOrder() {
+        LocalDateTime createdAt = DAY.atTime(10, 0);
+        receivingHistoryRollupService.apply(List.of(
+                history(2L, "RELEASE", createdAt, 5L, 1L),
+                history(1L, "RECEIVING", createdAt, 3L),
+                history(1L, "RECEIVING", createdAt, 3L)));
+
+        InOrder order = inOrder(receivingHistoryDailyRollupRepository);
+        order.verify(receivingHistoryDailyRollupRepository).upsert(1L, 3L, DAY, "RECEIVING", 2L, 2L);
+        order.verify(receivingHistoryDailyRollupRepository).upsert(2L, 1L, DAY, "RELEASE", 1L, 1L);
+        order.verify(receivingHistoryDailyRollupRepository).upsert(2L, 5L, DAY, "RELEASE", 1L, 1L);
+    }
+
+    private static ReceivingOrderHistory history(Long memberId, String type, LocalDateTime createdAt, Long... partIds) {
+        ReceivingOrderHistory history = ReceivingOrderHistory.builder()
+                .memberId(memberId)
+                .type(type)
+                .items(new ArrayList<>())
+                .build();
+        ReflectionTestUtils.setField(history, "createdAt", createdAt);
+        for (Long partId : partIds) {
+            history.getItems().add(ReceivingHistoryItem.builder().history(history).partId(partId).quantity(1).build());
+        }
+        return history;
+    }
+}
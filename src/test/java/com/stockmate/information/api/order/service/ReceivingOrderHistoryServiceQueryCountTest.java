@@ -0,0 +1,151 @@
+package com.stockmate.information.api.order.service;
+
+import com.stockmate.information.api.order.dto.LookupResultDTO;
+import com.stockmate.information.api.order.dto.ReceivingHistoryListResponseDTO;
+import com.stockmate.information.api.order.entity.ReceivingHistoryItem;
+import com.stockmate.information.api.order.entity.ReceivingOrderHistory;
+import com.stockmate.information.api.order.repository.ReceivingOrderHistoryRepository;
+import com.stockmate.information.support.MySqlContainerSupport;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 목록 조회가 페이지 크기와 관계없이 고정된 수의 SQL 문으로 실행되는지 검증합니다. (N+1 회귀 방지)
+ * 한 페이지는 ID 슬라이스 1회 + 히스토리 행 1회 + 아이템 행 1회로 조회합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReceivingOrderHistoryService.class)
+class ReceivingOrderHistoryServiceQueryCountTest extends MySqlContainerSupport {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String ORDER_NUMBER = "SO-20250101-0001";
+    private static final int HISTORY_COUNT = 30;
+    private static final int ITEMS_PER_HISTORY = 3;
+
+    @Autowired
+    private ReceivingOrderHistoryService receivingOrderHistoryService;
+
+    @Autowired
+    private ReceivingOrderHistoryRepository receivingOrderHistoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PartsApiService partsApiService;
+
+    @MockitoBean
+    private UserApiService userApiService;
+
+    @MockitoBean
+    private ReceivingHistoryCountService receivingHistoryCountService;
+
+    @MockitoBean
+    private ReceivingHistoryIdempotencyService receivingHistoryIdempotencyService;
+
+    @MockitoBean
+    private ReceivingHistoryItemSnapshotService receivingHistoryItemSnapshotService;
+
+    @MockitoBean
+    private ReceivingHistoryRollupService receivingHistoryRollupService;
+
+    @MockitoBean
+    private ReceivingHistoryColdTierService receivingHistoryColdTierService;
+
+    @MockitoBean
+    private ReceivingHistoryOutboxService receivingHistoryOutboxService;
+
+    @MockitoBean
+    private ReceivingHistoryPartitionKeyBackfillService receivingHistoryPartitionKeyBackfillService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < HISTORY_COUNT; i++) {
+            ReceivingOrderHistory history = ReceivingOrderHistory.builder()
+                    .memberId(MEMBER_ID)
+                    .orderNumber(ORDER_NUMBER)
+                    .message("입고 처리")
+                    .status("RECEIVED")
+                    .type("RECEIVING")
+                    .items(new ArrayList<>())
+                    .build();
+            for (int j = 0; j < ITEMS_PER_HISTORY; j++) {
+                history.getItems().add(ReceivingHistoryItem.builder()
+                        .history(history)
+                        .partId((long) j + 1)
+                        .quantity(j + 1)
+                        .build());
+            }
+            receivingOrderHistoryRepository.save(history);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 콜드 티어는 꺼진 상태로 두고, 외부 서버 조회는 빈 결과로 응답
+        given(receivingHistoryColdTierService.byMemberId(any(), any()))
+                .willReturn(mock(ReceivingHistoryColdTierService.Query.class));
+        given(receivingHistoryColdTierService.byOrderNumber(any(), any()))
+                .willReturn(mock(ReceivingHistoryColdTierService.Query.class));
+        given(partsApiService.getPartDetailsMono(any())).willReturn(Mono.just(LookupResultDTO.empty()));
+        given(userApiService.getUsersByMemberIdsMono(any())).willReturn(Mono.just(LookupResultDTO.empty()));
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("가맹점별 목록은 페이지 크기와 관계없이 3개의 SQL 문으로 조회한다")
+    void memberPageUsesFixedStatementCount(int size) {
+        ReceivingHistoryListResponseDTO response =
+                receivingOrderHistoryService.getReceivingHistoryByMemberId(MEMBER_ID, 0, size, null, null);
+
+        assertThat(response.getContent()).hasSize(size);
+        assertThat(response.getContent()).allSatisfy(history -> assertThat(history.getItems()).hasSize(ITEMS_PER_HISTORY));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("관리자용 전체 목록은 사용자 정보를 포함해도 3개의 SQL 문으로 조회한다")
+    void adminPageUsesFixedStatementCount(int size) {
+        ReceivingHistoryListResponseDTO response =
+                receivingOrderHistoryService.getAllReceivingHistory(0, size, null, null);
+
+        assertThat(response.getContent()).hasSize(size);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @DisplayName("주문별 목록은 건수 조회를 포함해 4개의 SQL 문으로 조회한다")
+    void orderPageUsesFixedStatementCount(int size) {
+        ReceivingHistoryListResponseDTO response =
+                receivingOrderHistoryService.getReceivingHistoryByOrderNumber(ORDER_NUMBER, 0, size, null, null);
+
+        assertThat(response.getContent()).hasSize(size);
+        assertThat(response.getTotalElements()).isEqualTo(HISTORY_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,125 @@
+package com.stockmate.information.api.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 300;
+    private static final int KEY_SPACE = 40;
+
+    @Test
+    @DisplayName("겹치는 ID 를 동시에 조회해도 모든 요청이 요청한 ID 를 전부 받고 진행 중 목록에 남는 ID 가 없다")
+    void coalescesOverlappingConcurrentLoads() throws Exception {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        ConcurrentLinkedQueue<List<Long>> loadedKeyLists = new ConcurrentLinkedQueue<>();
+        Function<List<Long>, Mono<Map<Long, String>>> loader = keys -> {
+            loaderCalls.incrementAndGet();
+            loadedKeyLists.add(keys);
+            return Mono.fromCallable(() -> keys.stream().collect(Collectors.toMap(Function.identity(), key -> "v" + key)))
+                    .delayElement(Duration.ofMillis(1), Schedulers.parallel());
+        };
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>("test", loader, new SimpleMeterRegistry());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> failures = new ArrayList<>();
+                for (int round = 0; round < ROUNDS; round++) {
+                    Set<Long> keys = randomKeys();
+                    Map<Long, String> result = coalescer.load(keys).block(Duration.ofSeconds(5));
+                    if (result == null || !result.keySet().equals(keys)) {
+                        failures.add("요청: " + keys + ", 결과: " + (result == null ? null : result.keySet()));
+                    }
+                }
+                return failures;
+            }));
+        }
+        start.countDown();
+
+        List<String> failures = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            failures.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdownNow();
+
+        assertThat(failures).isEmpty();
+        // 로더에는 확정된 ID 목록만 전달됨
+        assertThat(loadedKeyLists).allSatisfy(keys -> assertThat(keys).isNotEmpty().doesNotHaveDuplicates());
+        awaitNoInFlight(coalescer);
+
+        // 모든 조회가 끝난 뒤에는 남아 있는 진행 중 요청 없이 새로 조회함
+        int callsBefore = loaderCalls.get();
+        Set<Long> allKeys = new LinkedHashSet<>();
+        for (long key = 0; key < KEY_SPACE; key++) {
+            allKeys.add(key);
+        }
+        assertThat(coalescer.load(allKeys).block(Duration.ofSeconds(5))).containsOnlyKeys(allKeys);
+        assertThat(loaderCalls.get()).isEqualTo(callsBefore + 1);
+        awaitNoInFlight(coalescer);
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 진행 중 목록에서 ID 를 제거하여 다음 요청이 다시 조회한다")
+    void releasesKeysWhenLoaderFails() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>("test", keys -> loaderCalls.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("외부 서버 장애"))
+                : Mono.just(keys.stream().collect(Collectors.toMap(Function.identity(), key -> "v" + key))),
+                new SimpleMeterRegistry());
+
+        assertThat(coalescer.load(Set.of(1L, 2L)).onErrorReturn(Map.of()).block()).isEmpty();
+        assertThat(inFlight(coalescer)).isEmpty();
+        assertThat(coalescer.load(Set.of(1L, 2L)).block()).containsOnlyKeys(1L, 2L);
+    }
+
+    private static Set<Long> randomKeys() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int size = random.nextInt(1, 8);
+        Set<Long> keys = new LinkedHashSet<>();
+        while (keys.size() < size) {
+            keys.add((long) random.nextInt(KEY_SPACE));
+        }
+        return keys;
+    }
+
+    private static Map<?, ?> inFlight(RequestCoalescer<?, ?> coalescer) {
+        return (Map<?, ?>) ReflectionTestUtils.getField(coalescer, "inFlight");
+    }
+
+    // 진행 중 목록 정리는 결과 전달 직후 로더 스레드에서 실행되므로 잠시 기다림
+    private static void awaitNoInFlight(RequestCoalescer<?, ?> coalescer) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!inFlight(coalescer).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inFlight(coalescer)).isEmpty();
+    }
+}
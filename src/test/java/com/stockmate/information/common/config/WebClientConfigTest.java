@@ -0,0 +1,99 @@
+package com.stockmate.information.common.config;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 풀에서 재사용한 커넥션의 요청에도 응답 본문 읽기 타임아웃이 적용되는지 검증합니다.
+ * 서버는 응답 헤더를 먼저 보내고 본문을 지연시키며, 응답 헤더 타임아웃은 길게 두어 본문 읽기 타임아웃만 동작하도록 합니다.
+ */
+class WebClientConfigTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .handle((request, response) -> {
+                    clientPorts.add(((InetSocketAddress) request.remoteAddress()).getPort());
+                    long delayMillis = Long.parseLong(new QueryStringDecoder(request.uri()).parameters().get("delay").get(0));
+                    return response.sendHeaders()
+                            .then(response.sendString(Mono.just("ok").delayElement(Duration.ofMillis(delayMillis))));
+                })
+                .bindNow();
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxConnections(1); // 모든 요청이 같은 커넥션을 재사용
+        properties.setResponseTimeout(Duration.ofSeconds(10));
+        properties.setReadTimeout(READ_TIMEOUT);
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.partsConnectionProvider(properties);
+        webClient = webClientConfig.partsWebClient(WebClient.builder().baseUrl("http://localhost:" + server.port()),
+                connectionProvider, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션의 두 번째 느린 응답도 본문 읽기 타임아웃으로 실패한다")
+    void appliesReadTimeoutOnReusedConnection() {
+        // 첫 요청은 타임아웃보다 짧게 지연되어 성공하고 커넥션이 풀에 반납됨
+        assertThat(get(READ_TIMEOUT.dividedBy(3))).isEqualTo("ok");
+
+        Throwable error = catchThrowable(() -> get(READ_TIMEOUT.multipliedBy(4)));
+
+        assertThat(clientPorts).hasSize(2);
+        assertThat(clientPorts.get(1)).as("풀의 같은 커넥션 재사용").isEqualTo(clientPorts.get(0));
+        assertThat(error).isNotNull();
+        assertThat(NestedExceptionUtils.getMostSpecificCause(error)).isInstanceOf(ReadTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("본문 읽기 타임아웃은 풀에 반납된 유휴 커넥션을 닫지 않는다")
+    void keepsIdleConnectionAfterResponse() throws InterruptedException {
+        assertThat(get(Duration.ZERO)).isEqualTo("ok");
+        Thread.sleep(READ_TIMEOUT.multipliedBy(2).toMillis());
+        assertThat(get(Duration.ZERO)).isEqualTo("ok");
+
+        assertThat(clientPorts).hasSize(2);
+        assertThat(clientPorts.get(1)).isEqualTo(clientPorts.get(0));
+    }
+
+    private String get(Duration delay) {
+        return webClient.get()
+                .uri("/slow?delay={delay}", delay.toMillis())
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(Duration.ofSeconds(10));
+    }
+}
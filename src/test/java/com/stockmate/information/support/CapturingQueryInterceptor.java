@@ -0,0 +1,71 @@
+package com.stockmate.information.support;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 드라이버가 서버로 보내는 SQL 을 그대로 기록하는 쿼리 인터셉터입니다. (테스트 전용)
+ * 데이터소스 속성 queryInterceptors 로 등록하며, {@link #capture(Runnable)} 를 실행하는 스레드의 SQL 만 기록합니다.
+ * 클라이언트 측 PreparedStatement 는 파라미터 값이 채워진 SQL 을 보내므로 기록한 SQL 을 그대로 EXPLAIN 할 수 있습니다.
+ */
+public class CapturingQueryInterceptor implements QueryInterceptor {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * 작업을 실행하며 보낸 조회/변경 SQL 을 순서대로 반환합니다. (트랜잭션 제어, 세션 변수 설정 등은 제외)
+     */
+    public static List<String> capture(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            String statement = sql.get().trim();
+            String keyword = statement.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            if (List.of("select", "insert", "update", "delete").contains(keyword)) {
+                statements.add(statement);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+                                               ServerSession serverSession) {
+        return null;
+    }
+}
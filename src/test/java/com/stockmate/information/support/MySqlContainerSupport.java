@@ -0,0 +1,25 @@
+package com.stockmate.information.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 운영과 같은 MySQL 에 Flyway 마이그레이션을 적용하여 쿼리를 검증하는 테스트의 공통 부모 클래스.
+ * 컨테이너는 테스트 JVM 에서 한 번만 기동하여 모든 테스트 클래스가 공유합니다.
+ */
+public abstract class MySqlContainerSupport {
+
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    static {
+        MYSQL.start();
+    }
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+}